@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.reporter.MetricsReporter;
+
+/**
+ * Range sharding algorithm advice.
+ */
+public final class RangeShardingAlgorithmAdvice implements InstanceMethodAroundAdvice {
+    
+    private static final String RANGE_ROUTE = "sharding_range_route_total";
+    
+    private static final String RANGE_ROUTE_PRUNED_TARGET = "sharding_range_route_pruned_target_total";
+    
+    static {
+        MetricsReporter.registerCounter(RANGE_ROUTE, new String[] {"algorithm"}, "the shardingsphere range route total of sharding algorithm");
+        MetricsReporter.registerCounter(RANGE_ROUTE_PRUNED_TARGET, new String[] {"algorithm"}, "the shardingsphere pruned target total of range route");
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        Collection<?> availableTargetNames = (Collection<?>) args[0];
+        Collection<?> routedTargetNames = (Collection<?>) result.getResult();
+        if (null == routedTargetNames) {
+            return;
+        }
+        String[] labelValues = {target.getClass().getSimpleName()};
+        MetricsReporter.counterIncrement(RANGE_ROUTE, labelValues);
+        MetricsReporter.counterIncrement(RANGE_ROUTE_PRUNED_TARGET, labelValues, Math.max(availableTargetNames.size() - routedTargetNames.size(), 0));
+    }
+}
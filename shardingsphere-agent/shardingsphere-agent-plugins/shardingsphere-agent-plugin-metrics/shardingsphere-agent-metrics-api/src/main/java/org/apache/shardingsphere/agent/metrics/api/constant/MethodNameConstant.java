@@ -30,6 +30,8 @@ public final class MethodNameConstant {
     
     public static final String SQL_ROUTER = "route";
     
+    public static final String DO_SHARDING = "doSharding";
+    
     public static final String CHANNEL_ACTIVE = "channelActive";
     
     public static final String CHANNEL_READ = "channelRead";
@@ -38,6 +38,16 @@ public final class MetricsPluginDefinitionService extends AbstractPluginDefiniti
     
     private static final String SQL_ROUTER_ENGINE_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.SQLRouteEngineAdvice";
     
+    private static final String[] RANGE_SHARDING_ALGORITHM_ENHANCE_CLASSES = {
+        "org.apache.shardingsphere.sharding.algorithm.sharding.mod.ModShardingAlgorithm",
+        "org.apache.shardingsphere.sharding.algorithm.sharding.mod.HashModShardingAlgorithm",
+        "org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingAlgorithm",
+    };
+    
+    private static final String RANGE_SHARDING_VALUE_CLASS = "org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue";
+    
+    private static final String RANGE_SHARDING_ALGORITHM_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.RangeShardingAlgorithmAdvice";
+    
     private static final String TRANSACTION_ENHANCE_CLASS = "org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.BackendTransactionManager";
     
     private static final String TRANSACTION_ADVICE_CLASS = "org.apache.shardingsphere.agent.metrics.api.advice.TransactionAdvice";
@@ -57,6 +67,12 @@ public final class MetricsPluginDefinitionService extends AbstractPluginDefiniti
                 .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.SQL_ROUTER))
                 .implement(SQL_ROUTER_ENGINE_ADVICE_CLASS)
                 .build();
+        for (String each : RANGE_SHARDING_ALGORITHM_ENHANCE_CLASSES) {
+            defineInterceptor(each)
+                    .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.DO_SHARDING).and(ElementMatchers.takesArgument(1, ElementMatchers.named(RANGE_SHARDING_VALUE_CLASS))))
+                    .implement(RANGE_SHARDING_ALGORITHM_ADVICE_CLASS)
+                    .build();
+        }
         defineInterceptor(TRANSACTION_ENHANCE_CLASS)
                 .aroundInstanceMethod(ElementMatchers.named(MethodNameConstant.COMMIT).or(ElementMatchers.named(MethodNameConstant.ROLL_BACK)))
                 .implement(TRANSACTION_ADVICE_CLASS)
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.util.ReflectiveUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class RangeShardingAlgorithmAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final RangeShardingAlgorithmAdvice rangeShardingAlgorithmAdvice = new RangeShardingAlgorithmAdvice();
+    
+    @Mock
+    private Method doSharding;
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    public void assertAfterMethod() {
+        MethodInvocationResult result = new MethodInvocationResult();
+        result.rebase(Collections.singletonList("t_order_1"));
+        rangeShardingAlgorithmAdvice.afterMethod(new MockAdviceTargetObject(), doSharding, new Object[]{Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3"), null}, result);
+        Map<String, DoubleAdder> doubleAdderMap = (Map<String, DoubleAdder>) ReflectiveUtil.getFieldValue(getFixturemetricsregister(), "COUNTER_MAP");
+        DoubleAdder rangeRouteTotal = doubleAdderMap.get("sharding_range_route_total");
+        assertNotNull(rangeRouteTotal);
+        assertThat(rangeRouteTotal.intValue(), is(1));
+        DoubleAdder prunedTargetTotal = doubleAdderMap.get("sharding_range_route_pruned_target_total");
+        assertNotNull(prunedTargetTotal);
+        assertThat(prunedTargetTotal.intValue(), is(3));
+    }
+}
@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
 
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -32,7 +35,7 @@ public final class MySQLBinaryStatementRegistry {
     
     private static final MySQLBinaryStatementRegistry INSTANCE = new MySQLBinaryStatementRegistry();
     
-    private final ConcurrentMap<String, Integer> statementIdAssigner = new ConcurrentHashMap<>(65535, 1);
+    private final ConcurrentMap<StatementKey, Integer> statementIdAssigner = new ConcurrentHashMap<>(65535, 1);
     
     private final ConcurrentMap<Integer, MySQLBinaryStatement> binaryStatements = new ConcurrentHashMap<>(65535, 1);
     
@@ -50,18 +53,21 @@ public final class MySQLBinaryStatementRegistry {
     /**
      * Register.
      *
+     * @param schemaName schema name
      * @param sql SQL
      * @param parameterCount parameter count
+     * @param sqlStatement SQL statement
      * @return statement ID
      */
-    public synchronized int register(final String sql, final int parameterCount) {
-        Integer result = statementIdAssigner.get(sql);
+    public synchronized int register(final String schemaName, final String sql, final int parameterCount, final SQLStatement sqlStatement) {
+        StatementKey statementKey = new StatementKey(schemaName, sql);
+        Integer result = statementIdAssigner.get(statementKey);
         if (null != result) {
             return result;
         }
         result = sequence.incrementAndGet();
-        statementIdAssigner.putIfAbsent(sql, result);
-        binaryStatements.putIfAbsent(result, new MySQLBinaryStatement(sql, parameterCount));
+        statementIdAssigner.putIfAbsent(statementKey, result);
+        binaryStatements.putIfAbsent(result, new MySQLBinaryStatement(schemaName, sql, parameterCount, sqlStatement));
         return result;
     }
     
@@ -82,8 +88,18 @@ public final class MySQLBinaryStatementRegistry {
      */
     public synchronized void unregister(final int statementId) {
         if (binaryStatements.containsKey(statementId)) {
-            statementIdAssigner.remove(binaryStatements.get(statementId).getSql());
+            MySQLBinaryStatement binaryStatement = binaryStatements.get(statementId);
+            statementIdAssigner.remove(new StatementKey(binaryStatement.getSchemaName(), binaryStatement.getSql()));
             binaryStatements.remove(statementId);
         }
     }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class StatementKey {
+        
+        private final String schemaName;
+        
+        private final String sql;
+    }
 }
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.M
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -61,6 +62,9 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     @Getter
     private final String sql;
     
+    @Getter
+    private final SQLStatement sqlStatement;
+    
     @Getter
     private final List<Object> parameters;
     
@@ -72,6 +76,7 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parameterCount = binaryStatement.getParameterCount();
         sql = binaryStatement.getSql();
+        sqlStatement = binaryStatement.getSqlStatement();
         if (parameterCount > 0) {
             nullBitmap = new MySQLNullBitmap(parameterCount, NULL_BITMAP_OFFSET);
             for (int i = 0; i < nullBitmap.getNullBitmap().length; i++) {
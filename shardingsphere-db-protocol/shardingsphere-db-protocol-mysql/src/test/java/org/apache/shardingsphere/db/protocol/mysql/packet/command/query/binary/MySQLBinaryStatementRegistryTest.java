@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary;
 
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -28,8 +30,12 @@ import static org.junit.Assert.assertThat;
 
 public final class MySQLBinaryStatementRegistryTest {
     
+    private final String schemaName = "logic_db";
+    
     private final String sql = "SELECT * FROM tbl WHERE id=?";
     
+    private final MySQLSelectStatement sqlStatement = new MySQLSelectStatement();
+    
     @Before
     @After
     public void reset() {
@@ -38,26 +44,38 @@ public final class MySQLBinaryStatementRegistryTest {
     
     @Test
     public void assertRegisterIfAbsent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(schemaName, sql, 1, sqlStatement), is(1));
         MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1);
+        assertThat(actual.getSchemaName(), is(schemaName));
         assertThat(actual.getSql(), is(sql));
         assertThat(actual.getParameterCount(), is(1));
+        assertThat(actual.getSqlStatement(), is((SQLStatement) sqlStatement));
     }
     
     @Test
     public void assertRegisterIfPresent() {
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        assertThat(MySQLBinaryStatementRegistry.getInstance().register(sql, 1), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(schemaName, sql, 1, sqlStatement), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(schemaName, sql, 1, sqlStatement), is(1));
         MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1);
         assertThat(actual.getSql(), is(sql));
         assertThat(actual.getParameterCount(), is(1));
     }
     
+    @Test
+    public void assertRegisterWithDifferentSchemas() {
+        MySQLSelectStatement otherSQLStatement = new MySQLSelectStatement();
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(schemaName, sql, 1, sqlStatement), is(1));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register("other_db", sql, 1, otherSQLStatement), is(2));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(1).getSqlStatement(), is((SQLStatement) sqlStatement));
+        assertThat(MySQLBinaryStatementRegistry.getInstance().get(2).getSqlStatement(), is((SQLStatement) otherSQLStatement));
+    }
+    
     @Test
     public void assertUnregisterIfPresent() {
-        MySQLBinaryStatementRegistry.getInstance().register(sql, 1);
+        MySQLBinaryStatementRegistry.getInstance().register(schemaName, sql, 1, sqlStatement);
         MySQLBinaryStatementRegistry.getInstance().unregister(1);
         MySQLBinaryStatement actual = MySQLBinaryStatementRegistry.getInstance().get(1);
         assertNull(actual);
+        assertThat(MySQLBinaryStatementRegistry.getInstance().register(schemaName, sql, 1, sqlStatement), is(2));
     }
 }
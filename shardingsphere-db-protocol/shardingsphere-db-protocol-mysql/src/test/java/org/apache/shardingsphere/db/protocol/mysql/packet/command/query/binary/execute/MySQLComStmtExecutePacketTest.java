@@ -20,6 +20,7 @@ package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLBinaryStatementRegistry;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -50,7 +51,7 @@ public final class MySQLComStmtExecutePacketTest {
     
     @Test
     public void assertNewWithNotNullParameters() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
+        MySQLBinaryStatementRegistry.getInstance().register("logic_db", "SELECT id FROM tbl WHERE id=?", 1, new MySQLSelectStatement());
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 0, 1);
         MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
@@ -61,7 +62,7 @@ public final class MySQLComStmtExecutePacketTest {
     
     @Test
     public void assertNewWithNullParameters() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
+        MySQLBinaryStatementRegistry.getInstance().register("logic_db", "SELECT id FROM tbl WHERE id=?", 1, new MySQLSelectStatement());
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 1);
         MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
@@ -72,7 +73,7 @@ public final class MySQLComStmtExecutePacketTest {
     
     @Test
     public void assertWrite() throws SQLException {
-        MySQLBinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
+        MySQLBinaryStatementRegistry.getInstance().register("logic_db", "SELECT id FROM tbl WHERE id=?", 1, new MySQLSelectStatement());
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 1);
         MySQLComStmtExecutePacket actual = new MySQLComStmtExecutePacket(payload);
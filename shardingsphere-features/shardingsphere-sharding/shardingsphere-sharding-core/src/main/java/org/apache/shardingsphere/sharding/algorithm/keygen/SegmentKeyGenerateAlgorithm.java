@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Segment key generate algorithm.
+ * 
+ * <p>
+ * Keys are handed out from a segment of continuous keys in memory. Segments are allocated from an allocation table by increasing max key of segment key in a transaction.
+ * The next segment is allocated asynchronously when remaining keys of current segment is below prefetch percentage, so generating key does not wait for I/O.
+ * Segments are always allocated by the prefetch thread, callers waiting for an exhausted segment do not hold the lock of the generator.
+ * </p>
+ * 
+ * <pre>
+ *     CREATE TABLE key_generator_segment (segment_key VARCHAR(128) PRIMARY KEY, max_id BIGINT NOT NULL)
+ * </pre>
+ */
+public final class SegmentKeyGenerateAlgorithm implements KeyGenerateAlgorithm, AutoCloseable {
+    
+    private static final String JDBC_URL_KEY = "jdbc-url";
+    
+    private static final String USERNAME_KEY = "username";
+    
+    private static final String PASSWORD_KEY = "password";
+    
+    private static final String TABLE_NAME_KEY = "table-name";
+    
+    private static final String SEGMENT_KEY_KEY = "segment-key";
+    
+    private static final String STEP_KEY = "step";
+    
+    private static final String PREFETCH_PERCENTAGE_KEY = "prefetch-percentage";
+    
+    private static final String DEFAULT_TABLE_NAME = "key_generator_segment";
+    
+    private static final String DEFAULT_SEGMENT_KEY = "default";
+    
+    private static final int DEFAULT_STEP = 1000;
+    
+    private static final int DEFAULT_PREFETCH_PERCENTAGE = 20;
+    
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION_SQL_STATE_CLASS = "23";
+    
+    @Getter
+    @Setter
+    private Properties props = new Properties();
+    
+    private String jdbcUrl;
+    
+    private String username;
+    
+    private String password;
+    
+    private String tableName;
+    
+    private String segmentKey;
+    
+    private int step;
+    
+    private long prefetchThreshold;
+    
+    private ExecutorService prefetchExecutor;
+    
+    private volatile Segment currentSegment;
+    
+    private volatile Future<Segment> nextSegment;
+    
+    @Override
+    public void init() {
+        jdbcUrl = props.getProperty(JDBC_URL_KEY);
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(jdbcUrl), "%s can not be null.", JDBC_URL_KEY);
+        username = props.getProperty(USERNAME_KEY, "");
+        password = props.getProperty(PASSWORD_KEY, "");
+        tableName = props.getProperty(TABLE_NAME_KEY, DEFAULT_TABLE_NAME);
+        segmentKey = props.getProperty(SEGMENT_KEY_KEY, DEFAULT_SEGMENT_KEY);
+        step = Integer.parseInt(props.getOrDefault(STEP_KEY, DEFAULT_STEP).toString());
+        Preconditions.checkArgument(step > 0, "Illegal step.");
+        int prefetchPercentage = Integer.parseInt(props.getOrDefault(PREFETCH_PERCENTAGE_KEY, DEFAULT_PREFETCH_PERCENTAGE).toString());
+        Preconditions.checkArgument(prefetchPercentage >= 0 && prefetchPercentage <= 100, "Illegal prefetch percentage.");
+        prefetchThreshold = (long) step * prefetchPercentage / 100;
+        prefetchExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SegmentKeyGenerate-%d").build());
+    }
+    
+    @Override
+    public Comparable<?> generateKey() {
+        while (true) {
+            Segment segment = currentSegment;
+            if (null != segment) {
+                long result = segment.getCursor().getAndIncrement();
+                if (result < segment.getEnd()) {
+                    prefetchIfNecessary(segment, result);
+                    return result;
+                }
+            }
+            switchSegment(segment);
+        }
+    }
+    
+    private void prefetchIfNecessary(final Segment segment, final long key) {
+        if (segment.getEnd() - key <= prefetchThreshold && segment.getPrefetched().compareAndSet(false, true)) {
+            prefetch(segment);
+        }
+    }
+    
+    private synchronized void prefetch(final Segment segment) {
+        if (segment == currentSegment && null == nextSegment && !prefetchExecutor.isShutdown()) {
+            nextSegment = prefetchExecutor.submit(this::allocateSegment);
+        }
+    }
+    
+    private void switchSegment(final Segment exhaustedSegment) {
+        Future<Segment> allocatingSegment = getAllocatingSegment(exhaustedSegment);
+        if (null != allocatingSegment) {
+            installSegment(exhaustedSegment, allocatingSegment, waitSegment(allocatingSegment));
+        }
+    }
+    
+    private synchronized Future<Segment> getAllocatingSegment(final Segment exhaustedSegment) {
+        if (exhaustedSegment != currentSegment) {
+            return null;
+        }
+        Preconditions.checkState(!prefetchExecutor.isShutdown(), "Key segment `%s` can not be allocated after closed.", segmentKey);
+        if (null == nextSegment || isFailed(nextSegment)) {
+            nextSegment = prefetchExecutor.submit(this::allocateSegment);
+        }
+        return nextSegment;
+    }
+    
+    private boolean isFailed(final Future<Segment> segment) {
+        if (!segment.isDone()) {
+            return false;
+        }
+        try {
+            segment.get();
+            return false;
+        } catch (final InterruptedException | ExecutionException ignored) {
+            return true;
+        }
+    }
+    
+    private Segment waitSegment(final Future<Segment> allocatingSegment) {
+        try {
+            return allocatingSegment.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereException("Interrupted while waiting for key segment.", ex);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : new ShardingSphereException(ex);
+        }
+    }
+    
+    private synchronized void installSegment(final Segment exhaustedSegment, final Future<Segment> allocatingSegment, final Segment allocatedSegment) {
+        if (exhaustedSegment == currentSegment && allocatingSegment == nextSegment) {
+            currentSegment = allocatedSegment;
+            nextSegment = null;
+        }
+    }
+    
+    private Segment allocateSegment() {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+            connection.setAutoCommit(false);
+            try {
+                long maxId = increaseMaxId(connection);
+                connection.commit();
+                return new Segment(new AtomicLong(maxId - step + 1), maxId + 1);
+            } catch (final SQLException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        } catch (final SQLException ex) {
+            throw new ShardingSphereException(String.format("Can not allocate key segment `%s` from table `%s`.", segmentKey, tableName), ex);
+        }
+    }
+    
+    private long increaseMaxId(final Connection connection) throws SQLException {
+        while (!updateMaxId(connection)) {
+            try {
+                return insertMaxId(connection);
+            } catch (final SQLException ex) {
+                if (!isDuplicateKey(ex)) {
+                    throw ex;
+                }
+                connection.rollback();
+            }
+        }
+        return queryMaxId(connection);
+    }
+    
+    private boolean updateMaxId(final Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("UPDATE %s SET max_id = max_id + ? WHERE segment_key = ?", tableName))) {
+            preparedStatement.setLong(1, step);
+            preparedStatement.setString(2, segmentKey);
+            return preparedStatement.executeUpdate() > 0;
+        }
+    }
+    
+    private long insertMaxId(final Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (segment_key, max_id) VALUES (?, ?)", tableName))) {
+            preparedStatement.setString(1, segmentKey);
+            preparedStatement.setLong(2, step);
+            preparedStatement.executeUpdate();
+            return step;
+        }
+    }
+    
+    private boolean isDuplicateKey(final SQLException ex) {
+        return ex instanceof SQLIntegrityConstraintViolationException || null != ex.getSQLState() && ex.getSQLState().startsWith(INTEGRITY_CONSTRAINT_VIOLATION_SQL_STATE_CLASS);
+    }
+    
+    private long queryMaxId(final Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("SELECT max_id FROM %s WHERE segment_key = ?", tableName))) {
+            preparedStatement.setString(1, segmentKey);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                Preconditions.checkState(resultSet.next(), "Can not find key segment `%s`.", segmentKey);
+                return resultSet.getLong(1);
+            }
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (null != prefetchExecutor) {
+            prefetchExecutor.shutdownNow();
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "SEGMENT";
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Segment {
+        
+        private final AtomicLong cursor;
+        
+        private final long end;
+        
+        private final AtomicBoolean prefetched = new AtomicBoolean();
+    }
+}
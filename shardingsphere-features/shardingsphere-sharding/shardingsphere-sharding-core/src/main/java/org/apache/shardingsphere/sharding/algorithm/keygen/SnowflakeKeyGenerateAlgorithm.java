@@ -23,8 +23,11 @@ import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake key generate algorithm.
@@ -36,6 +39,12 @@ import java.util.Properties;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>
+ * Milliseconds and sequence of last generated key are packed into one atomic long and updated with CAS, so concurrent threads do not block each other.
+ * The state is read before the clock, so a peer thread moving the state to a later millisecond is not mistaken for clock moving backwards.
+ * A batch of keys in same millisecond can be reserved by one CAS.
+ * </p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm {
     
@@ -78,11 +87,12 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private int maxTolerateTimeDifferenceMilliseconds;
     
-    private int sequenceOffset = -1;
-    
-    private long sequence;
+    private volatile int sequenceOffset = -1;
     
-    private long lastMilliseconds;
+    /**
+     * Last milliseconds shifted left by sequence bits, or last sequence.
+     */
+    private final AtomicLong state = new AtomicLong();
     
     static {
         Calendar calendar = Calendar.getInstance();
@@ -118,25 +128,47 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
-        }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+    public Comparable<?> generateKey() {
+        return generateKeys(new ArrayList<>(1), 1).get(0);
+    }
+    
+    @Override
+    public List<Comparable<?>> generateKeys(final int count) {
+        return generateKeys(new ArrayList<>(count), count);
+    }
+    
+    private List<Comparable<?>> generateKeys(final List<Comparable<?>> result, final int count) {
+        while (result.size() < count) {
+            long lastState = state.get();
+            long lastMilliseconds = lastState >>> SEQUENCE_BITS;
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
+                currentMilliseconds = timeService.getCurrentMillis();
+            }
+            int offset = sequenceOffset;
+            long firstSequence;
+            if (lastMilliseconds == currentMilliseconds) {
+                firstSequence = ((lastState & SEQUENCE_MASK) + 1) & SEQUENCE_MASK;
+                if (0L == firstSequence) {
+                    currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                }
+            } else {
+                offset = vibrateSequenceOffset(offset);
+                firstSequence = offset;
+            }
+            long lastSequence = Math.min(firstSequence + count - result.size() - 1, SEQUENCE_MASK);
+            if (state.compareAndSet(lastState, (currentMilliseconds << SEQUENCE_BITS) | lastSequence)) {
+                sequenceOffset = offset;
+                for (long sequence = firstSequence; sequence <= lastSequence; sequence++) {
+                    result.add(((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence);
+                }
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+        return result;
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
@@ -150,13 +182,14 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     private long waitUntilNextTime(final long lastTime) {
         long result = timeService.getCurrentMillis();
         while (result <= lastTime) {
+            Thread.yield();
             result = timeService.getCurrentMillis();
         }
         return result;
     }
     
-    private void vibrateSequenceOffset() {
-        sequenceOffset = sequenceOffset >= maxVibrationOffset ? 0 : sequenceOffset + 1;
+    private int vibrateSequenceOffset(final int sequenceOffset) {
+        return sequenceOffset >= maxVibrationOffset ? 0 : sequenceOffset + 1;
     }
     
     @Override
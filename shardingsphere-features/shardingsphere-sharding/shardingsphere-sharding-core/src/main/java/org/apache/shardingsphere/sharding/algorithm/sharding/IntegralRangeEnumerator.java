@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Integral range enumerator, which enumerates values of bounded integral range, so that range query can be routed as list of precise values.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IntegralRangeEnumerator {
+    
+    /**
+     * Enumerate values in range.
+     * 
+     * @param valueRange value range
+     * @param maxSpan max count of values to be enumerated, {@code 0} means range should never be enumerated
+     * @return values in ascending order and in same type with range endpoints,
+     *         or empty if range is unbounded, not integral or contains more values than max span
+     */
+    public static Optional<Collection<Comparable<?>>> enumerate(final Range<Comparable<?>> valueRange, final int maxSpan) {
+        if (maxSpan <= 0 || !valueRange.hasLowerBound() || !valueRange.hasUpperBound() || !isIntegral(valueRange.lowerEndpoint(), valueRange.upperEndpoint())) {
+            return Optional.empty();
+        }
+        long lowerEndpoint = ((Number) valueRange.lowerEndpoint()).longValue();
+        long upperEndpoint = ((Number) valueRange.upperEndpoint()).longValue();
+        if (BoundType.OPEN == valueRange.lowerBoundType() && Long.MAX_VALUE == lowerEndpoint || BoundType.OPEN == valueRange.upperBoundType() && Long.MIN_VALUE == upperEndpoint) {
+            return Optional.of(Collections.emptyList());
+        }
+        long lower = BoundType.OPEN == valueRange.lowerBoundType() ? lowerEndpoint + 1 : lowerEndpoint;
+        long upper = BoundType.OPEN == valueRange.upperBoundType() ? upperEndpoint - 1 : upperEndpoint;
+        if (upper < lower) {
+            return Optional.of(Collections.emptyList());
+        }
+        if (Long.compareUnsigned(upper - lower, maxSpan) >= 0) {
+            return Optional.empty();
+        }
+        int count = (int) (upper - lower + 1);
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(cast(lower + i, valueRange.lowerEndpoint()));
+        }
+        return Optional.of(result);
+    }
+    
+    private static boolean isIntegral(final Comparable<?> lowerEndpoint, final Comparable<?> upperEndpoint) {
+        return lowerEndpoint.getClass() == upperEndpoint.getClass()
+                && (lowerEndpoint instanceof Integer || lowerEndpoint instanceof Long || lowerEndpoint instanceof Short || lowerEndpoint instanceof Byte);
+    }
+    
+    private static Comparable<?> cast(final long value, final Comparable<?> endpoint) {
+        if (endpoint instanceof Integer) {
+            return (int) value;
+        }
+        if (endpoint instanceof Short) {
+            return (short) value;
+        }
+        if (endpoint instanceof Byte) {
+            return (byte) value;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Target name suffix matcher, which finds sharding targets whose names end with suffix.
+ * 
+ * <p>
+ * An index from suffixes to target names is built for each collection of available target names, and cached until the collection is garbage collected.
+ * Collections are identified by reference, so collections held by sharding rules are indexed only once.
+ * Small collections and suffixes longer than max suffix length are matched by scanning all target names.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TargetNameSuffixMatcher {
+    
+    private static final int MIN_INDEXED_SIZE = 16;
+    
+    private static final Cache<Collection<String>, SuffixIndex> INDEXES = CacheBuilder.newBuilder().weakKeys().build();
+    
+    /**
+     * Find first target name which ends with suffix.
+     *
+     * @param targetNames available target names
+     * @param suffix suffix of target name
+     * @param maxSuffixLength max length of suffixes to be indexed
+     * @return first matched target name
+     */
+    public static Optional<String> findFirst(final Collection<String> targetNames, final String suffix, final int maxSuffixLength) {
+        if (!isIndexable(targetNames, suffix, maxSuffixLength)) {
+            return targetNames.stream().filter(each -> each.endsWith(suffix)).findFirst();
+        }
+        List<String> result = getSuffixIndex(targetNames, maxSuffixLength).find(suffix);
+        return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
+    }
+    
+    /**
+     * Find all target names which end with suffix.
+     *
+     * @param targetNames available target names
+     * @param suffix suffix of target name
+     * @param maxSuffixLength max length of suffixes to be indexed
+     * @return matched target names in order of available target names
+     */
+    public static Collection<String> findAll(final Collection<String> targetNames, final String suffix, final int maxSuffixLength) {
+        if (!isIndexable(targetNames, suffix, maxSuffixLength)) {
+            return targetNames.stream().filter(each -> each.endsWith(suffix)).collect(Collectors.toList());
+        }
+        return getSuffixIndex(targetNames, maxSuffixLength).find(suffix);
+    }
+    
+    private static boolean isIndexable(final Collection<String> targetNames, final String suffix, final int maxSuffixLength) {
+        return targetNames.size() >= MIN_INDEXED_SIZE && suffix.length() <= maxSuffixLength;
+    }
+    
+    private static SuffixIndex getSuffixIndex(final Collection<String> targetNames, final int maxSuffixLength) {
+        SuffixIndex result = INDEXES.getIfPresent(targetNames);
+        if (null == result || result.size != targetNames.size() || result.maxSuffixLength < maxSuffixLength) {
+            result = new SuffixIndex(targetNames, maxSuffixLength);
+            INDEXES.put(targetNames, result);
+        }
+        return result;
+    }
+    
+    private static final class SuffixIndex {
+        
+        private final int size;
+        
+        private final int maxSuffixLength;
+        
+        private final Map<String, List<String>> targetNames;
+        
+        private SuffixIndex(final Collection<String> targetNames, final int maxSuffixLength) {
+            size = targetNames.size();
+            this.maxSuffixLength = maxSuffixLength;
+            this.targetNames = new HashMap<>(size * (maxSuffixLength + 1), 1);
+            for (String each : targetNames) {
+                for (int i = Math.max(0, each.length() - maxSuffixLength); i <= each.length(); i++) {
+                    this.targetNames.computeIfAbsent(each.substring(i), key -> new LinkedList<>()).add(each);
+                }
+            }
+        }
+        
+        private List<String> find(final String suffix) {
+            List<String> result = targetNames.get(suffix);
+            return null == result ? Collections.emptyList() : Collections.unmodifiableList(result);
+        }
+    }
+}
@@ -18,10 +18,10 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.complex;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.CompiledInlineExpression;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.CompiledInlineExpressionFactory;
 import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
@@ -49,7 +49,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     
     private String[] shardingColumns;
     
-    private String algorithmExpression;
+    private CompiledInlineExpression compiledExpression;
     
     @Getter
     @Setter
@@ -59,7 +59,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     public void init() {
         String expression = props.getProperty(ALGORITHM_EXPRESSION_KEY);
         Preconditions.checkNotNull(expression, "Inline sharding algorithm expression cannot be null.");
-        algorithmExpression = InlineExpressionParser.handlePlaceHolder(expression.trim());
+        compiledExpression = CompiledInlineExpressionFactory.newInstance(InlineExpressionParser.handlePlaceHolder(expression.trim()));
         initShardingColumns(props.getProperty(SHARING_COLUMNS_KEY, ""));
         allowRangeQuery = Boolean.parseBoolean(props.getOrDefault(ALLOW_RANGE_QUERY_KEY, Boolean.FALSE.toString()).toString());
     }
@@ -81,15 +81,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
             throw new IllegalArgumentException("complex inline need " + shardingColumns.length + " sharing columns, but only found " + columnNameAndShardingValuesMap.size());
         }
         Collection<Map<String, Comparable<?>>> combine = combine(columnNameAndShardingValuesMap);
-        return combine.stream().map(this::doSharding).collect(Collectors.toList());
-    }
-    
-    private String doSharding(final Map<String, Comparable<?>> shardingValues) {
-        Closure<?> closure = createClosure();
-        for (Map.Entry<String, Comparable<?>> entry : shardingValues.entrySet()) {
-            closure.setProperty(entry.getKey(), entry.getValue());
-        }
-        return closure.call().toString();
+        return combine.stream().map(compiledExpression::evaluate).collect(Collectors.toList());
     }
     
     private static <K, V> Collection<Map<K, V>> combine(final Map<K, Collection<V>> map) {
@@ -117,12 +109,6 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
         return result;
     }
     
-    private Closure<?> createClosure() {
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
-    }
-    
     @Override
     public String getType() {
         return "COMPLEX_INLINE";
@@ -22,6 +22,7 @@ import com.google.common.collect.Range;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameSuffixMatcher;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -85,12 +86,7 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         String tableNameSuffix = String.valueOf(doSharding(parseDate(shardingValue.getValue())));
-        for (String each : availableTargetNames) {
-            if (each.endsWith(tableNameSuffix)) {
-                return each;
-            }
-        }
-        return null;
+        return TargetNameSuffixMatcher.findFirst(availableTargetNames, tableNameSuffix, getMaxSuffixLength()).orElse(null);
     }
     
     @Override
@@ -98,14 +94,11 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
+        int maxSuffixLength = getMaxSuffixLength();
         for (int i = firstPartition; i <= lastPartition; i++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(String.valueOf(i))) {
-                    result.add(each);
-                }
-                if (result.size() == availableTargetNames.size()) {
-                    return result;
-                }
+            result.addAll(TargetNameSuffixMatcher.findAll(availableTargetNames, String.valueOf(i), maxSuffixLength));
+            if (result.size() == availableTargetNames.size()) {
+                return result;
             }
         }
         return result;
@@ -116,6 +109,10 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
         return Math.min(Math.max(0, (int) Math.ceil(Float.parseFloat(position))), autoTablesAmount - 1);
     }
     
+    private int getMaxSuffixLength() {
+        return String.valueOf(autoTablesAmount - 1).length();
+    }
+    
     private int getFirstPartition(final Range<Comparable<?>> valueRange) {
         return valueRange.hasLowerBound() ? doSharding(parseDate(valueRange.lowerEndpoint())) : 0;
     }
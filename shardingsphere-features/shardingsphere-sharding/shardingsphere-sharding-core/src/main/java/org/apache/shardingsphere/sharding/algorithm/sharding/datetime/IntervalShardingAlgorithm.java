@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameSuffixMatcher;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -33,7 +34,6 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Interval sharding algorithm.
@@ -70,6 +70,8 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private ChronoUnit stepUnit;
     
+    private int maxSuffixLength;
+    
     @Override
     public void init() {
         String dateTimePattern = getDateTimePattern();
@@ -80,6 +82,7 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         tableSuffixPattern = getTableSuffixPattern();
         stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
         stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        maxSuffixLength = Math.max(dateTimeLower.format(tableSuffixPattern).length(), dateTimeUpper.format(tableSuffixPattern).length());
     }
     
     private String getDateTimePattern() {
@@ -121,9 +124,7 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
         String tableNameSuffix = parseDateTime(shardingValue.getValue().toString()).format(tableSuffixPattern);
-        return availableTargetNames.stream()
-                .filter(each -> each.endsWith(tableNameSuffix))
-                .findFirst().orElse(null);
+        return TargetNameSuffixMatcher.findFirst(availableTargetNames, tableNameSuffix, maxSuffixLength).orElse(null);
     }
     
     @Override
@@ -135,10 +136,15 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         }
         LocalDateTime startTime = hasStartTime ? parseDateTime(shardingValue.getValueRange().lowerEndpoint().toString()) : dateTimeLower;
         LocalDateTime endTime = hasEndTime ? parseDateTime(shardingValue.getValueRange().upperEndpoint().toString()) : dateTimeUpper;
+        String endSuffix = endTime.format(tableSuffixPattern);
         LocalDateTime calculateTime = startTime;
         Set<String> result = new HashSet<>();
-        while (!calculateTime.isAfter(endTime) || calculateTime.format(tableSuffixPattern).equals(endTime.format(tableSuffixPattern))) {
-            result.addAll(getMatchedTables(calculateTime, availableTargetNames));
+        while (result.size() < availableTargetNames.size()) {
+            String calculateSuffix = calculateTime.format(tableSuffixPattern);
+            if (calculateTime.isAfter(endTime) && !calculateSuffix.equals(endSuffix)) {
+                break;
+            }
+            result.addAll(TargetNameSuffixMatcher.findAll(availableTargetNames, calculateSuffix, maxSuffixLength));
             calculateTime = calculateTime.plus(stepAmount, stepUnit);
         }
         return result;
@@ -148,11 +154,6 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return LocalDateTime.parse(value.substring(0, dateTimePatternLength), dateTimeFormatter);
     }
     
-    private Collection<String> getMatchedTables(final LocalDateTime dateTime, final Collection<String> availableTargetNames) {
-        String tableSuffix = dateTime.format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-    }
-    
     @Override
     public String getType() {
         return "INTERVAL";
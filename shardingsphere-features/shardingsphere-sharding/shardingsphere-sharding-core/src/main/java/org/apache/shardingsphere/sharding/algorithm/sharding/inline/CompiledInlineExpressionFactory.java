@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Compiled inline expression factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpressionFactory {
+    
+    /**
+     * Create new instance of compiled inline expression.
+     * 
+     * <p>Evaluate natively if possible, otherwise evaluate by groovy.</p>
+     * 
+     * @param inlineExpression inline expression
+     * @return compiled inline expression
+     */
+    public static CompiledInlineExpression newInstance(final String inlineExpression) {
+        CompiledInlineExpression groovyExpression = new GroovyCompiledInlineExpression(inlineExpression);
+        return NativeCompiledInlineExpression.compile(inlineExpression, groovyExpression).orElse(groovyExpression);
+    }
+}
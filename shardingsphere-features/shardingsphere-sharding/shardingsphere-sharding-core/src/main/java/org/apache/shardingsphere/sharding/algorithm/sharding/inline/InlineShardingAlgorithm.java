@@ -18,15 +18,17 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.IntegralRangeEnumerator;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -38,8 +40,14 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private static final String ALLOW_RANGE_QUERY_KEY = "allow-range-query-with-inline-sharding";
     
+    private static final String RANGE_ENUMERATION_MAX_SPAN_KEY = "range-enumeration-max-span";
+    
     private boolean allowRangeQuery;
     
+    private int rangeEnumerationMaxSpan;
+    
+    private CompiledInlineExpression compiledExpression;
+    
     @Getter
     @Setter
     private Properties props = new Properties();
@@ -47,36 +55,54 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     @Override
     public void init() {
         allowRangeQuery = isAllowRangeQuery();
+        rangeEnumerationMaxSpan = getRangeEnumerationMaxSpan();
+        compiledExpression = createCompiledExpression();
     }
     
-    private Closure<?> createClosure() {
+    private CompiledInlineExpression createCompiledExpression() {
         String expression = props.getProperty(ALGORITHM_EXPRESSION_KEY);
         Preconditions.checkNotNull(expression, "Inline sharding algorithm expression cannot be null.");
-        String algorithmExpression = InlineExpressionParser.handlePlaceHolder(expression.trim());
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
+        return CompiledInlineExpressionFactory.newInstance(InlineExpressionParser.handlePlaceHolder(expression.trim()));
     }
     
     private boolean isAllowRangeQuery() {
         return Boolean.parseBoolean(props.getOrDefault(ALLOW_RANGE_QUERY_KEY, Boolean.FALSE.toString()).toString());
     }
     
+    private int getRangeEnumerationMaxSpan() {
+        int result = Integer.parseInt(props.getOrDefault(RANGE_ENUMERATION_MAX_SPAN_KEY, 0).toString());
+        Preconditions.checkArgument(result >= 0, "Range enumeration max span cannot be negative.");
+        return result;
+    }
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Closure<?> closure = createClosure();
-        closure.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
-        return closure.call().toString();
+        return compiledExpression.evaluate(Collections.singletonMap(shardingValue.getColumnName(), shardingValue.getValue()));
     }
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         if (allowRangeQuery) {
-            return availableTargetNames;
+            Optional<Collection<Comparable<?>>> shardingValues = IntegralRangeEnumerator.enumerate(shardingValue.getValueRange(), rangeEnumerationMaxSpan);
+            return shardingValues.isPresent() ? doSharding(availableTargetNames, shardingValue.getColumnName(), shardingValues.get()) : availableTargetNames;
         }
         throw new UnsupportedOperationException("Since the property of `" + ALLOW_RANGE_QUERY_KEY + "` is false, inline sharding algorithm can not tackle with range query.");
     }
     
+    private Collection<String> doSharding(final Collection<String> availableTargetNames, final String columnName, final Collection<Comparable<?>> shardingValues) {
+        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
+        for (Comparable<?> each : shardingValues) {
+            String target = compiledExpression.evaluate(Collections.singletonMap(columnName, each));
+            if (availableTargetNames.contains(target)) {
+                result.add(target);
+            }
+            if (result.size() == availableTargetNames.size()) {
+                break;
+            }
+        }
+        return result;
+    }
+    
     @Override
     public String getType() {
         return "INLINE";
@@ -0,0 +1,384 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression which evaluated natively without groovy.
+ * 
+ * <p>Only string templates with integral arithmetic segments are supported, such as {@code t_order_${order_id % 16}}.
+ * The arithmetic follows groovy semantics, {@code int} operands compute in {@code int} and {@code long} operands compute in {@code long}.
+ * Variables which are not integral numbers are evaluated by the fallback expression.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NativeCompiledInlineExpression implements CompiledInlineExpression {
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList(
+            "abstract", "as", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const", "continue", "def", "default", "do", "double", "else", "enum",
+            "extends", "false", "final", "finally", "float", "for", "goto", "if", "implements", "import", "in", "instanceof", "int", "interface", "long", "native", "new",
+            "null", "package", "private", "protected", "public", "return", "short", "static", "strictfp", "super", "switch", "synchronized", "this", "threadsafe", "throw",
+            "throws", "trait", "transient", "true", "try", "void", "volatile", "while", "it", "owner", "delegate", "thisObject", "directive", "resolveStrategy",
+            "maximumNumberOfParameters", "parameterTypes", "metaClass", "properties"));
+    
+    private static final String[] DEFAULT_IMPORT_PACKAGES = {"java.lang.", "java.util.", "java.io.", "java.net.", "groovy.lang.", "groovy.util.", "java.math."};
+    
+    private static final int ESTIMATED_SEGMENT_LENGTH = 8;
+    
+    private final Collection<Segment> segments;
+    
+    private final int estimatedLength;
+    
+    private final CompiledInlineExpression fallbackExpression;
+    
+    /**
+     * Compile inline expression natively.
+     * 
+     * @param inlineExpression inline expression
+     * @param fallbackExpression fallback expression for variables which can not be evaluated natively
+     * @return compiled inline expression, empty if inline expression is not supported natively
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression, final CompiledInlineExpression fallbackExpression) {
+        Collection<Segment> segments = new LinkedList<>();
+        StringBuilder literal = new StringBuilder();
+        int estimatedLength = 0;
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            char each = inlineExpression.charAt(index);
+            if ('$' == each) {
+                int stopIndex = inlineExpression.indexOf('}', index);
+                if (index + 1 == inlineExpression.length() || '{' != inlineExpression.charAt(index + 1) || stopIndex < 0) {
+                    return Optional.empty();
+                }
+                Optional<Segment> segment = parseSegment(inlineExpression.substring(index + 2, stopIndex));
+                if (!segment.isPresent()) {
+                    return Optional.empty();
+                }
+                if (literal.length() > 0) {
+                    segments.add(new LiteralSegment(literal.toString()));
+                    estimatedLength += literal.length();
+                    literal.setLength(0);
+                }
+                segments.add(segment.get());
+                estimatedLength += ESTIMATED_SEGMENT_LENGTH;
+                index = stopIndex + 1;
+                continue;
+            }
+            if ('\\' == each || '"' == each || '\n' == each || '\r' == each) {
+                return Optional.empty();
+            }
+            literal.append(each);
+            index++;
+        }
+        if (literal.length() > 0) {
+            segments.add(new LiteralSegment(literal.toString()));
+            estimatedLength += literal.length();
+        }
+        return Optional.of(new NativeCompiledInlineExpression(segments, estimatedLength, fallbackExpression));
+    }
+    
+    private static Optional<Segment> parseSegment(final String expression) {
+        if (expression.indexOf('{') >= 0) {
+            return Optional.empty();
+        }
+        Optional<Node> node = new ArithmeticParser(expression).parse();
+        if (!node.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(node.get() instanceof VariableNode ? new VariableSegment(((VariableNode) node.get()).name) : new ArithmeticSegment(node.get()));
+    }
+    
+    @Override
+    public String evaluate(final Map<String, ?> variables) {
+        StringBuilder result = new StringBuilder(estimatedLength);
+        for (Segment each : segments) {
+            if (!each.append(variables, result)) {
+                return fallbackExpression.evaluate(variables);
+            }
+        }
+        return result.toString();
+    }
+    
+    private static boolean isValidIdentifier(final String identifier) {
+        if (RESERVED_WORDS.contains(identifier)) {
+            return false;
+        }
+        if (!Character.isUpperCase(identifier.charAt(0))) {
+            return true;
+        }
+        for (String each : DEFAULT_IMPORT_PACKAGES) {
+            try {
+                Class.forName(each + identifier, false, NativeCompiledInlineExpression.class.getClassLoader());
+                return false;
+            } catch (final ClassNotFoundException ignored) {
+            }
+        }
+        return true;
+    }
+    
+    private interface Segment {
+        
+        boolean append(Map<String, ?> variables, StringBuilder result);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralSegment implements Segment {
+        
+        private final String literal;
+        
+        @Override
+        public boolean append(final Map<String, ?> variables, final StringBuilder result) {
+            result.append(literal);
+            return true;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableSegment implements Segment {
+        
+        private final String name;
+        
+        @Override
+        public boolean append(final Map<String, ?> variables, final StringBuilder result) {
+            Object value = variables.get(name);
+            if (value instanceof CharSequence || value instanceof Number || value instanceof Date) {
+                result.append(value);
+                return true;
+            }
+            return false;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ArithmeticSegment implements Segment {
+        
+        private final Node node;
+        
+        @Override
+        public boolean append(final Map<String, ?> variables, final StringBuilder result) {
+            NumberType type = node.getType(variables);
+            if (NumberType.UNSUPPORTED == type) {
+                return false;
+            }
+            result.append(node.evaluate(variables));
+            return true;
+        }
+    }
+    
+    private enum NumberType {
+        
+        INT, LONG, UNSUPPORTED;
+        
+        private static NumberType valueOf(final Object value) {
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return INT;
+            }
+            return value instanceof Long ? LONG : UNSUPPORTED;
+        }
+        
+        private NumberType merge(final NumberType other) {
+            return ordinal() >= other.ordinal() ? this : other;
+        }
+    }
+    
+    private interface Node {
+        
+        NumberType getType(Map<String, ?> variables);
+        
+        long evaluate(Map<String, ?> variables);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ConstantNode implements Node {
+        
+        private final long value;
+        
+        private final NumberType type;
+        
+        @Override
+        public NumberType getType(final Map<String, ?> variables) {
+            return type;
+        }
+        
+        @Override
+        public long evaluate(final Map<String, ?> variables) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableNode implements Node {
+        
+        private final String name;
+        
+        @Override
+        public NumberType getType(final Map<String, ?> variables) {
+            return NumberType.valueOf(variables.get(name));
+        }
+        
+        @Override
+        public long evaluate(final Map<String, ?> variables) {
+            return ((Number) variables.get(name)).longValue();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements Node {
+        
+        private final char operator;
+        
+        private final Node left;
+        
+        private final Node right;
+        
+        @Override
+        public NumberType getType(final Map<String, ?> variables) {
+            return left.getType(variables).merge(right.getType(variables));
+        }
+        
+        @Override
+        public long evaluate(final Map<String, ?> variables) {
+            long result = calculate(left.evaluate(variables), right.evaluate(variables));
+            return NumberType.INT == getType(variables) ? (int) result : result;
+        }
+        
+        private long calculate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ArithmeticParser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        private Optional<Node> parse() {
+            Optional<Node> result = parseAdditive();
+            skipWhitespace();
+            return position == expression.length() ? result : Optional.empty();
+        }
+        
+        private Optional<Node> parseAdditive() {
+            Optional<Node> result = parseMultiplicative();
+            while (result.isPresent() && (isNextOperator('+') || isNextOperator('-'))) {
+                char operator = expression.charAt(position++);
+                Optional<Node> right = parseMultiplicative();
+                result = right.isPresent() ? Optional.of(new BinaryNode(operator, result.get(), right.get())) : Optional.empty();
+            }
+            return result;
+        }
+        
+        private Optional<Node> parseMultiplicative() {
+            Optional<Node> result = parsePrimary();
+            while (result.isPresent() && (isNextOperator('*') || isNextOperator('%'))) {
+                char operator = expression.charAt(position++);
+                Optional<Node> right = parsePrimary();
+                result = right.isPresent() ? Optional.of(new BinaryNode(operator, result.get(), right.get())) : Optional.empty();
+            }
+            return result;
+        }
+        
+        private Optional<Node> parsePrimary() {
+            skipWhitespace();
+            if (position == expression.length()) {
+                return Optional.empty();
+            }
+            char current = expression.charAt(position);
+            if ('(' == current) {
+                position++;
+                Optional<Node> result = parseAdditive();
+                if (!isNextOperator(')')) {
+                    return Optional.empty();
+                }
+                position++;
+                return result;
+            }
+            if (Character.isDigit(current)) {
+                return parseConstant();
+            }
+            if (Character.isJavaIdentifierStart(current) && '$' != current) {
+                return parseVariable();
+            }
+            return Optional.empty();
+        }
+        
+        private Optional<Node> parseConstant() {
+            int startIndex = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position))) {
+                return Optional.empty();
+            }
+            String literal = expression.substring(startIndex, position);
+            if (literal.length() > 1 && '0' == literal.charAt(0)) {
+                return Optional.empty();
+            }
+            try {
+                long value = Long.parseLong(literal);
+                return Optional.of(new ConstantNode(value, value > Integer.MAX_VALUE ? NumberType.LONG : NumberType.INT));
+            } catch (final NumberFormatException ignored) {
+                return Optional.empty();
+            }
+        }
+        
+        private Optional<Node> parseVariable() {
+            int startIndex = position;
+            while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position)) && '$' != expression.charAt(position)) {
+                position++;
+            }
+            String name = expression.substring(startIndex, position);
+            skipWhitespace();
+            if (position < expression.length() && ('.' == expression.charAt(position) || '(' == expression.charAt(position) || '[' == expression.charAt(position))) {
+                return Optional.empty();
+            }
+            return isValidIdentifier(name) ? Optional.of(new VariableNode(name)) : Optional.empty();
+        }
+        
+        private boolean isNextOperator(final char operator) {
+            skipWhitespace();
+            return position < expression.length() && operator == expression.charAt(position);
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -20,13 +20,17 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.IntegralRangeEnumerator;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameSuffixMatcher;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -38,13 +42,21 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     
     private static final String SHARDING_COUNT_KEY = "sharding-count";
     
+    private static final String RANGE_ENUMERATION_MAX_SPAN_KEY = "range-enumeration-max-span";
+    
     private Properties props = new Properties();
     
     private int shardingCount;
     
+    private int maxSuffixLength;
+    
+    private int rangeEnumerationMaxSpan;
+    
     @Override
     public void init() {
         shardingCount = getShardingCount();
+        maxSuffixLength = String.valueOf(shardingCount - 1).length();
+        rangeEnumerationMaxSpan = getRangeEnumerationMaxSpan();
     }
     
     private int getShardingCount() {
@@ -52,19 +64,32 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
         return Integer.parseInt(props.getProperty(SHARDING_COUNT_KEY));
     }
     
+    private int getRangeEnumerationMaxSpan() {
+        int result = Integer.parseInt(props.getOrDefault(RANGE_ENUMERATION_MAX_SPAN_KEY, 0).toString());
+        Preconditions.checkArgument(result >= 0, "Range enumeration max span cannot be negative.");
+        return result;
+    }
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        for (String each : availableTargetNames) {
-            if (each.endsWith(String.valueOf(hashShardingValue(shardingValue.getValue()) % shardingCount))) {
-                return each;
-            }
-        }
-        return null;
+        return TargetNameSuffixMatcher.findFirst(availableTargetNames, String.valueOf(hashShardingValue(shardingValue.getValue()) % shardingCount), maxSuffixLength).orElse(null);
     }
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
-        return availableTargetNames;
+        Optional<Collection<Comparable<?>>> shardingValues = IntegralRangeEnumerator.enumerate(shardingValue.getValueRange(), rangeEnumerationMaxSpan);
+        return shardingValues.isPresent() ? doSharding(availableTargetNames, shardingValues.get()) : availableTargetNames;
+    }
+    
+    private Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<Comparable<?>> shardingValues) {
+        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
+        for (Comparable<?> each : shardingValues) {
+            TargetNameSuffixMatcher.findFirst(availableTargetNames, String.valueOf(hashShardingValue(each) % shardingCount), maxSuffixLength).ifPresent(result::add);
+            if (result.size() == availableTargetNames.size()) {
+                break;
+            }
+        }
+        return result;
     }
     
     private long hashShardingValue(final Comparable<?> shardingValue) {
@@ -83,6 +108,6 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     
     @Override
     public Collection<String> getAllPropertyKeys() {
-        return Collections.singletonList(SHARDING_COUNT_KEY);
+        return Arrays.asList(SHARDING_COUNT_KEY, RANGE_ENUMERATION_MAX_SPAN_KEY);
     }
 }
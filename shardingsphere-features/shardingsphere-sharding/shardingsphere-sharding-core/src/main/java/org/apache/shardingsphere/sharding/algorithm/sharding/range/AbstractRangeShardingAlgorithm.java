@@ -20,16 +20,19 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.range;
 import com.google.common.collect.Range;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.TargetNameSuffixMatcher;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.TreeMap;
 
 /**
  * Abstract range sharding algorithm.
@@ -38,6 +41,10 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     
     private volatile Map<Integer, Range<Long>> partitionRange;
     
+    private volatile List<Range<Long>> sortedPartitionRanges;
+    
+    private volatile int maxSuffixLength;
+    
     @Getter
     @Setter
     private Properties props = new Properties();
@@ -45,13 +52,15 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
     @Override
     public final void init() {
         partitionRange = calculatePartitionRange(props);
+        sortedPartitionRanges = new ArrayList<>(new TreeMap<>(partitionRange).values());
+        maxSuffixLength = String.valueOf(partitionRange.size() - 1).length();
     }
     
     protected abstract Map<Integer, Range<Long>> calculatePartitionRange(Properties props);
     
     @Override
     public final String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Long> shardingValue) {
-        return availableTargetNames.stream().filter(each -> each.endsWith(String.valueOf(getPartition(shardingValue.getValue())))).findFirst().orElse(null);
+        return TargetNameSuffixMatcher.findFirst(availableTargetNames, String.valueOf(getPartition(shardingValue.getValue())), maxSuffixLength).orElse(null);
     }
     
     @Override
@@ -60,11 +69,7 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
         int firstPartition = getFirstPartition(shardingValue.getValueRange());
         int lastPartition = getLastPartition(shardingValue.getValueRange());
         for (int partition = firstPartition; partition <= lastPartition; partition++) {
-            for (String each : availableTargetNames) {
-                if (each.endsWith(String.valueOf(partition))) {
-                    result.add(each);
-                }
-            }
+            result.addAll(TargetNameSuffixMatcher.findAll(availableTargetNames, String.valueOf(partition), maxSuffixLength));
         }
         return result;
     }
@@ -77,10 +82,20 @@ public abstract class AbstractRangeShardingAlgorithm implements StandardSharding
         return valueRange.hasUpperBound() ? getPartition(valueRange.upperEndpoint()) : partitionRange.size() - 1;
     }
     
-    private Integer getPartition(final Long value) {
-        for (Entry<Integer, Range<Long>> entry : partitionRange.entrySet()) {
-            if (entry.getValue().contains(value)) {
-                return entry.getKey();
+    private int getPartition(final Long value) {
+        List<Range<Long>> ranges = sortedPartitionRanges;
+        int low = 0;
+        int high = ranges.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Range<Long> range = ranges.get(middle);
+            if (range.contains(value)) {
+                return middle;
+            }
+            if (range.hasLowerBound() && value.compareTo(range.lowerEndpoint()) <= 0) {
+                high = middle - 1;
+            } else {
+                low = middle + 1;
             }
         }
         throw new UnsupportedOperationException("");
@@ -38,7 +38,7 @@ public final class ShardingResultMergerEngine implements ResultMergerEngine<Shar
     @Override
     public ResultMerger newInstance(final DatabaseType databaseType, final ShardingRule shardingRule, final ConfigurationProperties props, final SQLStatementContext sqlStatementContext) {
         if (sqlStatementContext instanceof SelectStatementContext) {
-            return new ShardingDQLResultMerger(databaseType);
+            return new ShardingDQLResultMerger(databaseType, props, shardingRule);
         } 
         if (sqlStatementContext.getSqlStatement() instanceof DALStatement) {
             return new ShardingDALResultMerger(shardingRule);
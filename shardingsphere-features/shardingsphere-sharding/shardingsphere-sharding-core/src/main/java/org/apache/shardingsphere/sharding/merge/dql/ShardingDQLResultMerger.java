@@ -20,8 +20,11 @@ package org.apache.shardingsphere.sharding.merge.dql;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
@@ -29,12 +32,15 @@ import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.LimitDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.RowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.TopAndRowNumberDecoratorMergedResult;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
@@ -42,6 +48,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.TreeMap;
 
 /**
@@ -52,6 +59,18 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType databaseType;
     
+    private final ConfigurationProperties props;
+    
+    private final ShardingRule shardingRule;
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType) {
+        this(databaseType, new ConfigurationProperties(new Properties()));
+    }
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType, final ConfigurationProperties props) {
+        this(databaseType, props, null);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext, final ShardingSphereSchema schema) throws SQLException {
         if (1 == queryResults.size()) {
@@ -59,7 +78,10 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         }
         Map<String, Integer> columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        selectStatementContext.setIndexes(columnLabelIndexMap);
+        selectStatementContext.setIndexes(columnLabelIndexMap, !isAllGroupsInSameDataNode(selectStatementContext));
+        if (props.<Boolean>getValue(ConfigurationPropertyKey.APPROXIMATE_COUNT_DISTINCT_ENABLED)) {
+            setApproximateDistinctCount(selectStatementContext);
+        }
         MergedResult mergedResult = build(queryResults, selectStatementContext, columnLabelIndexMap, schema);
         return decorate(queryResults, selectStatementContext, mergedResult);
     }
@@ -72,6 +94,14 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         return result;
     }
     
+    private void setApproximateDistinctCount(final SelectStatementContext selectStatementContext) {
+        for (AggregationDistinctProjection each : selectStatementContext.getProjectionsContext().getAggregationDistinctProjections()) {
+            if (AggregationType.COUNT == each.getType()) {
+                each.setApproximate(true);
+            }
+        }
+    }
+    
     private MergedResult build(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
         if (isNeedProcessGroupBy(selectStatementContext)) {
@@ -88,9 +118,16 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     }
     
     private boolean isNeedProcessGroupBy(final SelectStatementContext selectStatementContext) {
+        if (isAllGroupsInSameDataNode(selectStatementContext)) {
+            return false;
+        }
         return !selectStatementContext.getGroupByContext().getItems().isEmpty() || !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty();
     }
     
+    private boolean isAllGroupsInSameDataNode(final SelectStatementContext selectStatementContext) {
+        return null != shardingRule && shardingRule.isAllGroupsInSameDataNode(selectStatementContext);
+    }
+    
     private boolean isNeedProcessDistinctRow(final SelectStatementContext selectStatementContext) {
         return selectStatementContext.getProjectionsContext().isDistinctRow();
     }
@@ -105,8 +142,12 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        int maxMemoryRows = props.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_ROWS);
+        return maxMemoryRows > 0
+                ? new GroupBySpillMergedResult(queryResults, selectStatementContext, schema, maxMemoryRows, props.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_DIRECTORY))
                 : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationValueType;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.CompareUtil;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Group by aggregator, which aggregates rows of query results into groups in memory.
+ */
+public final class GroupByAggregator {
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final Map<GroupByValue, AggregatedGroup> groups;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    private AggregationValueType[] aggregationValueTypes;
+    
+    public GroupByAggregator(final SelectStatementContext selectStatementContext, final int initialCapacity) {
+        groupByItems = selectStatementContext.getGroupByContext().getItems();
+        aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        groups = new HashMap<>(initialCapacity);
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     *
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult) throws SQLException {
+        GroupByValue groupByValue = new GroupByValue(queryResult, groupByItems);
+        AggregatedGroup group = groups.get(groupByValue);
+        if (null == group) {
+            group = new AggregatedGroup(groupByValue.getGroupValues(), loadData(queryResult), createAggregationUnits(queryResult));
+            groups.put(groupByValue, group);
+        }
+        for (int i = 0; i < aggregationProjections.size(); i++) {
+            group.getAggregationUnits()[i].merge(getAggregationValues(queryResult, aggregationProjections.get(i)));
+        }
+    }
+    
+    private Object[] loadData(final QueryResult queryResult) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private AggregationUnit[] createAggregationUnits(final QueryResult queryResult) throws SQLException {
+        if (null == aggregationValueTypes) {
+            aggregationValueTypes = getAggregationValueTypes(queryResult);
+        }
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = AggregationUnitFactory.create(aggregationProjections.get(i), aggregationValueTypes[i]);
+        }
+        return result;
+    }
+    
+    private AggregationValueType[] getAggregationValueTypes(final QueryResult queryResult) throws SQLException {
+        AggregationValueType[] result = new AggregationValueType[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = AggregationValueType.valueOf(aggregationProjections.get(i), queryResult.getMetaData());
+        }
+        return result;
+    }
+    
+    private List<Comparable<?>> getAggregationValues(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        List<Comparable<?>> result = aggregationValues;
+        result.clear();
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            result.add(getAggregationValue(queryResult, aggregationProjection));
+        } else {
+            for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+                result.add(getAggregationValue(queryResult, each));
+            }
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Get count of groups.
+     *
+     * @return count of groups
+     */
+    public int size() {
+        return groups.size();
+    }
+    
+    /**
+     * Get aggregated groups.
+     *
+     * @return aggregated groups
+     */
+    public Collection<AggregatedGroup> getGroups() {
+        return groups.values();
+    }
+    
+    /**
+     * Clear aggregated groups.
+     */
+    public void clear() {
+        groups.clear();
+    }
+    
+    /**
+     * Create memory query result row with aggregation results of group.
+     *
+     * @param group aggregated group
+     * @return memory query result row
+     */
+    public MemoryQueryResultRow createMemoryQueryResultRow(final AggregatedGroup group) {
+        MemoryQueryResultRow result = new MemoryQueryResultRow(group.getData());
+        for (int i = 0; i < aggregationProjections.size(); i++) {
+            result.setCell(aggregationProjections.get(i).getIndex(), group.getAggregationUnits()[i].getResult());
+        }
+        return result;
+    }
+    
+    /**
+     * Get comparator of groups, which sorts groups by values of group by items in ascending order.
+     *
+     * @return comparator of groups
+     */
+    public static Comparator<AggregatedGroup> getGroupComparator() {
+        return (o1, o2) -> {
+            for (int i = 0; i < o1.getGroupValues().size(); i++) {
+                Object value1 = o1.getGroupValues().get(i);
+                Object value2 = o2.getGroupValues().get(i);
+                Preconditions.checkState((null == value1 || value1 instanceof Comparable) && (null == value2 || value2 instanceof Comparable), "Group by value must implements Comparable");
+                int result = CompareUtil.compareTo((Comparable<?>) value1, (Comparable<?>) value2, OrderDirection.ASC, OrderDirection.ASC, true);
+                if (0 != result) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+    }
+    
+    /**
+     * Aggregated group.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public static final class AggregatedGroup {
+        
+        private final List<?> groupValues;
+        
+        private final Object[] data;
+        
+        private final AggregationUnit[] aggregationUnits;
+        
+        /**
+         * Merge aggregated state of another group with same group by values.
+         *
+         * @param group group to be merged
+         */
+        public void merge(final AggregatedGroup group) {
+            for (int i = 0; i < aggregationUnits.length; i++) {
+                aggregationUnits[i].combine(group.aggregationUnits[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.SpillValueCodec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Spill file for group by merging, which stores records in local disk temporarily.
+ * 
+ * <p>
+ * Records are encoded with {@linkplain SpillValueCodec spill value codec} and read in the order they were written. The file is deleted after all records are read, 
+ * or as soon as it is opened for reading if the file system allows deleting opened files.
+ * The file is not opened for reading until the first record is read, so that only files being merged hold file handles.
+ * </p>
+ */
+public final class GroupBySpillFile {
+    
+    private final Path path;
+    
+    private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream();
+    
+    private final DataOutputStream recordOutputStream = new DataOutputStream(recordBuffer);
+    
+    private DataOutputStream outputStream;
+    
+    private DataInputStream inputStream;
+    
+    @Getter
+    private int size;
+    
+    private int readCount;
+    
+    public GroupBySpillFile(final String directory) throws IOException {
+        path = directory.isEmpty() ? Files.createTempFile("shardingsphere-group-by-", ".spill") : Files.createTempFile(Paths.get(directory), "shardingsphere-group-by-", ".spill");
+        outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+    }
+    
+    /**
+     * Write record.
+     *
+     * @param record record to be written
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] record) throws IOException {
+        recordBuffer.reset();
+        SpillValueCodec.write(recordOutputStream, record);
+        outputStream.writeInt(recordBuffer.size());
+        recordBuffer.writeTo(outputStream);
+        size++;
+    }
+    
+    /**
+     * Finish writing.
+     *
+     * @throws IOException IO exception
+     */
+    public void finishWriting() throws IOException {
+        outputStream.close();
+        outputStream = null;
+    }
+    
+    /**
+     * Read next record.
+     *
+     * @return next record, null if all records are read
+     * @throws IOException IO exception
+     */
+    public Object[] read() throws IOException {
+        if (readCount == size) {
+            close();
+            return null;
+        }
+        if (null == inputStream) {
+            inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+            path.toFile().delete();
+        }
+        readCount++;
+        byte[] record = new byte[inputStream.readInt()];
+        inputStream.readFully(record);
+        return (Object[]) SpillValueCodec.read(ByteBuffer.wrap(record));
+    }
+    
+    /**
+     * Close spill file and delete it.
+     *
+     * @throws IOException IO exception
+     */
+    public void close() throws IOException {
+        try {
+            if (null != outputStream) {
+                outputStream.close();
+            }
+            if (null != inputStream) {
+                inputStream.close();
+            }
+        } finally {
+            outputStream = null;
+            inputStream = null;
+            File file = path.toFile();
+            if (file.exists() && !file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+    }
+}
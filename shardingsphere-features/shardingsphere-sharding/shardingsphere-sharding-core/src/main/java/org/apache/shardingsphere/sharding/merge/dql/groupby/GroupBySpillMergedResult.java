@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.collect.Lists;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByAggregator.AggregatedGroup;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Merged result for group by with limited memory.
+ * 
+ * <p>
+ * Groups are aggregated in memory until count of groups reaches maximum memory rows, then they are sorted by group by values and spilled to local disk as a partition.
+ * Partitions are merged back as a stream to combine groups spilled more than once, and the aggregated rows are sorted by order by items externally in the same way.
+ * At most maximum merge files are opened at the same time, more files are merged in several passes.
+ * Spilled groups are combined only if their group by values are equal, which is the same as grouping in memory.
+ * Nothing is written to disk if count of groups never reaches maximum memory rows.
+ * </p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+    
+    private static final int MAX_MERGE_FILES = 64;
+    
+    private final int maxMemoryRows;
+    
+    private final int maxMergeFiles;
+    
+    private final String spillDirectory;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private Iterator<MemoryQueryResultRow> memoryRows;
+    
+    private PriorityQueue<SpillCursor<MemoryQueryResultRow>> spilledRows;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                    final int maxMemoryRows, final String spillDirectory) throws SQLException {
+        this(queryResults, selectStatementContext, schema, maxMemoryRows, spillDirectory, MAX_MERGE_FILES);
+    }
+    
+    GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                             final int maxMemoryRows, final String spillDirectory, final int maxMergeFiles) throws SQLException {
+        this.maxMemoryRows = maxMemoryRows;
+        this.maxMergeFiles = maxMergeFiles;
+        this.spillDirectory = spillDirectory;
+        try {
+            init(queryResults, selectStatementContext, schema);
+        } catch (final IOException ex) {
+            closeSpillFiles();
+            throw new SQLException("Can not spill group by result to disk.", ex);
+        }
+    }
+    
+    private void init(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException, IOException {
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext, Math.min(maxMemoryRows, MAX_INITIAL_CAPACITY));
+        List<GroupBySpillFile> partitions = new LinkedList<>();
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                aggregator.aggregate(each);
+                if (aggregator.size() >= maxMemoryRows) {
+                    partitions.add(spillGroups(aggregator));
+                }
+            }
+        }
+        Comparator<MemoryQueryResultRow> rowComparator = new GroupByRowComparator(
+                selectStatementContext, GroupByMemoryMergedResult.getValueCaseSensitive(queryResults, selectStatementContext, schema));
+        if (partitions.isEmpty()) {
+            memoryRows = getMemoryRows(aggregator, selectStatementContext, rowComparator).iterator();
+            return;
+        }
+        if (0 != aggregator.size()) {
+            partitions.add(spillGroups(aggregator));
+        }
+        Comparator<AggregatedGroup> groupComparator = GroupByAggregator.getGroupComparator();
+        List<GroupBySpillFile> mergedPartitions = mergeSpillFiles(partitions, groupComparator, GroupBySpillMergedResult::createAggregatedGroup, (cursors, spillFile) -> {
+            for (AggregatedGroup each : pollGroups(cursors, groupComparator)) {
+                spillFile.write(createRecord(each));
+            }
+        });
+        List<GroupBySpillFile> runs = sortAggregatedRows(aggregator, mergedPartitions, groupComparator, rowComparator);
+        List<GroupBySpillFile> mergedRuns = mergeSpillFiles(runs, rowComparator, MemoryQueryResultRow::new, (cursors, spillFile) -> spillFile.write(pollAndAdvance(cursors).getData()));
+        spilledRows = openCursors(mergedRuns, rowComparator, MemoryQueryResultRow::new);
+    }
+    
+    private List<MemoryQueryResultRow> getMemoryRows(final GroupByAggregator aggregator, final SelectStatementContext selectStatementContext, 
+                                                     final Comparator<MemoryQueryResultRow> rowComparator) {
+        if (0 == aggregator.size()) {
+            return Collections.singletonList(GroupByMemoryMergedResult.createEmptyResultRow(selectStatementContext));
+        }
+        List<MemoryQueryResultRow> result = new ArrayList<>(aggregator.size());
+        for (AggregatedGroup each : aggregator.getGroups()) {
+            result.add(aggregator.createMemoryQueryResultRow(each));
+        }
+        result.sort(rowComparator);
+        return result;
+    }
+    
+    private GroupBySpillFile spillGroups(final GroupByAggregator aggregator) throws IOException {
+        List<AggregatedGroup> groups = new ArrayList<>(aggregator.getGroups());
+        aggregator.clear();
+        groups.sort(GroupByAggregator.getGroupComparator());
+        GroupBySpillFile result = createSpillFile();
+        for (AggregatedGroup each : groups) {
+            result.write(createRecord(each));
+        }
+        result.finishWriting();
+        return result;
+    }
+    
+    private static Object[] createRecord(final AggregatedGroup group) {
+        return new Object[]{group.getGroupValues().toArray(), group.getData(), group.getAggregationUnits()};
+    }
+    
+    private static AggregatedGroup createAggregatedGroup(final Object[] record) {
+        Object[] aggregationUnits = (Object[]) record[2];
+        return new AggregatedGroup(Arrays.asList((Object[]) record[0]), (Object[]) record[1], Arrays.copyOf(aggregationUnits, aggregationUnits.length, AggregationUnit[].class));
+    }
+    
+    private List<GroupBySpillFile> sortAggregatedRows(final GroupByAggregator aggregator, final List<GroupBySpillFile> partitions, 
+                                                      final Comparator<AggregatedGroup> groupComparator, final Comparator<MemoryQueryResultRow> rowComparator) throws IOException {
+        List<GroupBySpillFile> result = new LinkedList<>();
+        List<MemoryQueryResultRow> buffer = new ArrayList<>(Math.min(maxMemoryRows, MAX_INITIAL_CAPACITY));
+        PriorityQueue<SpillCursor<AggregatedGroup>> cursors = openCursors(partitions, groupComparator, GroupBySpillMergedResult::createAggregatedGroup);
+        while (!cursors.isEmpty()) {
+            for (AggregatedGroup each : pollGroups(cursors, groupComparator)) {
+                buffer.add(aggregator.createMemoryQueryResultRow(each));
+            }
+            if (buffer.size() >= maxMemoryRows) {
+                result.add(spillRows(buffer, rowComparator));
+            }
+        }
+        if (!buffer.isEmpty()) {
+            result.add(spillRows(buffer, rowComparator));
+        }
+        return result;
+    }
+    
+    private GroupBySpillFile spillRows(final List<MemoryQueryResultRow> rows, final Comparator<MemoryQueryResultRow> rowComparator) throws IOException {
+        rows.sort(rowComparator);
+        GroupBySpillFile result = createSpillFile();
+        for (MemoryQueryResultRow each : rows) {
+            result.write(each.getData());
+        }
+        rows.clear();
+        result.finishWriting();
+        return result;
+    }
+    
+    private GroupBySpillFile createSpillFile() throws IOException {
+        GroupBySpillFile result = new GroupBySpillFile(spillDirectory);
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private <T> List<GroupBySpillFile> mergeSpillFiles(final List<GroupBySpillFile> files, final Comparator<T> comparator, final Function<Object[], T> converter,
+                                                       final SpillMerger<T> merger) throws IOException {
+        List<GroupBySpillFile> result = files;
+        while (result.size() > maxMergeFiles) {
+            List<GroupBySpillFile> mergedFiles = new LinkedList<>();
+            for (List<GroupBySpillFile> each : Lists.partition(result, maxMergeFiles)) {
+                mergedFiles.add(1 == each.size() ? each.get(0) : mergeSpillFiles(openCursors(each, comparator, converter), merger));
+            }
+            result = mergedFiles;
+        }
+        return result;
+    }
+    
+    private <T> GroupBySpillFile mergeSpillFiles(final PriorityQueue<SpillCursor<T>> cursors, final SpillMerger<T> merger) throws IOException {
+        GroupBySpillFile result = createSpillFile();
+        while (!cursors.isEmpty()) {
+            merger.merge(cursors, result);
+        }
+        result.finishWriting();
+        return result;
+    }
+    
+    private Collection<AggregatedGroup> pollGroups(final PriorityQueue<SpillCursor<AggregatedGroup>> cursors, final Comparator<AggregatedGroup> groupComparator) throws IOException {
+        Map<List<?>, AggregatedGroup> result = new LinkedHashMap<>();
+        AggregatedGroup first = cursors.peek().getCurrent();
+        while (!cursors.isEmpty() && 0 == groupComparator.compare(first, cursors.peek().getCurrent())) {
+            AggregatedGroup group = pollAndAdvance(cursors);
+            AggregatedGroup existedGroup = result.putIfAbsent(group.getGroupValues(), group);
+            if (null != existedGroup) {
+                existedGroup.merge(group);
+            }
+        }
+        return result.values();
+    }
+    
+    private <T> PriorityQueue<SpillCursor<T>> openCursors(final List<GroupBySpillFile> files, final Comparator<T> comparator, final Function<Object[], T> converter) throws IOException {
+        PriorityQueue<SpillCursor<T>> result = new PriorityQueue<>(files.size(), (o1, o2) -> comparator.compare(o1.getCurrent(), o2.getCurrent()));
+        for (GroupBySpillFile each : files) {
+            SpillCursor<T> cursor = new SpillCursor<>(each, converter);
+            if (cursor.advance()) {
+                result.add(cursor);
+            }
+        }
+        return result;
+    }
+    
+    private <T> T pollAndAdvance(final PriorityQueue<SpillCursor<T>> cursors) throws IOException {
+        SpillCursor<T> cursor = cursors.poll();
+        T result = cursor.getCurrent();
+        if (cursor.advance()) {
+            cursors.add(cursor);
+        }
+        return result;
+    }
+    
+    private void closeSpillFiles() {
+        for (GroupBySpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
+        }
+        spillFiles.clear();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != memoryRows) {
+            if (memoryRows.hasNext()) {
+                currentRow = memoryRows.next();
+                return true;
+            }
+            return false;
+        }
+        if (spilledRows.isEmpty()) {
+            return false;
+        }
+        try {
+            currentRow = pollAndAdvance(spilledRows);
+        } catch (final IOException ex) {
+            closeSpillFiles();
+            throw new SQLException("Can not read group by result from disk.", ex);
+        }
+        if (spilledRows.isEmpty()) {
+            closeSpillFiles();
+        }
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
+        }
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        // TODO implement with calendar
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @FunctionalInterface
+    private interface SpillMerger<T> {
+        
+        void merge(PriorityQueue<SpillCursor<T>> cursors, GroupBySpillFile spillFile) throws IOException;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpillCursor<T> {
+        
+        private final GroupBySpillFile spillFile;
+        
+        private final Function<Object[], T> converter;
+        
+        @Getter
+        private T current;
+        
+        private boolean advance() throws IOException {
+            Object[] record = spillFile.read();
+            if (null == record) {
+                return false;
+            }
+            current = converter.apply(record);
+            return true;
+        }
+    }
+}
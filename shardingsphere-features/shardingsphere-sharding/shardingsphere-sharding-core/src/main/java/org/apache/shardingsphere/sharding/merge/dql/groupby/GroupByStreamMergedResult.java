@@ -21,9 +21,9 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationValueType;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
-import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
@@ -32,6 +32,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -45,6 +46,10 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final List<Object> currentRow;
     
+    private final Map<AggregationProjection, AggregationValueType> aggregationValueTypes;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
     private List<?> currentGroupByValues;
     
     public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults,
@@ -52,14 +57,23 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         super(queryResults, selectStatementContext, schema);
         this.selectStatementContext = selectStatementContext;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty()
+        currentGroupByValues = getOrderByValueLoserTree().isEmpty()
                 ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues();
+        aggregationValueTypes = getOrderByValueLoserTree().isEmpty() ? Collections.emptyMap() : getAggregationValueTypes();
+    }
+    
+    private Map<AggregationProjection, AggregationValueType> getAggregationValueTypes() throws SQLException {
+        Map<AggregationProjection, AggregationValueType> result = new HashMap<>();
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            result.put(each, AggregationValueType.valueOf(each, getCurrentQueryResult().getMetaData()));
+        }
+        return result;
     }
     
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByValueLoserTree().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -74,8 +88,8 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     private boolean aggregateCurrentGroupByRowAndNext() throws SQLException {
         boolean result = false;
         boolean cachedRow = false;
-        Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(
-                selectStatementContext.getProjectionsContext().getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
+        Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(selectStatementContext.getProjectionsContext().getAggregationProjections(),
+            input -> AggregationUnitFactory.create(input, aggregationValueTypes.get(input)));
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues())) {
             aggregate(aggregationUnitMap);
             if (!cachedRow) {
@@ -93,7 +107,8 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private void aggregate(final Map<AggregationProjection, AggregationUnit> aggregationUnitMap) throws SQLException {
         for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+            List<Comparable<?>> values = aggregationValues;
+            values.clear();
             if (entry.getKey().getDerivedAggregationProjections().isEmpty()) {
                 values.add(getAggregationValue(entry.getKey()));
             } else {
@@ -17,12 +17,13 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * Aggregation unit interface.
  */
-public interface AggregationUnit {
+public interface AggregationUnit extends Serializable {
     
     /**
      * merge aggregation values.
@@ -31,6 +32,13 @@ public interface AggregationUnit {
      */
     void merge(List<Comparable<?>> values);
     
+    /**
+     * Merge aggregated state of another aggregation unit with same type.
+     *
+     * @param aggregationUnit aggregation unit to be merged
+     */
+    void combine(AggregationUnit aggregationUnit);
+    
     /**
      * Get aggregation result.
      * 
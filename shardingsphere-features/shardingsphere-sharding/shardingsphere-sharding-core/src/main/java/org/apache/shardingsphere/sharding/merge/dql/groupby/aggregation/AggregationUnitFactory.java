@@ -19,6 +19,8 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 
 /**
@@ -35,19 +37,62 @@ public final class AggregationUnitFactory {
      * @return aggregation unit instance
      */
     public static AggregationUnit create(final AggregationType type, final boolean isDistinct) {
+        return create(type, isDistinct, AggregationValueType.OTHER);
+    }
+    
+    /**
+     * Create aggregation unit instance.
+     * 
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param valueType value type of aggregation
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final AggregationValueType valueType) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
             case MIN:
                 return new ComparableAggregationUnit(true);
             case SUM:
-                return isDistinct ? new DistinctSumAggregationUnit() : new AccumulationAggregationUnit();
+                return isDistinct ? createDistinctSumAggregationUnit(valueType) : createAccumulationAggregationUnit(valueType);
             case COUNT:
-                return isDistinct ? new DistinctCountAggregationUnit() : new AccumulationAggregationUnit();
+                return isDistinct ? createDistinctCountAggregationUnit(valueType) : createAccumulationAggregationUnit(valueType);
             case AVG:
-                return isDistinct ? new DistinctAverageAggregationUnit() : new AverageAggregationUnit();
+                return isDistinct ? new DistinctAverageAggregationUnit() : createAverageAggregationUnit(valueType);
             default:
                 throw new UnsupportedOperationException(type.name());
         }
     }
+    
+    /**
+     * Create aggregation unit instance for aggregation projection.
+     *
+     * @param aggregationProjection aggregation projection
+     * @param valueType value type of aggregation
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationProjection aggregationProjection, final AggregationValueType valueType) {
+        if (aggregationProjection instanceof AggregationDistinctProjection) {
+            return AggregationType.COUNT == aggregationProjection.getType() && ((AggregationDistinctProjection) aggregationProjection).isApproximate()
+                    ? new HyperLogLogDistinctCountAggregationUnit() : create(aggregationProjection.getType(), true, valueType);
+        }
+        return create(aggregationProjection.getType(), false, valueType);
+    }
+    
+    private static AggregationUnit createAccumulationAggregationUnit(final AggregationValueType valueType) {
+        return AggregationValueType.INTEGRAL == valueType ? new LongAccumulationAggregationUnit() : new AccumulationAggregationUnit();
+    }
+    
+    private static AggregationUnit createDistinctSumAggregationUnit(final AggregationValueType valueType) {
+        return AggregationValueType.INTEGRAL == valueType ? new LongDistinctSumAggregationUnit() : new DistinctSumAggregationUnit();
+    }
+    
+    private static AggregationUnit createDistinctCountAggregationUnit(final AggregationValueType valueType) {
+        return AggregationValueType.INTEGRAL == valueType ? new LongDistinctCountAggregationUnit() : new DistinctCountAggregationUnit();
+    }
+    
+    private static AggregationUnit createAverageAggregationUnit(final AggregationValueType valueType) {
+        return AggregationValueType.INTEGRAL == valueType ? new LongAverageAggregationUnit() : new AverageAggregationUnit();
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Value type of aggregation, which decides whether aggregation can be accumulated with primitive values.
+ * 
+ * <p>Floating point values are {@code OTHER}, because they are accumulated exactly by decimal string as before.</p>
+ */
+public enum AggregationValueType {
+    
+    INTEGRAL, OTHER;
+    
+    /**
+     * Get value type of aggregation from column types of query result.
+     * 
+     * <p>Derived aggregations are required to have same value type, otherwise the value type is {@code OTHER}.</p>
+     *
+     * @param aggregationProjection aggregation projection
+     * @param queryResultMetaData query result meta data
+     * @return value type of aggregation
+     * @throws SQLException SQL exception
+     */
+    public static AggregationValueType valueOf(final AggregationProjection aggregationProjection, final QueryResultMetaData queryResultMetaData) throws SQLException {
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            return valueOf(aggregationProjection.getIndex(), queryResultMetaData);
+        }
+        AggregationValueType result = null;
+        for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+            AggregationValueType valueType = valueOf(each.getIndex(), queryResultMetaData);
+            if (null != result && result != valueType) {
+                return OTHER;
+            }
+            result = valueType;
+        }
+        return result;
+    }
+    
+    private static AggregationValueType valueOf(final int columnIndex, final QueryResultMetaData queryResultMetaData) throws SQLException {
+        if (columnIndex < 1 || columnIndex > queryResultMetaData.getColumnCount()) {
+            return OTHER;
+        }
+        switch (queryResultMetaData.getColumnType(columnIndex)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return INTEGRAL;
+            default:
+                return OTHER;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -48,6 +49,12 @@ public final class AverageAggregationUnit implements AggregationUnit {
         sum = sum.add(new BigDecimal(values.get(1).toString()));
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        AverageAggregationUnit other = (AverageAggregationUnit) aggregationUnit;
+        merge(Arrays.asList(other.count, other.sum));
+    }
+    
     @Override
     public Comparable<?> getResult() {
         if (null == count || BigDecimal.ZERO.equals(count)) {
@@ -21,9 +21,11 @@ import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Distinct average aggregation unit.
@@ -35,16 +37,15 @@ public final class DistinctAverageAggregationUnit implements AggregationUnit {
     
     private BigDecimal sum;
     
-    private final Collection<Comparable<?>> countValues = new LinkedHashSet<>();
-    
-    private final Collection<Comparable<?>> sumValues = new LinkedHashSet<>();
+    private final Map<Comparable<?>, Comparable<?>> distinctValues = new LinkedHashMap<>();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (countValues.add(values.get(0)) && sumValues.add(values.get(0))) {
+        if (!distinctValues.containsKey(values.get(0))) {
+            distinctValues.put(values.get(0), values.get(1));
             if (null == count) {
                 count = new BigDecimal("0");
             }
@@ -56,6 +57,13 @@ public final class DistinctAverageAggregationUnit implements AggregationUnit {
         }
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        for (Entry<Comparable<?>, Comparable<?>> entry : ((DistinctAverageAggregationUnit) aggregationUnit).distinctValues.entrySet()) {
+            merge(Arrays.asList(entry.getKey(), entry.getValue()));
+        }
+    }
+    
     @Override
     public Comparable<?> getResult() {
         if (null == count || BigDecimal.ZERO.equals(count)) {
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 
@@ -47,6 +48,13 @@ public final class DistinctSumAggregationUnit implements AggregationUnit {
         }
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        for (Comparable<?> each : ((DistinctSumAggregationUnit) aggregationUnit).values) {
+            merge(Collections.singletonList(each));
+        }
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return result;
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Distinct count aggregation unit with HyperLogLog sketch, which estimates count of distinct values in bounded memory.
+ * 
+ * <p>
+ * Hashes of values are counted exactly until there are more than {@code MAX_EXACT_HASH_COUNT} of them, then they are folded into {@code 2^PRECISION} registers.
+ * Standard error of estimated count is {@code 1.04 / sqrt(2^PRECISION)}, which is about 0.81%.
+ * </p>
+ */
+public final class HyperLogLogDistinctCountAggregationUnit implements AggregationUnit {
+    
+    private static final int PRECISION = 14;
+    
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    
+    private static final int MAX_EXACT_HASH_COUNT = REGISTER_COUNT >> 4;
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private LongHashSet hashes = new LongHashSet();
+    
+    private byte[] registers;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        add(hash(values.get(0)));
+    }
+    
+    private long hash(final Comparable<?> value) {
+        return LongAccumulator.isLongValue(value)
+                ? HASH_FUNCTION.hashLong(((Number) value).longValue()).asLong() : HASH_FUNCTION.hashString(value.toString(), StandardCharsets.UTF_8).asLong();
+    }
+    
+    private void add(final long hash) {
+        if (null != registers) {
+            addToRegisters(hash);
+            return;
+        }
+        hashes.add(hash);
+        if (hashes.size() > MAX_EXACT_HASH_COUNT) {
+            convertToRegisters();
+        }
+    }
+    
+    private void addToRegisters(final long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros(hash << PRECISION | 1L << (PRECISION - 1)) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    private void convertToRegisters() {
+        registers = new byte[REGISTER_COUNT];
+        hashes.forEach(this::addToRegisters);
+        hashes = null;
+    }
+    
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        HyperLogLogDistinctCountAggregationUnit other = (HyperLogLogDistinctCountAggregationUnit) aggregationUnit;
+        if (null == other.registers) {
+            other.hashes.forEach(this::add);
+            return;
+        }
+        if (null == registers) {
+            convertToRegisters();
+        }
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return null == registers ? (long) hashes.size() : estimate();
+    }
+    
+    private long estimate() {
+        double sum = 0;
+        int zeroRegisterCount = 0;
+        for (byte each : registers) {
+            sum += 1.0 / (1L << each);
+            if (0 == each) {
+                zeroRegisterCount++;
+            }
+        }
+        double result = 0.7213 / (1 + 1.079 / REGISTER_COUNT) * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (result <= 2.5 * REGISTER_COUNT && zeroRegisterCount > 0) {
+            result = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisterCount);
+        }
+        return Math.round(result);
+    }
+}
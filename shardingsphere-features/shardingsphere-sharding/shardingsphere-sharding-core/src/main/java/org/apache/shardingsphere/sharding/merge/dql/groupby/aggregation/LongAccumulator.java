@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Accumulator of integral values, which sums with primitive long and falls back to big decimal when overflow.
+ */
+final class LongAccumulator implements Serializable {
+    
+    private static final long serialVersionUID = 4931648157470236816L;
+    
+    private boolean accumulated;
+    
+    private long longSum;
+    
+    private BigDecimal overflowSum;
+    
+    /**
+     * Judge whether value can be accumulated as primitive long.
+     *
+     * @param value value to be judged
+     * @return can be accumulated as primitive long or not
+     */
+    static boolean isLongValue(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof BigInteger && ((BigInteger) value).bitLength() < Long.SIZE;
+    }
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     */
+    void add(final Comparable<?> value) {
+        if (isLongValue(value)) {
+            add(((Number) value).longValue());
+        } else {
+            add(new BigDecimal(value.toString()));
+        }
+    }
+    
+    /**
+     * Add primitive long value.
+     *
+     * @param value value to be added
+     */
+    void add(final long value) {
+        accumulated = true;
+        long sum = longSum + value;
+        if (((longSum ^ sum) & (value ^ sum)) < 0) {
+            add(BigDecimal.valueOf(value));
+            return;
+        }
+        longSum = sum;
+    }
+    
+    private void add(final BigDecimal value) {
+        accumulated = true;
+        overflowSum = null == overflowSum ? value : overflowSum.add(value);
+    }
+    
+    /**
+     * Add values accumulated by another accumulator.
+     *
+     * @param accumulator accumulator to be added
+     */
+    void add(final LongAccumulator accumulator) {
+        if (!accumulator.accumulated) {
+            return;
+        }
+        add(accumulator.longSum);
+        if (null != accumulator.overflowSum) {
+            add(accumulator.overflowSum);
+        }
+    }
+    
+    /**
+     * Get accumulated result.
+     *
+     * @return accumulated result, null if nothing accumulated
+     */
+    BigDecimal getResult() {
+        if (!accumulated) {
+            return null;
+        }
+        BigDecimal result = BigDecimal.valueOf(longSum);
+        return null == overflowSum ? result : result.add(overflowSum);
+    }
+}
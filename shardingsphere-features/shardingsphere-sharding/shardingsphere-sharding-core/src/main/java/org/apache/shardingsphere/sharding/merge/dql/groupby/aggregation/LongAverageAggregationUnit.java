@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Average aggregation unit for integral values.
+ */
+@RequiredArgsConstructor
+public final class LongAverageAggregationUnit implements AggregationUnit {
+    
+    private final LongAccumulator count = new LongAccumulator();
+    
+    private final LongAccumulator sum = new LongAccumulator();
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0) || null == values.get(1)) {
+            return;
+        }
+        count.add(values.get(0));
+        sum.add(values.get(1));
+    }
+    
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        LongAverageAggregationUnit other = (LongAverageAggregationUnit) aggregationUnit;
+        count.add(other.count);
+        sum.add(other.sum);
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        BigDecimal countResult = count.getResult();
+        if (null == countResult || BigDecimal.ZERO.equals(countResult)) {
+            return countResult;
+        }
+        // TODO use metadata to fetch float number precise for database field
+        return sum.getResult().divide(countResult, 4, RoundingMode.HALF_UP);
+    }
+}
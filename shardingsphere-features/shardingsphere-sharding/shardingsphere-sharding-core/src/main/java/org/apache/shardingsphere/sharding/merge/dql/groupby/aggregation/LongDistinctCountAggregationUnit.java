@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Distinct count aggregation unit for integral values.
+ */
+@RequiredArgsConstructor
+public final class LongDistinctCountAggregationUnit implements AggregationUnit {
+    
+    private final LongHashSet longValues = new LongHashSet();
+    
+    private final Collection<Comparable<?>> otherValues = new HashSet<>();
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        Comparable<?> value = values.get(0);
+        if (LongAccumulator.isLongValue(value)) {
+            longValues.add(((Number) value).longValue());
+        } else {
+            otherValues.add(value);
+        }
+    }
+    
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        LongDistinctCountAggregationUnit other = (LongDistinctCountAggregationUnit) aggregationUnit;
+        other.longValues.forEach(longValues::add);
+        otherValues.addAll(other.otherValues);
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return longValues.size() + otherValues.size();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Distinct sum aggregation unit for integral values.
+ */
+@RequiredArgsConstructor
+public final class LongDistinctSumAggregationUnit implements AggregationUnit {
+    
+    private final LongAccumulator result = new LongAccumulator();
+    
+    private final LongHashSet longValues = new LongHashSet();
+    
+    private final Collection<Comparable<?>> otherValues = new HashSet<>();
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        Comparable<?> value = values.get(0);
+        if (LongAccumulator.isLongValue(value)) {
+            add(((Number) value).longValue());
+        } else {
+            add(value);
+        }
+    }
+    
+    private void add(final long value) {
+        if (longValues.add(value)) {
+            result.add(value);
+        }
+    }
+    
+    private void add(final Comparable<?> value) {
+        if (otherValues.add(value)) {
+            result.add(value);
+        }
+    }
+    
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        LongDistinctSumAggregationUnit other = (LongDistinctSumAggregationUnit) aggregationUnit;
+        other.longValues.forEach(this::add);
+        for (Comparable<?> each : other.otherValues) {
+            add(each);
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return result.getResult();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.io.Serializable;
+import java.util.function.LongConsumer;
+
+/**
+ * Hash set of primitive long values with open addressing, which avoids boxing values and allocating entries.
+ */
+final class LongHashSet implements Serializable {
+    
+    private static final long serialVersionUID = -6178230425349614367L;
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private long[] table = new long[INITIAL_CAPACITY];
+    
+    private boolean containsZero;
+    
+    private int size;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     * @return true if value is absent before
+     */
+    boolean add(final long value) {
+        if (0L == value) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int mask = table.length - 1;
+        int index = hash(value) & mask;
+        while (0L != table[index]) {
+            if (value == table[index]) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        size++;
+        if (size << 1 > table.length) {
+            resize();
+        }
+        return true;
+    }
+    
+    private void resize() {
+        long[] oldTable = table;
+        table = new long[oldTable.length << 1];
+        int mask = table.length - 1;
+        for (long each : oldTable) {
+            if (0L != each) {
+                int index = hash(each) & mask;
+                while (0L != table[index]) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = each;
+            }
+        }
+    }
+    
+    private static int hash(final long value) {
+        long result = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        result = (result ^ (result >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return (int) (result ^ (result >>> 33));
+    }
+    
+    /**
+     * Perform action for each value.
+     *
+     * @param action action to be performed
+     */
+    void forEach(final LongConsumer action) {
+        if (containsZero) {
+            action.accept(0L);
+        }
+        for (long each : table) {
+            if (0L != each) {
+                action.accept(each);
+            }
+        }
+    }
+    
+    /**
+     * Get count of values.
+     *
+     * @return count of values
+     */
+    int size() {
+        return size;
+    }
+}
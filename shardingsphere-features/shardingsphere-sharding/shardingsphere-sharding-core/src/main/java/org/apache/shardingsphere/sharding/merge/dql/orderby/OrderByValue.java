@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
@@ -31,14 +32,16 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 
 /**
  * Order by value.
+ * 
+ * <p>
+ * Sort key of current row is extracted once when moving to the row: case insensitive strings are upper cased,
+ * and order directions are resolved to signs, so comparing does not touch query result again.
+ * </p>
  */
 public final class OrderByValue implements Comparable<OrderByValue> {
     
@@ -47,21 +50,39 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final Collection<OrderByItem> orderByItems;
     
-    private final List<Boolean> orderValuesCaseSensitive;
+    private final int[] orderValueIndexes;
     
-    private List<Comparable<?>> orderValues;
+    private final int[] orderDirectionSigns;
+    
+    private final int[] nullOrderSigns;
+    
+    private final boolean[] orderValuesCaseSensitive;
+    
+    private final Comparable<?>[] orderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
         this.orderByItems = orderByItems;
+        orderValueIndexes = new int[orderByItems.size()];
+        orderDirectionSigns = new int[orderByItems.size()];
+        nullOrderSigns = new int[orderByItems.size()];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            orderValueIndexes[i] = each.getIndex();
+            orderDirectionSigns[i] = OrderDirection.ASC == each.getSegment().getOrderDirection() ? 1 : -1;
+            nullOrderSigns[i] = each.getSegment().getOrderDirection() == each.getSegment().getNullOrderDirection() ? -1 : 1;
+            i++;
+        }
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(selectStatementContext, schema);
+        orderValues = new Comparable<?>[orderByItems.size()];
     }
     
-    private List<Boolean> getOrderValuesCaseSensitive(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
+    private boolean[] getOrderValuesCaseSensitive(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        boolean[] result = new boolean[orderByItems.size()];
+        int i = 0;
         for (OrderByItem eachOrderByItem : orderByItems) {
-            result.add(getOrderValuesCaseSensitiveFromTables(selectStatementContext, schema, eachOrderByItem));
+            result[i++] = getOrderValuesCaseSensitiveFromTables(selectStatementContext, schema, eachOrderByItem);
         }
         return result;
     }
@@ -99,30 +120,39 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderValues.length; i++) {
+            Object value = queryResult.getValue(orderValueIndexes[i], Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i] = !orderValuesCaseSensitive[i] && value instanceof String ? ((String) value).toUpperCase() : (Comparable<?>) value;
         }
-        return result;
     }
     
+    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public int compareTo(final OrderByValue o) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            Comparable thisValue = orderValues[i];
+            Comparable otherValue = o.orderValues[i];
+            if (thisValue == otherValue) {
+                continue;
+            }
+            if (null == thisValue) {
+                return nullOrderSigns[i];
+            }
+            if (null == otherValue) {
+                return -nullOrderSigns[i];
+            }
+            int result = thisValue.compareTo(otherValue);
             if (0 != result) {
-                return result;
+                return orderDirectionSigns[i] * Integer.signum(result);
             }
-            i++;
         }
         return 0;
     }
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>
+ * Internal nodes keep the loser of each match and the overall winner is kept separately, so replacing the winner by its next row
+ * only replays the matches on the path from its leaf to the root, which costs log2(k) comparisons for k order by values.
+ * Ties are won by the order by value of the former query result when building, and by the waiting order by value when replaying,
+ * so the order by value just moved to its next row goes behind equal rows of other query results. Exhausted order by values lose every match.
+ * Order of rows with equal order by values is undefined as in SQL, and it may differ from the order produced by a binary heap of the same query results.
+ * </p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        losers = new int[this.orderByValues.length];
+        winner = this.orderByValues.length > 0 ? build() : -1;
+    }
+    
+    private int build() {
+        int size = orderByValues.length;
+        int[] winners = new int[size * 2];
+        for (int i = 0; i < size; i++) {
+            winners[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            boolean leftWins = beats(left, right);
+            winners[node] = leftWins ? left : right;
+            losers[node] = leftWins ? right : left;
+        }
+        return winners[1];
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return -1 == winner || exhausted[winner];
+    }
+    
+    /**
+     * Get order by value of the smallest current row.
+     * 
+     * @return order by value of the smallest current row
+     */
+    public OrderByValue peek() {
+        return orderByValues[winner];
+    }
+    
+    /**
+     * Move order by value of the smallest current row to its next row and replay matches for it.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+        }
+        int current = winner;
+        int node = (orderByValues.length + winner) / 2;
+        while (node > 0) {
+            if (compare(losers[node], current) <= 0) {
+                int loser = current;
+                current = losers[node];
+                losers[node] = loser;
+            }
+            node /= 2;
+        }
+        winner = current;
+    }
+    
+    private boolean beats(final int index, final int otherIndex) {
+        int result = compare(index, otherIndex);
+        return result < 0 || 0 == result && index < otherIndex;
+    }
+    
+    private int compare(final int index, final int otherIndex) {
+        if (exhausted[index]) {
+            return exhausted[otherIndex] ? 0 : 1;
+        }
+        if (exhausted[otherIndex]) {
+            return -1;
+        }
+        return orderByValues[index].compareTo(orderByValues[otherIndex]);
+    }
+}
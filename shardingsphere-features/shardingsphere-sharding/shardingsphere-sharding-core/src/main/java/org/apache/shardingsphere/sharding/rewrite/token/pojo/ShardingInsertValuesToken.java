@@ -21,13 +21,21 @@ import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.RouteUnitAware;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValue;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValuesToken;
+import org.apache.shardingsphere.infra.route.context.DataNodeGroupIndex;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Insert values token for sharding.
  */
 public final class ShardingInsertValuesToken extends InsertValuesToken implements RouteUnitAware {
     
+    private DataNodeGroupIndex dataNodeGroupIndex;
+    
     public ShardingInsertValuesToken(final int startIndex, final int stopIndex) {
         super(startIndex, stopIndex);
     }
@@ -41,22 +49,27 @@ public final class ShardingInsertValuesToken extends InsertValuesToken implement
     }
     
     private void appendInsertValue(final RouteUnit routeUnit, final StringBuilder stringBuilder) {
-        for (InsertValue each : getInsertValues()) {
-            if (isAppend(routeUnit, (ShardingInsertValue) each)) {
+        if (null == routeUnit) {
+            for (InsertValue each : getInsertValues()) {
                 stringBuilder.append(each).append(", ");
             }
+            return;
+        }
+        List<InsertValue> insertValues = getInsertValues();
+        BitSet insertValueIndexes = getDataNodeGroupIndex().getGroupIndexes(routeUnit);
+        for (int i = insertValueIndexes.nextSetBit(0); i >= 0; i = insertValueIndexes.nextSetBit(i + 1)) {
+            stringBuilder.append(insertValues.get(i)).append(", ");
         }
     }
     
-    private boolean isAppend(final RouteUnit routeUnit, final ShardingInsertValue insertValueToken) {
-        if (insertValueToken.getDataNodes().isEmpty() || null == routeUnit) {
-            return true;
-        }
-        for (DataNode each : insertValueToken.getDataNodes()) {
-            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
+    private DataNodeGroupIndex getDataNodeGroupIndex() {
+        if (null == dataNodeGroupIndex) {
+            Collection<Collection<DataNode>> dataNodeGroups = new ArrayList<>(getInsertValues().size());
+            for (InsertValue each : getInsertValues()) {
+                dataNodeGroups.add(((ShardingInsertValue) each).getDataNodes());
             }
+            dataNodeGroupIndex = new DataNodeGroupIndex(dataNodeGroups);
         }
-        return false;
+        return dataNodeGroupIndex;
     }
 }
@@ -23,8 +23,13 @@ import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementConte
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
-import org.apache.shardingsphere.infra.route.SQLRouter;
+import org.apache.shardingsphere.infra.route.CacheableSQLRouter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.sharding.algorithm.sharding.classbased.ClassBasedShardingAlgorithm;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
@@ -34,9 +39,14 @@ import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngineF
 import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidator;
 import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidatorFactory;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -44,7 +54,7 @@ import java.util.Optional;
 /**
  * Sharding SQL router.
  */
-public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
+public final class ShardingSQLRouter implements CacheableSQLRouter<ShardingRule> {
     
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
@@ -96,6 +106,30 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         // TODO
     }
     
+    @Override
+    public boolean isCacheable(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ShardingRule rule, final ConfigurationProperties props) {
+        SQLStatement sqlStatement = logicSQL.getSqlStatementContext().getSqlStatement();
+        if (!(sqlStatement instanceof SelectStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement)) {
+            return false;
+        }
+        Collection<String> tableNames = logicSQL.getSqlStatementContext().getTablesContext().getTableNames();
+        return !tableNames.isEmpty() && rule.isAllShardingTables(tableNames) && tableNames.stream().allMatch(each -> isDeterministic(rule, rule.getTableRule(each)));
+    }
+    
+    private boolean isDeterministic(final ShardingRule rule, final TableRule tableRule) {
+        return isDeterministic(rule, rule.getDatabaseShardingStrategyConfiguration(tableRule)) && isDeterministic(rule, rule.getTableShardingStrategyConfiguration(tableRule));
+    }
+    
+    private boolean isDeterministic(final ShardingRule rule, final ShardingStrategyConfiguration shardingStrategyConfig) {
+        if (shardingStrategyConfig instanceof NoneShardingStrategyConfiguration) {
+            return true;
+        }
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration || shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            return !(rule.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName()) instanceof ClassBasedShardingAlgorithm);
+        }
+        return false;
+    }
+    
     @Override
     public int getOrder() {
         return ShardingOrder.ORDER;
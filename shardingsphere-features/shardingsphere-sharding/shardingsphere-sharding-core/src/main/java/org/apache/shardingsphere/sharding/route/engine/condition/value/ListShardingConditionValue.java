@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.route.engine.condition.value;
 
 import com.google.common.base.Joiner;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +30,7 @@ import java.util.Collection;
  */
 @RequiredArgsConstructor
 @Getter
+@EqualsAndHashCode
 public final class ListShardingConditionValue<T extends Comparable<?>> implements ShardingConditionValue {
     
     private final String columnName;
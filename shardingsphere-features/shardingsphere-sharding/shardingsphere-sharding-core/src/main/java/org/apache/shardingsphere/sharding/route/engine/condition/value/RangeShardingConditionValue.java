@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.route.engine.condition.value;
 
 import com.google.common.collect.Range;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
@@ -27,6 +28,7 @@ import lombok.ToString;
  */
 @RequiredArgsConstructor
 @Getter
+@EqualsAndHashCode
 @ToString
 public final class RangeShardingConditionValue<T extends Comparable<?>> implements ShardingConditionValue {
     
@@ -30,7 +30,6 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingS
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
-import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.TableRule;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
@@ -42,13 +41,14 @@ import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShard
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Sharding standard routing engine.
@@ -109,11 +109,14 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     
     private Collection<DataNode> routeByShardingConditionsWithCondition(final ShardingRule shardingRule, final TableRule tableRule, 
                                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new LinkedHashSet<>();
+        Collection<String> databaseShardingColumns = databaseShardingStrategy.getShardingColumns();
+        Collection<String> tableShardingColumns = tableShardingStrategy.getShardingColumns();
+        Map<List<List<ShardingConditionValue>>, Collection<DataNode>> routedDataNodes = new HashMap<>();
         for (ShardingCondition each : shardingConditions.getConditions()) {
-            Collection<DataNode> dataNodes = route0(tableRule, 
-                    databaseShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), each),
-                    tableShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), each));
+            Collection<DataNode> dataNodes = route0(routedDataNodes, tableRule, 
+                    databaseShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, databaseShardingColumns, each),
+                    tableShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, tableShardingColumns, each));
             result.addAll(dataNodes);
             originalDataNodes.add(dataNodes);
         }
@@ -129,9 +132,10 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     
     private Collection<DataNode> routeByMixedConditionsWithCondition(final ShardingRule shardingRule, final TableRule tableRule, 
                                                                      final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
-        Collection<DataNode> result = new LinkedList<>();
+        Collection<DataNode> result = new LinkedHashSet<>();
+        Map<List<List<ShardingConditionValue>>, Collection<DataNode>> routedDataNodes = new HashMap<>();
         for (ShardingCondition each : shardingConditions.getConditions()) {
-            Collection<DataNode> dataNodes = route0(tableRule, databaseShardingStrategy, 
+            Collection<DataNode> dataNodes = route0(routedDataNodes, tableRule, databaseShardingStrategy, 
                     getDatabaseShardingValues(shardingRule, databaseShardingStrategy, each), tableShardingStrategy, getTableShardingValues(shardingRule, tableShardingStrategy, each));
             result.addAll(dataNodes);
             originalDataNodes.add(dataNodes);
@@ -175,16 +179,27 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     
     private List<ShardingConditionValue> getShardingValuesFromShardingConditions(final ShardingRule shardingRule, final Collection<String> shardingColumns, final ShardingCondition shardingCondition) {
         List<ShardingConditionValue> result = new ArrayList<>(shardingColumns.size());
+        boolean isBindingTable = shardingRule.findBindingTableRule(logicTableName).filter(each -> each.hasLogicTable(logicTableName)).isPresent();
         for (ShardingConditionValue each : shardingCondition.getValues()) {
-            Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(logicTableName);
-            if ((logicTableName.equals(each.getTableName()) || bindingTableRule.isPresent() && bindingTableRule.get().hasLogicTable(logicTableName)) 
-                    && shardingColumns.contains(each.getColumnName())) {
+            if ((logicTableName.equals(each.getTableName()) || isBindingTable) && shardingColumns.contains(each.getColumnName())) {
                 result.add(each);
             }
         }
         return result;
     }
     
+    private Collection<DataNode> route0(final Map<List<List<ShardingConditionValue>>, Collection<DataNode>> routedDataNodes, final TableRule tableRule, 
+                                        final ShardingStrategy databaseShardingStrategy, final List<ShardingConditionValue> databaseShardingValues, 
+                                        final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
+        List<List<ShardingConditionValue>> shardingValues = Arrays.asList(databaseShardingValues, tableShardingValues);
+        Collection<DataNode> result = routedDataNodes.get(shardingValues);
+        if (null == result) {
+            result = route0(tableRule, databaseShardingStrategy, databaseShardingValues, tableShardingStrategy, tableShardingValues);
+            routedDataNodes.put(shardingValues, result);
+        }
+        return result;
+    }
+    
     private Collection<DataNode> route0(final TableRule tableRule, 
                                         final ShardingStrategy databaseShardingStrategy, final List<ShardingConditionValue> databaseShardingValues, 
                                         final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
@@ -30,7 +30,9 @@ import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShar
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
@@ -62,13 +64,14 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     
     @SuppressWarnings("unchecked")
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final ListShardingConditionValue<?> shardingValue) {
-        Collection<String> result = new LinkedList<>();
+        Collection<String> targetNames = 1 == shardingValue.getValues().size() || availableTargetNames instanceof Set ? availableTargetNames : new HashSet<>(availableTargetNames);
+        Collection<String> result = new LinkedHashSet<>();
         for (Comparable<?> each : shardingValue.getValues()) {
             String target;
             target = shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), each));
-            if (null != target && availableTargetNames.contains(target)) {
+            if (null != target && targetNames.contains(target)) {
                 result.add(target);
-            } else if (null != target && !availableTargetNames.contains(target)) {
+            } else if (null != target && !targetNames.contains(target)) {
                 throw new ShardingSphereException(String.format("Route table %s does not exist, available actual table: %s", target, availableTargetNames));
             }
         }
@@ -23,7 +23,12 @@ import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import com.google.common.collect.Sets;
 import com.google.common.eventbus.Subscribe;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
@@ -52,10 +57,13 @@ import org.apache.shardingsphere.sharding.rule.single.SingleTableRule;
 import org.apache.shardingsphere.sharding.rule.single.SingleTableRuleLoader;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 
 import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -71,7 +79,7 @@ import java.util.stream.Collectors;
  * Sharding rule.
  */
 @Getter
-public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeContainedRule, TableContainedRule {
+public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeContainedRule, TableContainedRule, AutoCloseable {
     
     static {
         ShardingSphereServiceLoader.register(ShardingAlgorithm.class);
@@ -86,8 +94,17 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
     
     private final Collection<TableRule> tableRules;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> actualTableRules;
+    
     private final Collection<BindingTableRule> bindingTableRules;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicTableBindingTableRules;
+    
     private final Collection<String> broadcastTables;
     
     private final Map<String, SingleTableRule> singleTableRules;
@@ -105,8 +122,11 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         config.getKeyGenerators().forEach((key, value) -> keyGenerators.put(key, ShardingSphereAlgorithmFactory.createAlgorithm(value, KeyGenerateAlgorithm.class)));
         tableRules = new LinkedList<>(createTableRules(config.getTables(), config.getDefaultKeyGenerateStrategy()));
         tableRules.addAll(createAutoTableRules(config.getAutoTables(), config.getDefaultKeyGenerateStrategy()));
+        logicTableRules = createLogicTableRules(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
         broadcastTables = config.getBroadcastTables();
         bindingTableRules = createBindingTableRules(config.getBindingTableGroups());
+        logicTableBindingTableRules = createLogicTableBindingTableRules(bindingTableRules);
         singleTableRules = SingleTableRuleLoader.load(databaseType, dataSourceMap, getExcludedTables());
         defaultDatabaseShardingStrategyConfig = null == config.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultDatabaseShardingStrategy();
         defaultTableShardingStrategyConfig = null == config.getDefaultTableShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultTableShardingStrategy();
@@ -122,8 +142,11 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         keyGenerators.putAll(config.getKeyGenerators());
         tableRules = new LinkedList<>(createTableRules(config.getTables(), config.getDefaultKeyGenerateStrategy()));
         tableRules.addAll(createAutoTableRules(config.getAutoTables(), config.getDefaultKeyGenerateStrategy()));
+        logicTableRules = createLogicTableRules(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
         broadcastTables = config.getBroadcastTables();
         bindingTableRules = createBindingTableRules(config.getBindingTableGroups());
+        logicTableBindingTableRules = createLogicTableBindingTableRules(bindingTableRules);
         singleTableRules = SingleTableRuleLoader.load(databaseType, dataSourceMap, getExcludedTables());
         defaultDatabaseShardingStrategyConfig = null == config.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultDatabaseShardingStrategy();
         defaultTableShardingStrategyConfig = null == config.getDefaultTableShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultTableShardingStrategy();
@@ -175,6 +198,24 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         return Optional.ofNullable(defaultKeyGenerateStrategyConfig).map(KeyGenerateStrategyConfiguration::getColumn).orElse(null);
     }
     
+    private Map<String, TableRule> createLogicTableRules(final Collection<TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            result.putIfAbsent(each.getLogicTable().toLowerCase(), each);
+        }
+        return result;
+    }
+    
+    private Map<String, TableRule> createActualTableRules(final Collection<TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.putIfAbsent(dataNode.getTableName().toLowerCase(), each);
+            }
+        }
+        return result;
+    }
+    
     private Collection<BindingTableRule> createBindingTableRules(final Collection<String> bindingTableGroups) {
         return bindingTableGroups.stream().map(this::createBindingTableRule).collect(Collectors.toList());
     }
@@ -183,6 +224,16 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         return new BindingTableRule(Splitter.on(",").trimResults().splitToList(bindingTableGroup).stream().map(this::getTableRule).collect(Collectors.toList()));
     }
     
+    private Map<String, BindingTableRule> createLogicTableBindingTableRules(final Collection<BindingTableRule> bindingTableRules) {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            for (String logicTable : each.getAllLogicTables()) {
+                result.putIfAbsent(logicTable, each);
+            }
+        }
+        return result;
+    }
+    
     private Collection<String> getExcludedTables() {
         Collection<String> result = new HashSet<>(getTables());
         result.addAll(getAllActualTables());
@@ -217,7 +268,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        return tableRules.stream().filter(each -> each.getLogicTable().equalsIgnoreCase(logicTableName)).findFirst();
+        return null == logicTableName ? Optional.empty() : Optional.ofNullable(logicTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -227,7 +278,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        return tableRules.stream().filter(each -> each.isExisted(actualTableName)).findFirst();
+        return null == actualTableName ? Optional.empty() : Optional.ofNullable(actualTableRules.get(actualTableName.toLowerCase()));
     }
     
     /**
@@ -261,9 +312,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         if (!bindingTableRule.isPresent()) {
             return false;
         }
-        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        result.addAll(bindingTableRule.get().getAllLogicTables());
-        return !result.isEmpty() && result.containsAll(logicTableNames);
+        return logicTableNames.stream().allMatch(bindingTableRule.get()::hasLogicTable);
     }
     
     private Optional<BindingTableRule> findBindingTableRule(final Collection<String> logicTableNames) {
@@ -277,7 +326,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        return bindingTableRules.stream().filter(each -> each.hasLogicTable(logicTableName)).findFirst();
+        return null == logicTableName ? Optional.empty() : Optional.ofNullable(logicTableBindingTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -377,7 +426,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final String columnName, final String tableName) {
-        return tableRules.stream().anyMatch(each -> each.getLogicTable().equalsIgnoreCase(tableName) && isShardingColumn(each, columnName));
+        return findTableRule(tableName).map(optional -> isShardingColumn(optional, columnName)).orElse(false);
     }
     
     private boolean isShardingColumn(final TableRule tableRule, final String columnName) {
@@ -394,6 +443,59 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
         return false;
     } 
     
+    /**
+     * Judge whether all rows of each group are in the same data node or not.
+     * 
+     * <p>
+     * It is true when group by columns cover sharding columns of single sharding table, so each data node can aggregate its groups completely without cross-shard merging.
+     * Group by items which refer to alias of other projection expressions are not judged as columns.
+     * </p>
+     *
+     * @param selectStatementContext select statement context
+     * @return whether all rows of each group are in the same data node or not
+     */
+    public boolean isAllGroupsInSameDataNode(final SelectStatementContext selectStatementContext) {
+        Collection<OrderByItem> groupByItems = selectStatementContext.getGroupByContext().getItems();
+        Collection<String> tableNames = selectStatementContext.getTablesContext().getTableNames();
+        if (groupByItems.isEmpty() || 1 != tableNames.size() || selectStatementContext.isContainsSubquery() || selectStatementContext.getProjectionsContext().isDistinctRow()
+                || !selectStatementContext.getProjectionsContext().getAggregationDistinctProjections().isEmpty()
+                || !groupByItems.stream().allMatch(each -> each.getSegment() instanceof ColumnOrderByItemSegment
+                && !isAliasOfOtherExpression(((ColumnOrderByItemSegment) each.getSegment()).getColumn(), selectStatementContext.getProjectionsContext().getProjections()))) {
+            return false;
+        }
+        Collection<String> groupByColumnNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        groupByItems.forEach(each -> groupByColumnNames.add(((ColumnOrderByItemSegment) each.getSegment()).getColumn().getIdentifier().getValue()));
+        return findTableRule(tableNames.iterator().next()).map(optional -> isAllGroupsInSameDataNode(optional, groupByColumnNames)).orElse(false);
+    }
+    
+    private boolean isAllGroupsInSameDataNode(final TableRule tableRule, final Collection<String> groupByColumnNames) {
+        boolean tableDetermined = isShardingColumnsCovered(getTableShardingStrategyConfiguration(tableRule), groupByColumnNames);
+        if (!tableDetermined && tableRule.getDataNodeGroups().values().stream().anyMatch(each -> each.size() > 1)) {
+            return false;
+        }
+        return 1 == tableRule.getActualDatasourceNames().size() || isShardingColumnsCovered(getDatabaseShardingStrategyConfiguration(tableRule), groupByColumnNames)
+                || tableDetermined && tableRule.getActualDataNodes().stream().map(DataNode::getTableName).distinct().count() == tableRule.getActualDataNodes().size();
+    }
+    
+    private boolean isAliasOfOtherExpression(final ColumnSegment column, final Collection<Projection> projections) {
+        if (column.getOwner().isPresent()) {
+            return false;
+        }
+        String columnName = column.getIdentifier().getValue();
+        return projections.stream().anyMatch(each -> each.getAlias().isPresent() && each.getAlias().get().equalsIgnoreCase(columnName)
+                && !(each instanceof ColumnProjection && ((ColumnProjection) each).getName().equalsIgnoreCase(columnName)));
+    }
+    
+    private boolean isShardingColumnsCovered(final ShardingStrategyConfiguration shardingStrategyConfig, final Collection<String> columnNames) {
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            return columnNames.contains(((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn());
+        }
+        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            return columnNames.containsAll(Splitter.on(',').trimResults().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns()));
+        }
+        return false;
+    }
+    
     /**
      * Judge is generate key column or not.
      *
@@ -402,7 +504,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return is generate key column or not
      */
     public boolean isGenerateKeyColumn(final String columnName, final String tableName) {
-        return tableRules.stream().anyMatch(each -> each.getLogicTable().equalsIgnoreCase(tableName) && isGenerateKeyColumn(each, columnName));
+        return findTableRule(tableName).map(optional -> isGenerateKeyColumn(optional, columnName)).orElse(false);
     }
     
     private boolean isGenerateKeyColumn(final TableRule tableRule, final String columnName) {
@@ -417,8 +519,7 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        return tableRules.stream().filter(each -> each.getLogicTable().equalsIgnoreCase(logicTableName) && each.getGenerateKeyColumn().isPresent())
-                .map(TableRule::getGenerateKeyColumn).findFirst().orElse(Optional.empty());
+        return findTableRule(logicTableName).flatMap(TableRule::getGenerateKeyColumn);
     }
     
     /**
@@ -428,12 +529,26 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys to be generated
+     * @return generated keys
+     */
+    public List<Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(count);
+    }
+    
+    private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingSphereConfigurationException("Cannot find strategy for generate keys.");
         }
-        KeyGenerateAlgorithm keyGenerator = null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
-        return keyGenerator.generateKey();
+        return null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
     }
     
     /**
@@ -540,4 +655,13 @@ public final class ShardingRule implements FeatureRule, SchemaRule, DataNodeCont
     private Optional<String> findActualTableFromActualDataNode(final String catalog, final List<DataNode> actualDataNodes) {
         return actualDataNodes.stream().filter(each -> each.getDataSourceName().equalsIgnoreCase(catalog)).findFirst().map(DataNode::getTableName);
     }
+    
+    @Override
+    public void close() throws Exception {
+        for (KeyGenerateAlgorithm each : keyGenerators.values()) {
+            if (each instanceof AutoCloseable) {
+                ((AutoCloseable) each).close();
+            }
+        }
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SegmentKeyGenerateAlgorithmTest {
+    
+    private static final String JDBC_URL = "jdbc:h2:mem:segment_key;DB_CLOSE_DELAY=-1;MODE=MySQL";
+    
+    @Before
+    public void setUp() throws SQLException {
+        try (
+                Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE key_generator_segment (segment_key VARCHAR(128) PRIMARY KEY, max_id BIGINT NOT NULL)");
+        }
+    }
+    
+    @After
+    public void tearDown() throws SQLException {
+        try (
+                Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE key_generator_segment");
+        }
+    }
+    
+    @Test
+    public void assertGenerateKeyWithSingleThread() {
+        SegmentKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm("order");
+        for (long i = 1L; i <= 25L; i++) {
+            assertThat(keyGenerateAlgorithm.generateKey(), is(i));
+        }
+    }
+    
+    @Test
+    public void assertGenerateKeyWithMultipleGenerators() {
+        SegmentKeyGenerateAlgorithm keyGenerateAlgorithm1 = createKeyGenerateAlgorithm("order");
+        SegmentKeyGenerateAlgorithm keyGenerateAlgorithm2 = createKeyGenerateAlgorithm("order");
+        SegmentKeyGenerateAlgorithm keyGenerateAlgorithm3 = createKeyGenerateAlgorithm("order_item");
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (int i = 0; i < 25; i++) {
+            actual.add(keyGenerateAlgorithm1.generateKey());
+            actual.add(keyGenerateAlgorithm2.generateKey());
+        }
+        assertThat(actual.size(), is(50));
+        assertThat(keyGenerateAlgorithm3.generateKey(), is(1L));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithMultipleThreads() throws ExecutionException, InterruptedException {
+        SegmentKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm("order");
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(() -> keyGenerateAlgorithm.generateKeys(100)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<List<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 100));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithConcurrentFirstAllocation() throws ExecutionException, InterruptedException {
+        List<SegmentKeyGenerateAlgorithm> keyGenerateAlgorithms = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            keyGenerateAlgorithms.add(createKeyGenerateAlgorithm("order"));
+        }
+        int threadNumber = keyGenerateAlgorithms.size() * 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            SegmentKeyGenerateAlgorithm keyGenerateAlgorithm = keyGenerateAlgorithms.get(i % keyGenerateAlgorithms.size());
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                return keyGenerateAlgorithm.generateKeys(25);
+            }));
+        }
+        startLatch.countDown();
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<List<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        keyGenerateAlgorithms.forEach(SegmentKeyGenerateAlgorithm::close);
+        assertThat(actual.size(), is(threadNumber * 25));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyAfterClose() {
+        SegmentKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm("order");
+        keyGenerateAlgorithm.close();
+        keyGenerateAlgorithm.generateKey();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitFailureWithoutJdbcUrl() {
+        new SegmentKeyGenerateAlgorithm().init();
+    }
+    
+    private SegmentKeyGenerateAlgorithm createKeyGenerateAlgorithm(final String segmentKey) {
+        Properties props = new Properties();
+        props.setProperty("jdbc-url", JDBC_URL);
+        props.setProperty("username", "sa");
+        props.setProperty("segment-key", segmentKey);
+        props.setProperty("step", "10");
+        SegmentKeyGenerateAlgorithm result = new SegmentKeyGenerateAlgorithm();
+        result.setProps(props);
+        result.init();
+        return result;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.algorithm.keygen;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.sharding.algorithm.keygen.fixture.BlockingTimeService;
 import org.apache.shardingsphere.sharding.algorithm.keygen.fixture.FixedTimeService;
 import org.junit.Test;
 
@@ -32,6 +33,8 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
@@ -58,6 +61,73 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual.size(), is(taskNumber));
     }
     
+    @Test
+    public void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        keyGenerateAlgorithm.setProps(new Properties());
+        keyGenerateAlgorithm.init();
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(() -> keyGenerateAlgorithm.generateKeys(5000)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(threadNumber * 5000, 1);
+        for (Future<List<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 5000));
+    }
+    
+    @Test
+    public void assertGenerateKeyWhenPeerThreadMovesToNextMillisecond() throws ExecutionException, InterruptedException {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        BlockingTimeService timeService = new BlockingTimeService();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        Properties props = new Properties();
+        props.setProperty("max-tolerate-time-difference-milliseconds", String.valueOf(0));
+        keyGenerateAlgorithm.setProps(props);
+        keyGenerateAlgorithm.init();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Future<Comparable<?>> blockedKey = executor.submit(() -> {
+            timeService.blockCurrentThread();
+            return keyGenerateAlgorithm.generateKey();
+        });
+        timeService.awaitBlocked();
+        timeService.tick();
+        Comparable<?> peerKey = keyGenerateAlgorithm.generateKey();
+        timeService.resume();
+        assertThat(blockedKey.get(), not(peerKey));
+        executor.shutdown();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+    }
+    
+    @Test
+    public void assertGenerateKeysWithSingleThread() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        keyGenerateAlgorithm.setProps(new Properties());
+        keyGenerateAlgorithm.init();
+        assertThat(keyGenerateAlgorithm.generateKeys(3), is(Arrays.<Comparable<?>>asList(0L, 1L, 2L)));
+        assertThat(keyGenerateAlgorithm.generateKeys(2), is(Arrays.<Comparable<?>>asList(4194305L, 4194306L)));
+        assertThat(keyGenerateAlgorithm.generateKeys(0).size(), is(0));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        keyGenerateAlgorithm.setProps(new Properties());
+        keyGenerateAlgorithm.init();
+        setLastMilliseconds(keyGenerateAlgorithm, timeService.getCurrentMillis());
+        setSequence(keyGenerateAlgorithm, (1 << DEFAULT_SEQUENCE_BITS) - 3);
+        List<Comparable<?>> actual = keyGenerateAlgorithm.generateKeys(4);
+        assertThat(actual, is(Arrays.<Comparable<?>>asList(4094L, 4095L, 4194304L, 4194305L)));
+    }
+    
     @Test
     public void assertGenerateKeyWithSingleThread() {
         SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
@@ -161,18 +231,21 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private void setSequence(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final Number value) {
-        Field sequence = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence");
-        sequence.setAccessible(true);
-        sequence.set(keyGenerateAlgorithm, value);
+    private void setSequence(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final long value) {
+        AtomicLong state = getState(keyGenerateAlgorithm);
+        state.set((state.get() >>> DEFAULT_SEQUENCE_BITS << DEFAULT_SEQUENCE_BITS) | value);
+    }
+    
+    private void setLastMilliseconds(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final long value) {
+        AtomicLong state = getState(keyGenerateAlgorithm);
+        state.set((value << DEFAULT_SEQUENCE_BITS) | (state.get() & ((1 << DEFAULT_SEQUENCE_BITS) - 1)));
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setLastMilliseconds(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final Number value) {
-        Field lastMilliseconds = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMilliseconds");
-        lastMilliseconds.setAccessible(true);
-        lastMilliseconds.set(keyGenerateAlgorithm, value);
+    private AtomicLong getState(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm) {
+        Field state = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("state");
+        state.setAccessible(true);
+        return (AtomicLong) state.get(keyGenerateAlgorithm);
     }
     
     @Test(expected = IllegalArgumentException.class)
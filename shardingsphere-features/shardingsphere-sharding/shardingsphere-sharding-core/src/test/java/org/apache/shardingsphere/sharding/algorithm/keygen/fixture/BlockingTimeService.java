@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen.fixture;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sharding.algorithm.keygen.SnowflakeKeyGenerateAlgorithm;
+import org.apache.shardingsphere.sharding.algorithm.keygen.TimeService;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class BlockingTimeService extends TimeService {
+    
+    private final AtomicLong current = new AtomicLong(SnowflakeKeyGenerateAlgorithm.EPOCH);
+    
+    private final CountDownLatch blockedLatch = new CountDownLatch(1);
+    
+    private final CountDownLatch resumeLatch = new CountDownLatch(1);
+    
+    private volatile Thread blockedThread;
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public long getCurrentMillis() {
+        long result = current.get();
+        if (Thread.currentThread() == blockedThread) {
+            blockedThread = null;
+            blockedLatch.countDown();
+            resumeLatch.await();
+        }
+        return result;
+    }
+    
+    /**
+     * Block current thread after it reads time next time.
+     */
+    public void blockCurrentThread() {
+        blockedThread = Thread.currentThread();
+    }
+    
+    /**
+     * Wait until blocked thread has read time.
+     * 
+     * @throws InterruptedException interrupted exception
+     */
+    public void awaitBlocked() throws InterruptedException {
+        blockedLatch.await();
+    }
+    
+    /**
+     * Resume blocked thread.
+     */
+    public void resume() {
+        resumeLatch.countDown();
+    }
+    
+    /**
+     * Move time to next millisecond.
+     */
+    public void tick() {
+        current.incrementAndGet();
+    }
+}
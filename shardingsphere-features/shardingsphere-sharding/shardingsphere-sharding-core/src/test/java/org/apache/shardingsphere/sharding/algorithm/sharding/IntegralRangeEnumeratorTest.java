@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import com.google.common.collect.Range;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class IntegralRangeEnumeratorTest {
+    
+    @Test
+    public void assertEnumerateClosedRange() {
+        Optional<Collection<Comparable<?>>> actual = IntegralRangeEnumerator.enumerate(Range.closed(1, 3), 10);
+        assertTrue(actual.isPresent());
+        assertThat(new ArrayList<>(actual.get()), is(Arrays.<Comparable<?>>asList(1, 2, 3)));
+    }
+    
+    @Test
+    public void assertEnumerateOpenRange() {
+        Optional<Collection<Comparable<?>>> actual = IntegralRangeEnumerator.enumerate(Range.open(1L, 4L), 10);
+        assertTrue(actual.isPresent());
+        assertThat(new ArrayList<>(actual.get()), is(Arrays.<Comparable<?>>asList(2L, 3L)));
+    }
+    
+    @Test
+    public void assertEnumerateEmptyRange() {
+        Optional<Collection<Comparable<?>>> actual = IntegralRangeEnumerator.enumerate(Range.open(Long.MAX_VALUE - 1, Long.MAX_VALUE), 10);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    public void assertEnumerateRangeWiderThanMaxSpan() {
+        assertFalse(IntegralRangeEnumerator.enumerate(Range.closed(1, 10), 9).isPresent());
+        assertTrue(IntegralRangeEnumerator.enumerate(Range.closed(1, 10), 10).isPresent());
+        assertFalse(IntegralRangeEnumerator.enumerate(Range.closed(Long.MIN_VALUE, Long.MAX_VALUE), 10).isPresent());
+    }
+    
+    @Test
+    public void assertEnumerateWithoutMaxSpan() {
+        assertFalse(IntegralRangeEnumerator.enumerate(Range.closed(1, 3), 0).isPresent());
+    }
+    
+    @Test
+    public void assertEnumerateUnboundedRange() {
+        assertFalse(IntegralRangeEnumerator.enumerate(Range.atLeast(1), 10).isPresent());
+    }
+    
+    @Test
+    public void assertEnumerateNonIntegralRange() {
+        assertFalse(IntegralRangeEnumerator.enumerate(Range.closed("a", "c"), 10).isPresent());
+    }
+}
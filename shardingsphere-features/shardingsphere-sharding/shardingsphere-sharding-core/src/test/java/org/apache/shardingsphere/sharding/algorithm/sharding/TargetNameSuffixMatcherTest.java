@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class TargetNameSuffixMatcherTest {
+    
+    @Test
+    public void assertFindFirst() {
+        Collection<String> targetNames = createTargetNames(20);
+        assertThat(TargetNameSuffixMatcher.findFirst(targetNames, "1", 2), is(Optional.of("t_order_1")));
+        assertThat(TargetNameSuffixMatcher.findFirst(targetNames, "11", 2), is(Optional.of("t_order_11")));
+        assertFalse(TargetNameSuffixMatcher.findFirst(targetNames, "20", 2).isPresent());
+    }
+    
+    @Test
+    public void assertFindAll() {
+        Collection<String> targetNames = createTargetNames(20);
+        assertThat(TargetNameSuffixMatcher.findAll(targetNames, "1", 2), is(Arrays.asList("t_order_1", "t_order_11")));
+        assertThat(TargetNameSuffixMatcher.findAll(targetNames, "r_1", 2), is(Arrays.asList("t_order_1")));
+        assertThat(TargetNameSuffixMatcher.findAll(targetNames, "", 2).size(), is(20));
+    }
+    
+    @Test
+    public void assertFindAllWithoutIndex() {
+        assertThat(TargetNameSuffixMatcher.findAll(createTargetNames(12), "1", 2), is(Arrays.asList("t_order_1", "t_order_11")));
+    }
+    
+    @Test
+    public void assertFindAllAfterTargetNamesChanged() {
+        Collection<String> targetNames = createTargetNames(20);
+        assertThat(TargetNameSuffixMatcher.findAll(targetNames, "21", 2).size(), is(0));
+        targetNames.add("t_order_21");
+        assertThat(TargetNameSuffixMatcher.findAll(targetNames, "21", 2), is(Arrays.asList("t_order_21")));
+    }
+    
+    private Collection<String> createTargetNames(final int size) {
+        Collection<String> result = new LinkedHashSet<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add("t_order_" + i);
+        }
+        return result;
+    }
+}
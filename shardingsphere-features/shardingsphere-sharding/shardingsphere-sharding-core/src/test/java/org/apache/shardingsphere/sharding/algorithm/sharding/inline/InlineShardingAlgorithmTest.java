@@ -24,6 +24,8 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingVal
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -76,4 +78,13 @@ public final class InlineShardingAlgorithmTest {
         assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 0)), is("t_order_0"));
         assertThat(inlineShardingAlgorithmWithSimplified.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 0)), is("t_order_0"));
     }
+    
+    @Test
+    public void assertDoShardingWithRangeEnumeration() {
+        inlineShardingAlgorithm.getProps().setProperty("range-enumeration-max-span", "10");
+        inlineShardingAlgorithm.init();
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = inlineShardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", Range.closed(6L, 7L)));
+        assertThat(new ArrayList<>(actual), is(Arrays.asList("t_order_2", "t_order_3")));
+    }
 }
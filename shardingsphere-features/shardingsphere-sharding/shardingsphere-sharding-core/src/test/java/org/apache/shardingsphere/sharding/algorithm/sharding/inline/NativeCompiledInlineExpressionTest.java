@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class NativeCompiledInlineExpressionTest {
+    
+    @Test
+    public void assertCompileForModExpression() {
+        assertThat(CompiledInlineExpressionFactory.newInstance("t_order_${order_id % 4}"), instanceOf(NativeCompiledInlineExpression.class));
+    }
+    
+    @Test
+    public void assertCompileForPlainLiteral() {
+        assertThat(CompiledInlineExpressionFactory.newInstance("t_order").evaluate(Collections.emptyMap()), is("t_order"));
+    }
+    
+    @Test
+    public void assertCompileForUnsupportedExpression() {
+        assertThat(CompiledInlineExpressionFactory.newInstance("t_order_${order_id.hashCode() % 4}"), instanceOf(GroovyCompiledInlineExpression.class));
+        assertThat(CompiledInlineExpressionFactory.newInstance("t_order_${order_id / 4}"), instanceOf(GroovyCompiledInlineExpression.class));
+        assertThat(CompiledInlineExpressionFactory.newInstance("t_order_${order_id % 2 == 0 ? 0 : 1}"), instanceOf(GroovyCompiledInlineExpression.class));
+        assertThat(CompiledInlineExpressionFactory.newInstance("t_order_${it}"), instanceOf(GroovyCompiledInlineExpression.class));
+        assertThat(CompiledInlineExpressionFactory.newInstance("t_order_${Integer}"), instanceOf(GroovyCompiledInlineExpression.class));
+        assertThat(CompiledInlineExpressionFactory.newInstance("t_order_${010 + order_id}"), instanceOf(GroovyCompiledInlineExpression.class));
+        assertThat(CompiledInlineExpressionFactory.newInstance("t_order_$order_id"), instanceOf(GroovyCompiledInlineExpression.class));
+    }
+    
+    @Test
+    public void assertEvaluateSameAsGroovy() {
+        assertEvaluateResult("t_order_${order_id % 4}", Collections.singletonMap("order_id", 7));
+        assertEvaluateResult("t_order_${order_id % 4}", Collections.singletonMap("order_id", -7));
+        assertEvaluateResult("t_order_${order_id % 4}", Collections.singletonMap("order_id", 7L));
+        assertEvaluateResult("t_order_${order_id % 4}", Collections.singletonMap("order_id", (short) 7));
+        assertEvaluateResult("t_order_${(order_id + 1) * 3 - 2 % 5}", Collections.singletonMap("order_id", 11));
+        assertEvaluateResult("t_order_${order_id * 3}", Collections.singletonMap("order_id", Integer.MAX_VALUE));
+        assertEvaluateResult("t_order_${order_id * 3}", Collections.singletonMap("order_id", (long) Integer.MAX_VALUE));
+        assertEvaluateResult("t_order_${order_id + 3000000000}", Collections.singletonMap("order_id", 1));
+        assertEvaluateResult("t_order_${order_id}", Collections.singletonMap("order_id", "foo"));
+        assertEvaluateResult("t_order_${order_id}", Collections.singletonMap("order_id", new BigDecimal("1.50")));
+        assertEvaluateResult("t_order_${ORDER_ID % 2}", Collections.singletonMap("ORDER_ID", 3));
+        Map<String, Object> variables = new HashMap<>(2, 1);
+        variables.put("user_id", 5);
+        variables.put("order_id", 9L);
+        assertEvaluateResult("ds_${user_id % 2}.t_order_${order_id % 4}_${user_id + order_id}", variables);
+    }
+    
+    @Test
+    public void assertEvaluateWithFallbackForUnsupportedVariableType() {
+        assertEvaluateResult("t_order_${order_id * 2}", Collections.singletonMap("order_id", new BigDecimal("7.5")));
+        assertEvaluateResult("t_order_${order_id + 1}", Collections.singletonMap("order_id", "7"));
+    }
+    
+    private void assertEvaluateResult(final String inlineExpression, final Map<String, ?> variables) {
+        CompiledInlineExpression groovyExpression = new GroovyCompiledInlineExpression(inlineExpression);
+        CompiledInlineExpression nativeExpression = NativeCompiledInlineExpression.compile(inlineExpression, groovyExpression).orElse(null);
+        assertFalse(null == nativeExpression);
+        assertThat(nativeExpression.evaluate(variables), is(groovyExpression.evaluate(variables)));
+    }
+}
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingVal
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -53,4 +55,22 @@ public final class HashModShardingAlgorithmTest {
         Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "create_time", Range.closed("a", "f")));
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    public void assertRangeDoShardingWithRangeEnumeration() {
+        shardingAlgorithm.getProps().setProperty("range-enumeration-max-span", "10");
+        shardingAlgorithm.init();
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", Range.closedOpen(5, 7)));
+        assertThat(new ArrayList<>(actual), is(Arrays.asList("t_order_1", "t_order_2")));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithRangeWiderThanMaxSpan() {
+        shardingAlgorithm.getProps().setProperty("range-enumeration-max-span", "10");
+        shardingAlgorithm.init();
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", Range.closed(5L, 100L)));
+        assertThat(actual.size(), is(4));
+    }
 }
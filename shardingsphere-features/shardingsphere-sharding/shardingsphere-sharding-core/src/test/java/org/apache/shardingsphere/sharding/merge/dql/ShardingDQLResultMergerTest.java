@@ -25,12 +25,17 @@ import org.apache.shardingsphere.infra.binder.segment.select.pagination.Paginati
 import org.apache.shardingsphere.infra.binder.segment.select.projection.ProjectionsContext;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
@@ -39,8 +44,11 @@ import org.apache.shardingsphere.sharding.merge.dql.pagination.LimitDecoratorMer
 import org.apache.shardingsphere.sharding.merge.dql.pagination.RowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.TopAndRowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.rownum.NumberLiteralRowNumberValueSegment;
@@ -53,11 +61,13 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.statement.oracle.dml.Ora
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.sqlserver.dml.SQLServerSelectStatement;
 import org.junit.Test;
 
+import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
@@ -83,7 +93,7 @@ public final class ShardingDQLResultMergerTest {
                 new GroupByContext(Collections.emptyList()), new OrderByContext(Collections.emptyList(), false),
                 new ProjectionsContext(0, 0, false, Collections.emptyList()), 
                 new PaginationContext(new NumberLiteralLimitValueSegment(0, 0, 1), null, Collections.emptyList()));
-        assertThat(resultMerger.merge(Collections.singletonList(createQueryResult()), selectStatementContext, buildSchema()), instanceOf(IteratorStreamMergedResult.class));
+        assertThat(resultMerger.merge(Collections.singletonList(createQueryResult("count(*)")), selectStatementContext, buildSchema()), instanceOf(IteratorStreamMergedResult.class));
     }
     
     @Test
@@ -181,6 +191,39 @@ public final class ShardingDQLResultMergerTest {
         assertThat(resultMerger.merge(createQueryResults(), selectStatementContext, buildSchema()), instanceOf(GroupByStreamMergedResult.class));
     }
     
+    @Test
+    public void assertBuildOrderByStreamMergedResultWithAllGroupsInSameDataNode() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(
+                DatabaseTypeRegistry.getActualDatabaseType("MySQL"), new ConfigurationProperties(new Properties()), createShardingRule());
+        List<OrderByItem> groupByItems = Collections.singletonList(new OrderByItem(new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("col")), OrderDirection.ASC)));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(buildSelectStatement(new MySQLSelectStatement()),
+                new GroupByContext(groupByItems), new OrderByContext(groupByItems, true),
+                new ProjectionsContext(0, 0, false, Collections.emptyList()), new PaginationContext(null, null, Collections.emptyList()));
+        assertThat(resultMerger.merge(createQueryResults("col"), selectStatementContext, buildSchema()), instanceOf(OrderByStreamMergedResult.class));
+    }
+    
+    @Test
+    public void assertBuildOrderByStreamMergedResultWithAverageWhenAllGroupsInSameDataNode() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(
+                DatabaseTypeRegistry.getActualDatabaseType("MySQL"), new ConfigurationProperties(new Properties()), createShardingRule());
+        List<OrderByItem> groupByItems = Collections.singletonList(new OrderByItem(new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("col")), OrderDirection.ASC)));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(buildSelectStatement(new MySQLSelectStatement()),
+                new GroupByContext(groupByItems), new OrderByContext(groupByItems, true),
+                new ProjectionsContext(0, 0, false, Collections.singletonList(createAverageProjection())), new PaginationContext(null, null, Collections.emptyList()));
+        assertThat(resultMerger.merge(createQueryResults("col", "avg_num"), selectStatementContext, buildSchema()), instanceOf(OrderByStreamMergedResult.class));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertMergeAverageWithoutDerivedColumnsWhenGroupsNotInSameDataNode() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(
+                DatabaseTypeRegistry.getActualDatabaseType("MySQL"), new ConfigurationProperties(new Properties()), createShardingRule());
+        List<OrderByItem> groupByItems = Collections.singletonList(new OrderByItem(new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("other")), OrderDirection.ASC)));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(buildSelectStatement(new MySQLSelectStatement()),
+                new GroupByContext(groupByItems), new OrderByContext(groupByItems, true),
+                new ProjectionsContext(0, 0, false, Collections.singletonList(createAverageProjection())), new PaginationContext(null, null, Collections.emptyList()));
+        resultMerger.merge(createQueryResults("other", "avg_num"), selectStatementContext, buildSchema());
+    }
+    
     @Test
     public void assertBuildGroupByStreamMergedResultWithMySQLLimit() throws SQLException {
         ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"));
@@ -320,8 +363,12 @@ public final class ShardingDQLResultMergerTest {
     }
     
     private List<QueryResult> createQueryResults() throws SQLException {
+        return createQueryResults("count(*)");
+    }
+    
+    private List<QueryResult> createQueryResults(final String... columnLabels) throws SQLException {
         List<QueryResult> result = new LinkedList<>();
-        QueryResult queryResult = createQueryResult();
+        QueryResult queryResult = createQueryResult(columnLabels);
         result.add(queryResult);
         result.add(mock(QueryResult.class, RETURNS_DEEP_STUBS));
         result.add(mock(QueryResult.class, RETURNS_DEEP_STUBS));
@@ -329,10 +376,12 @@ public final class ShardingDQLResultMergerTest {
         return result;
     }
     
-    private QueryResult createQueryResult() throws SQLException {
+    private QueryResult createQueryResult(final String... columnLabels) throws SQLException {
         QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
-        when(result.getMetaData().getColumnCount()).thenReturn(1);
-        when(result.getMetaData().getColumnLabel(1)).thenReturn("count(*)");
+        when(result.getMetaData().getColumnCount()).thenReturn(columnLabels.length);
+        for (int i = 0; i < columnLabels.length; i++) {
+            when(result.getMetaData().getColumnLabel(i + 1)).thenReturn(columnLabels[i]);
+        }
         when(result.getValue(1, Object.class)).thenReturn(0);
         return result;
     }
@@ -345,6 +394,22 @@ public final class ShardingDQLResultMergerTest {
         return new ShardingSphereSchema(ImmutableMap.of("tbl", tableMetaData));
     }
     
+    private AggregationProjection createAverageProjection() {
+        AggregationProjection result = new AggregationProjection(AggregationType.AVG, "(num)", "avg_num");
+        result.getDerivedAggregationProjections().add(new AggregationProjection(AggregationType.COUNT, "(num)", "AVG_DERIVED_COUNT_0"));
+        result.getDerivedAggregationProjections().add(new AggregationProjection(AggregationType.SUM, "(num)", "AVG_DERIVED_SUM_0"));
+        return result;
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("tbl", "ds.tbl_${0..1}");
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("col", "standard"));
+        shardingRuleConfig.getTables().add(tableRuleConfig);
+        shardingRuleConfig.getShardingAlgorithms().put("standard", new ShardingSphereAlgorithmConfiguration("STANDARD_TEST", new Properties()));
+        return new ShardingRule(shardingRuleConfig, DatabaseTypeRegistry.getActualDatabaseType("MySQL"), Collections.singletonMap("ds", mock(DataSource.class, RETURNS_DEEP_STUBS)));
+    }
+    
     private SelectStatement buildSelectStatement(final SelectStatement result) {
         SimpleTableSegment tableSegment = new SimpleTableSegment(new TableNameSegment(10, 13, new IdentifierValue("tbl")));
         result.setFrom(tableSegment);
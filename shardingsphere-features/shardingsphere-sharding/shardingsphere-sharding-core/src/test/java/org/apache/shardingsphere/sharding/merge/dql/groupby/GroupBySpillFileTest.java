@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillFileTest {
+    
+    @Rule
+    public TemporaryFolder spillDirectory = new TemporaryFolder();
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        GroupBySpillFile actual = new GroupBySpillFile(spillDirectory.getRoot().getPath());
+        Object[] firstRecord = {new Object[] {"group", 1}, new Object[] {1, 2L, new BigDecimal("1.10")}};
+        Object[] secondRecord = {new Object[] {null, 2}, new Object[] {null, "value", new byte[] {1}}};
+        actual.write(firstRecord);
+        actual.write(secondRecord);
+        actual.finishWriting();
+        assertThat(actual.getSize(), is(2));
+        assertThat(actual.read(), is(firstRecord));
+        assertThat(actual.read(), is(secondRecord));
+        assertNull(actual.read());
+        assertThat(spillDirectory.getRoot().list().length, is(0));
+    }
+    
+    @Test
+    public void assertWriteAndReadNotSerializableLargeObjects() throws IOException, SQLException {
+        Blob blob = mock(Blob.class);
+        when(blob.length()).thenReturn(2L);
+        when(blob.getBytes(1L, 2)).thenReturn(new byte[] {1, 2});
+        Clob clob = mock(Clob.class);
+        when(clob.length()).thenReturn(5L);
+        when(clob.getSubString(1L, 5)).thenReturn("value");
+        Array array = mock(Array.class);
+        when(array.getArray()).thenReturn(new Object[] {1, "value"});
+        GroupBySpillFile actual = new GroupBySpillFile(spillDirectory.getRoot().getPath());
+        actual.write(new Object[] {blob, clob, array});
+        actual.finishWriting();
+        assertThat(actual.read(), is(new Object[] {new byte[] {1, 2}, "value", new Object[] {1, "value"}}));
+        assertNull(actual.read());
+    }
+}
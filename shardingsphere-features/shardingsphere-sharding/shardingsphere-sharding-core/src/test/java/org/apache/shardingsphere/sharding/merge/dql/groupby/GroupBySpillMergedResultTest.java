@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    @Rule
+    public TemporaryFolder spillDirectory = new TemporaryFolder();
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        MergedResult actual = createResultMerger(1).merge(Arrays.asList(createQueryResult(), createQueryResult(), createQueryResult()), createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(0));
+        assertThat(actual.getValue(2, Object.class), is(nullValue()));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithoutSpill() throws SQLException {
+        assertNextForSomeResultSetsEmpty(createResultMerger(1000));
+        assertThat(spillDirectory.getRoot().list().length, is(0));
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        assertNextForSomeResultSetsEmpty(createResultMerger(1));
+        assertThat(spillDirectory.getRoot().list().length, is(0));
+    }
+    
+    @Test
+    public void assertNextWithMultiPassMerge() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[] {1, 0, 1, 1, 10}, new Object[] {1, 0, 3, 1, 30});
+        QueryResult queryResult2 = createQueryResult(new Object[] {1, 0, 2, 1, 20}, new Object[] {1, 0, 1, 1, 10}, new Object[] {1, 0, 4, 1, 40});
+        QueryResult queryResult3 = createQueryResult(new Object[] {1, 0, 3, 1, 30}, new Object[] {1, 0, 5, 1, 50}, new Object[] {1, 0, 1, 1, 10});
+        MergedResult actual = new GroupBySpillMergedResult(
+                Arrays.asList(queryResult1, queryResult2, queryResult3), createIndexedSelectStatementContext(), null, 1, spillDirectory.getRoot().getAbsolutePath(), 2);
+        int[] expectedIds = {5, 4, 3, 2, 1};
+        int[] expectedCounts = {1, 1, 2, 1, 3};
+        for (int i = 0; i < expectedIds.length; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(3, Object.class), is(expectedIds[i]));
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(expectedCounts[i])));
+        }
+        assertFalse(actual.next());
+        assertThat(spillDirectory.getRoot().list().length, is(0));
+    }
+    
+    @Test
+    public void assertNextWithSpillForComparableButNotEqualGroupByValues() throws SQLException {
+        assertNextForComparableButNotEqualGroupByValues(createResultMerger(1));
+        assertNextForComparableButNotEqualGroupByValues(createResultMerger(1000));
+    }
+    
+    private void assertNextForComparableButNotEqualGroupByValues(final ShardingDQLResultMerger resultMerger) throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[] {2, 0, new BigDecimal("1.0"), 2, 20});
+        QueryResult queryResult2 = createQueryResult(new Object[] {7, 0, new BigDecimal("1.00"), 7, 70});
+        QueryResult queryResult3 = createQueryResult(new Object[] {3, 0, new BigDecimal("1.0"), 3, 30});
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), null);
+        Map<Object, Object> actualCounts = new HashMap<>(2, 1);
+        while (actual.next()) {
+            actualCounts.put(actual.getValue(3, Object.class), actual.getValue(1, Object.class));
+        }
+        assertThat(actualCounts.size(), is(2));
+        assertThat(actualCounts.get(new BigDecimal("1.0")), is(new BigDecimal(5)));
+        assertThat(actualCounts.get(new BigDecimal("1.00")), is(new BigDecimal(7)));
+    }
+    
+    private void assertNextForSomeResultSetsEmpty(final ShardingDQLResultMerger resultMerger) throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[] {20, 0, 2, 2, 20});
+        QueryResult queryResult2 = createQueryResult();
+        QueryResult queryResult3 = createQueryResult(new Object[] {20, 0, 2, 2, 20}, new Object[] {30, 0, 3, 3, 30});
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    private ShardingDQLResultMerger createResultMerger(final int maxMemoryRows) {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_ROWS.getKey(), String.valueOf(maxMemoryRows));
+        props.setProperty(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_DIRECTORY.getKey(), spillDirectory.getRoot().getAbsolutePath());
+        return new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), new ConfigurationProperties(props));
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        AggregationProjection aggregationProjection1 = new AggregationProjection(AggregationType.COUNT, "(*)", null);
+        aggregationProjection1.setIndex(1);
+        AggregationProjection aggregationProjection2 = new AggregationProjection(AggregationType.AVG, "(num)", null);
+        aggregationProjection2.setIndex(2);
+        AggregationProjection derivedAggregationProjection1 = new AggregationProjection(AggregationType.COUNT, "(num)", "AVG_DERIVED_COUNT_0");
+        aggregationProjection2.setIndex(4);
+        aggregationProjection2.getDerivedAggregationProjections().add(derivedAggregationProjection1);
+        AggregationProjection derivedAggregationProjection2 = new AggregationProjection(AggregationType.SUM, "(num)", "AVG_DERIVED_SUM_0");
+        aggregationProjection2.setIndex(5);
+        aggregationProjection2.getDerivedAggregationProjections().add(derivedAggregationProjection2);
+        ProjectionsContext projectionsContext = new ProjectionsContext(0, 0, false, Arrays.asList(aggregationProjection1, aggregationProjection2));
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        selectStatement.setProjections(projectionsSegment);
+        return new SelectStatementContext(selectStatement,
+                new GroupByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC)))),
+                new OrderByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))), false),
+                projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private SelectStatementContext createIndexedSelectStatementContext() {
+        Map<String, Integer> columnLabelIndexMap = new HashMap<>(5, 1);
+        columnLabelIndexMap.put("COUNT(*)", 1);
+        columnLabelIndexMap.put("AVG(num)", 2);
+        columnLabelIndexMap.put("id", 3);
+        columnLabelIndexMap.put("AVG_DERIVED_COUNT_0", 4);
+        columnLabelIndexMap.put("AVG_DERIVED_SUM_0", 5);
+        SelectStatementContext result = createSelectStatementContext();
+        result.setIndexes(columnLabelIndexMap, true);
+        return result;
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rows.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows[rowIndex.get()][invocation.<Integer>getArgument(0) - 1]);
+        return result;
+    }
+}
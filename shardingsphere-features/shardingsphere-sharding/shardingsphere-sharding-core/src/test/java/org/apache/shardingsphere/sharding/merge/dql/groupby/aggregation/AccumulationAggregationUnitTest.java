@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -36,4 +37,31 @@ public final class AccumulationAggregationUnitTest {
         accumulationAggregationUnit.merge(Collections.singletonList(10));
         assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(12));
     }
+    
+    @Test
+    public void assertAccumulationAggregationWithDouble() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(0.1D));
+        accumulationAggregationUnit.merge(Collections.singletonList(0.2D));
+        assertThat((BigDecimal) accumulationAggregationUnit.getResult(), is(new BigDecimal("0.3")));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithFloat() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(0.1F));
+        accumulationAggregationUnit.merge(Collections.singletonList(2.5F));
+        assertThat((BigDecimal) accumulationAggregationUnit.getResult(), is(new BigDecimal("2.6")));
+    }
+    
+    @Test
+    public void assertCombine() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(2));
+        AccumulationAggregationUnit otherAggregationUnit = new AccumulationAggregationUnit();
+        otherAggregationUnit.merge(Collections.singletonList(10));
+        accumulationAggregationUnit.combine(otherAggregationUnit);
+        accumulationAggregationUnit.combine(new AccumulationAggregationUnit());
+        assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(12));
+    }
 }
@@ -17,11 +17,19 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 import org.junit.Test;
 
+import java.sql.SQLException;
+import java.sql.Types;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class AggregationUnitFactoryTest {
     
@@ -56,4 +64,33 @@ public final class AggregationUnitFactoryTest {
     public void assertCreateDistinctAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG, true), instanceOf(DistinctAverageAggregationUnit.class));
     }
+    
+    @Test
+    public void assertCreateIntegralAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.MAX, false, AggregationValueType.INTEGRAL), instanceOf(ComparableAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, AggregationValueType.INTEGRAL), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, AggregationValueType.INTEGRAL), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, false, AggregationValueType.INTEGRAL), instanceOf(LongAverageAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, true, AggregationValueType.INTEGRAL), instanceOf(LongDistinctSumAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, AggregationValueType.INTEGRAL), instanceOf(LongDistinctCountAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, true, AggregationValueType.INTEGRAL), instanceOf(DistinctAverageAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateFloatingAggregationUnit() throws SQLException {
+        QueryResultMetaData queryResultMetaData = mock(QueryResultMetaData.class);
+        when(queryResultMetaData.getColumnCount()).thenReturn(1);
+        when(queryResultMetaData.getColumnType(1)).thenReturn(Types.FLOAT);
+        AggregationProjection aggregationProjection = new AggregationProjection(AggregationType.SUM, "(price)", null);
+        aggregationProjection.setIndex(1);
+        assertThat(AggregationUnitFactory.create(aggregationProjection, AggregationValueType.valueOf(aggregationProjection, queryResultMetaData)), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateApproximateDistinctCountAggregationUnit() {
+        AggregationDistinctProjection projection = new AggregationDistinctProjection(0, 0, AggregationType.COUNT, "(DISTINCT order_id)", "c", "order_id");
+        assertThat(AggregationUnitFactory.create(projection, AggregationValueType.INTEGRAL), instanceOf(LongDistinctCountAggregationUnit.class));
+        projection.setApproximate(true);
+        assertThat(AggregationUnitFactory.create(projection, AggregationValueType.INTEGRAL), instanceOf(HyperLogLogDistinctCountAggregationUnit.class));
+    }
 }
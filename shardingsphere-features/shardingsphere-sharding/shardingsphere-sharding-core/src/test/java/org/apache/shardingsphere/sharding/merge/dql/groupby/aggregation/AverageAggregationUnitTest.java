@@ -47,4 +47,15 @@ public final class AverageAggregationUnitTest {
         avgAggregationUnit.merge(Arrays.asList(0, 40));
         assertThat(avgAggregationUnit.getResult(), is(new BigDecimal(0)));
     }
+    
+    @Test
+    public void assertCombine() {
+        AverageAggregationUnit avgAggregationUnit = new AverageAggregationUnit();
+        avgAggregationUnit.merge(Arrays.asList(10, 50));
+        AverageAggregationUnit otherAggregationUnit = new AverageAggregationUnit();
+        otherAggregationUnit.merge(Arrays.asList(15, 60));
+        avgAggregationUnit.combine(otherAggregationUnit);
+        avgAggregationUnit.combine(new AverageAggregationUnit());
+        assertThat(avgAggregationUnit.getResult(), is(new BigDecimal("4.4000")));
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HyperLogLogDistinctCountAggregationUnitTest {
+    
+    @Test
+    public void assertExactDistinctCount() {
+        HyperLogLogDistinctCountAggregationUnit aggregationUnit = new HyperLogLogDistinctCountAggregationUnit();
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Collections.singletonList(null));
+        aggregationUnit.merge(Collections.singletonList(1));
+        aggregationUnit.merge(Collections.singletonList(1L));
+        aggregationUnit.merge(Collections.singletonList("foo"));
+        HyperLogLogDistinctCountAggregationUnit otherAggregationUnit = new HyperLogLogDistinctCountAggregationUnit();
+        otherAggregationUnit.merge(Collections.singletonList("foo"));
+        otherAggregationUnit.merge(Collections.singletonList(2));
+        aggregationUnit.combine(otherAggregationUnit);
+        assertThat(aggregationUnit.getResult(), is(3L));
+    }
+    
+    @Test
+    public void assertEstimatedDistinctCount() {
+        HyperLogLogDistinctCountAggregationUnit aggregationUnit = createAggregationUnit(0, 600000);
+        aggregationUnit.combine(createAggregationUnit(400000, 1000000));
+        aggregationUnit.combine(createAggregationUnit(999000, 999500));
+        assertEstimation((Long) aggregationUnit.getResult(), 1000000L);
+    }
+    
+    @Test
+    public void assertEstimatedDistinctCountInLinearCountingRange() {
+        HyperLogLogDistinctCountAggregationUnit aggregationUnit = createAggregationUnit(0, 3000);
+        aggregationUnit.combine(createAggregationUnit(2000, 5000));
+        assertEstimation((Long) aggregationUnit.getResult(), 5000L);
+    }
+    
+    private HyperLogLogDistinctCountAggregationUnit createAggregationUnit(final long startValue, final long endValue) {
+        HyperLogLogDistinctCountAggregationUnit result = new HyperLogLogDistinctCountAggregationUnit();
+        for (long each = startValue; each < endValue; each++) {
+            result.merge(Collections.singletonList(each));
+        }
+        return result;
+    }
+    
+    private void assertEstimation(final long actual, final long expected) {
+        assertTrue(String.format("Estimated count %d is too far from %d", actual, expected), Math.abs(actual - expected) < expected * 0.03);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LongDistinctAggregationUnitTest {
+    
+    @Test
+    public void assertDistinctCountAggregation() {
+        LongDistinctCountAggregationUnit aggregationUnit = new LongDistinctCountAggregationUnit();
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Collections.singletonList(null));
+        aggregationUnit.merge(Collections.singletonList(0));
+        aggregationUnit.merge(Collections.singletonList(0L));
+        aggregationUnit.merge(Collections.singletonList(1));
+        aggregationUnit.merge(Collections.singletonList(new BigInteger("18446744073709551615")));
+        LongDistinctCountAggregationUnit otherAggregationUnit = new LongDistinctCountAggregationUnit();
+        otherAggregationUnit.merge(Collections.singletonList(1));
+        otherAggregationUnit.merge(Collections.singletonList(2));
+        aggregationUnit.combine(otherAggregationUnit);
+        assertThat(aggregationUnit.getResult(), is(4));
+    }
+    
+    @Test
+    public void assertDistinctSumAggregation() {
+        LongDistinctSumAggregationUnit aggregationUnit = new LongDistinctSumAggregationUnit();
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Collections.singletonList(null));
+        aggregationUnit.merge(Collections.singletonList(1));
+        aggregationUnit.merge(Collections.singletonList(1L));
+        aggregationUnit.merge(Collections.singletonList(10));
+        LongDistinctSumAggregationUnit otherAggregationUnit = new LongDistinctSumAggregationUnit();
+        otherAggregationUnit.merge(Collections.singletonList(10));
+        otherAggregationUnit.merge(Collections.singletonList(100));
+        aggregationUnit.combine(otherAggregationUnit);
+        assertThat(aggregationUnit.getResult(), is(new BigDecimal(111)));
+    }
+}
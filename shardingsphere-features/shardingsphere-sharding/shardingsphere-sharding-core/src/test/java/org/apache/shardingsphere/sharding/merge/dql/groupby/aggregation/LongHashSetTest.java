@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LongHashSetTest {
+    
+    @Test
+    public void assertAdd() {
+        LongHashSet longHashSet = new LongHashSet();
+        assertTrue(longHashSet.add(0L));
+        assertFalse(longHashSet.add(0L));
+        for (long i = -1000L; i < 1000L; i++) {
+            longHashSet.add(i << 32);
+        }
+        assertFalse(longHashSet.add(-1000L << 32));
+        assertTrue(longHashSet.add(Long.MAX_VALUE));
+        assertThat(longHashSet.size(), is(2001));
+    }
+    
+    @Test
+    public void assertForEach() {
+        LongHashSet longHashSet = new LongHashSet();
+        for (long i = 0L; i < 100L; i++) {
+            longHashSet.add(i % 50L);
+        }
+        Set<Long> actual = new HashSet<>();
+        longHashSet.forEach(actual::add);
+        assertThat(actual.size(), is(50));
+        assertTrue(actual.contains(0L));
+        assertTrue(actual.contains(49L));
+    }
+}
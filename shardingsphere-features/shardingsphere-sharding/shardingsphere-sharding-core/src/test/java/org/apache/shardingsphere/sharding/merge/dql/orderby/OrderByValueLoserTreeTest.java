@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertNextWithoutOrderByValues() {
+        assertTrue(new OrderByValueLoserTree(Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertNextWithSingleOrderByValue() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.singletonList(createOrderByValue(OrderDirection.ASC, 1, 2)));
+        assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is(1));
+        actual.next();
+        assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is(2));
+        actual.next();
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    public void assertNextForAsc() throws SQLException {
+        List<OrderByValue> orderByValues = new ArrayList<>(7);
+        for (int i = 0; i < 7; i++) {
+            orderByValues.add(createOrderByValue(OrderDirection.ASC, i, i + 7, i + 14));
+        }
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(orderByValues);
+        for (int i = 0; i < 21; i++) {
+            assertFalse(actual.isEmpty());
+            assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is(i));
+            actual.next();
+        }
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    public void assertNextForDescWithDifferentSizes() throws SQLException {
+        List<OrderByValue> orderByValues = new ArrayList<>(3);
+        orderByValues.add(createOrderByValue(OrderDirection.DESC, 9, 5, 4, 1));
+        orderByValues.add(createOrderByValue(OrderDirection.DESC, 8));
+        orderByValues.add(createOrderByValue(OrderDirection.DESC, 7, 6, 3, 2, 0));
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(orderByValues);
+        for (int i = 9; i >= 0; i--) {
+            assertFalse(actual.isEmpty());
+            assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is(i));
+            actual.next();
+        }
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    public void assertNextWithEqualValues() throws SQLException {
+        OrderByValue orderByValue1 = createOrderByValue(OrderDirection.ASC, 1, 1, 2);
+        OrderByValue orderByValue2 = createOrderByValue(OrderDirection.ASC, 1, 2);
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Arrays.asList(orderByValue1, orderByValue2));
+        assertThat(actual.peek(), is(orderByValue1));
+        actual.next();
+        assertThat(actual.peek(), is(orderByValue2));
+        actual.next();
+        assertThat(actual.peek(), is(orderByValue1));
+        actual.next();
+        assertThat(actual.peek(), is(orderByValue2));
+        actual.next();
+        assertThat(actual.peek(), is(orderByValue1));
+        actual.next();
+        assertTrue(actual.isEmpty());
+    }
+    
+    private OrderByValue createOrderByValue(final OrderDirection orderDirection, final Integer... values) throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(queryResult.next()).thenAnswer(invocation -> cursor.incrementAndGet() < values.length);
+        when(queryResult.getValue(1, Object.class)).thenAnswer(invocation -> values[cursor.get()]);
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, orderDirection, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        Collection<OrderByItem> orderByItems = Collections.singletonList(orderByItem);
+        OrderByValue result = new OrderByValue(queryResult, orderByItems, mock(SelectStatementContext.class), mock(ShardingSphereSchema.class));
+        assertTrue(result.next());
+        return result;
+    }
+}
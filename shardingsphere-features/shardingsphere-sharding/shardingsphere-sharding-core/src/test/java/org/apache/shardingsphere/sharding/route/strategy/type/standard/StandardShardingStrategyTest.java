@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.route.strategy.type.standard;
 
 import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Properties;
@@ -59,6 +60,14 @@ public final class StandardShardingStrategyTest {
         assertThat(actualListSharding.iterator().next(), is("1"));
     }
     
+    @Test
+    public void assertDoShardingForListShardingWithMultipleValues() {
+        Collection<String> actualListSharding = standardShardingStrategy.doSharding(Arrays.asList("1", "2", "3"), 
+                Collections.singletonList(new ListShardingConditionValue<>("column", "logicTable", Arrays.asList(1, 2, 3, 5))), new ConfigurationProperties(new Properties()));
+        assertThat(actualListSharding.size(), is(1));
+        assertThat(actualListSharding.iterator().next(), is("1"));
+    }
+    
     @Test
     public void assertGetShardingColumns() {
         Collection<String> actualShardingColumns = standardShardingStrategy.getShardingColumns();
@@ -17,6 +17,14 @@
 
 package org.apache.shardingsphere.sharding.rule;
 
+import org.apache.shardingsphere.infra.binder.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
@@ -31,15 +39,27 @@ import org.apache.shardingsphere.sharding.api.config.strategy.keygen.KeyGenerate
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.rule.single.SingleTableRule;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
 import org.junit.Test;
 
 import javax.sql.DataSource;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -90,6 +110,11 @@ public final class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().findTableRuleByActualTable("table_0").isPresent());
     }
     
+    @Test
+    public void assertFindTableRuleByActualTableWithDifferentCase() {
+        assertTrue(createMaximumShardingRule().findTableRuleByActualTable("TABLE_0").isPresent());
+    }
+    
     @Test
     public void assertNotFindTableRuleByActualTable() {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
@@ -239,6 +264,38 @@ public final class ShardingRuleTest {
         assertFalse(new ShardingRule(shardingRuleConfig, mock(DatabaseType.class), createDataSourceMap()).isShardingColumn("column", "other_Table"));
     }
     
+    @Test
+    public void assertIsAllGroupsInSameDataNode() {
+        assertTrue(createMaximumShardingRule().isAllGroupsInSameDataNode(createSelectStatementContext("LOGIC_TABLE", "ds_id", "TABLE_ID")));
+    }
+    
+    @Test
+    public void assertIsNotAllGroupsInSameDataNodeWithoutTableShardingColumn() {
+        assertFalse(createMaximumShardingRule().isAllGroupsInSameDataNode(createSelectStatementContext("LOGIC_TABLE", "ds_id")));
+    }
+    
+    @Test
+    public void assertIsNotAllGroupsInSameDataNodeWithoutDatabaseShardingColumn() {
+        assertFalse(createMaximumShardingRule().isAllGroupsInSameDataNode(createSelectStatementContext("LOGIC_TABLE", "table_id")));
+    }
+    
+    @Test
+    public void assertIsAllGroupsInSameDataNodeWithAliasOfSameColumn() {
+        Collection<Projection> projections = Arrays.asList(new ColumnProjection(null, "ds_id", "ds_id"), new ColumnProjection(null, "table_id", null));
+        assertTrue(createMaximumShardingRule().isAllGroupsInSameDataNode(createSelectStatementContext("LOGIC_TABLE", projections, "ds_id", "table_id")));
+    }
+    
+    @Test
+    public void assertIsNotAllGroupsInSameDataNodeWithAliasOfOtherColumn() {
+        Collection<Projection> projections = Arrays.asList(new ColumnProjection(null, "other_id", "ds_id"), new ColumnProjection(null, "table_id", null));
+        assertFalse(createMaximumShardingRule().isAllGroupsInSameDataNode(createSelectStatementContext("LOGIC_TABLE", projections, "ds_id", "table_id")));
+    }
+    
+    @Test
+    public void assertIsNotAllGroupsInSameDataNodeForBroadcastTable() {
+        assertFalse(createMaximumShardingRule().isAllGroupsInSameDataNode(createSelectStatementContext("BROADCAST_TABLE", "ds_id", "table_id")));
+    }
+    
     @Test
     public void assertFindGenerateKeyColumn() {
         assertTrue(createMaximumShardingRule().findGenerateKeyColumnName("logic_table").isPresent());
@@ -360,6 +417,20 @@ public final class ShardingRuleTest {
         return new ShardingRule(shardingRuleConfig, mock(DatabaseType.class), createDataSourceMap());
     }
     
+    private SelectStatementContext createSelectStatementContext(final String tableName, final String... groupByColumnNames) {
+        return createSelectStatementContext(tableName, Collections.emptyList(), groupByColumnNames);
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final String tableName, final Collection<Projection> projections, final String... groupByColumnNames) {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setFrom(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue(tableName))));
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        List<OrderByItem> groupByItems = Arrays.stream(groupByColumnNames)
+                .map(each -> new OrderByItem(new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue(each)), OrderDirection.ASC))).collect(Collectors.toList());
+        return new SelectStatementContext(selectStatement, new GroupByContext(groupByItems), new OrderByContext(groupByItems, true),
+                new ProjectionsContext(0, 0, false, projections), new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
     private ShardingRule createMinimumShardingRule() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
         ShardingTableRuleConfiguration shardingTableRuleConfig = createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
@@ -64,6 +64,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -197,12 +198,14 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
      */
     @Subscribe
     public synchronized void renew(final SchemaDeletedEvent event) {
-        Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
+        Map<String, ShardingSphereMetaData> oldMetaDataMap = metaDataContexts.getMetaDataMap();
+        Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(oldMetaDataMap);
         metaDataMap.remove(event.getSchemaName());
         metaDataContexts.getOptimizeContextFactory().getSchemaMetadatas().getSchemas().remove(event.getSchemaName());
         metaDataContexts = new StandardMetaDataContexts(
                 metaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps(), metaDataContexts.getOptimizeContextFactory());
         governanceFacade.getRegistryCenter().getSchemaService().delete(event.getSchemaName());
+        closeReplacedRules(oldMetaDataMap);
     }
     
     /**
@@ -263,11 +266,13 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     @Subscribe
     public synchronized void renew(final RuleConfigurationsChangedEvent event) throws SQLException {
         String schemaName = event.getSchemaName();
-        ShardingSphereMetaData metaData = getChangedMetaData(metaDataContexts.getMetaDataMap().get(schemaName), event.getRuleConfigurations());
+        Map<String, ShardingSphereMetaData> oldMetaDataMap = metaDataContexts.getMetaDataMap();
+        ShardingSphereMetaData metaData = getChangedMetaData(oldMetaDataMap.get(schemaName), event.getRuleConfigurations());
         Map<String, ShardingSphereMetaData> newMetaDataMap = getNewMetaData(schemaName, metaData);
         metaDataContexts = new StandardMetaDataContexts(newMetaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(),
                 metaDataContexts.getProps(), metaDataContexts.getOptimizeContextFactory());
         governanceFacade.getRegistryCenter().getSchemaService().persist(schemaName, newMetaDataMap.get(schemaName).getSchema());
+        closeReplacedRules(oldMetaDataMap);
     }
     
     /**
@@ -279,12 +284,14 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     @Subscribe
     public synchronized void renew(final DataSourceChangedEvent event) throws SQLException {
         String schemaName = event.getSchemaName();
-        ShardingSphereMetaData metaData = getChangedMetaData(metaDataContexts.getMetaDataMap().get(schemaName), event.getDataSourceConfigurations());
+        Map<String, ShardingSphereMetaData> oldMetaDataMap = metaDataContexts.getMetaDataMap();
+        ShardingSphereMetaData metaData = getChangedMetaData(oldMetaDataMap.get(schemaName), event.getDataSourceConfigurations());
         Map<String, ShardingSphereMetaData> newMetaDataMap = getNewMetaData(schemaName, metaData);
         metaDataContexts = new StandardMetaDataContexts(
                 newMetaDataMap, metaDataContexts.getGlobalRuleMetaData(), metaDataContexts.getExecutorEngine(), metaDataContexts.getProps(), metaDataContexts.getOptimizeContextFactory());
         ShardingSphereEventBus.getInstance().post(new DataSourceChangeCompletedEvent(event.getSchemaName(),
                 metaDataContexts.getMetaDataMap().get(event.getSchemaName()).getResource().getDatabaseType(), newMetaDataMap.get(event.getSchemaName()).getResource().getDataSources()));
+        closeReplacedRules(oldMetaDataMap);
     }
     
     /**
@@ -335,6 +342,13 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
         }
     }
 
+    private void closeReplacedRules(final Map<String, ShardingSphereMetaData> oldMetaDataMap) {
+        Collection<ShardingSphereRule> currentRules = Collections.newSetFromMap(new IdentityHashMap<>());
+        metaDataContexts.getMetaDataMap().values().forEach(each -> currentRules.addAll(each.getRuleMetaData().getRules()));
+        StandardMetaDataContexts.closeRules(oldMetaDataMap.values().stream()
+                .flatMap(each -> each.getRuleMetaData().getRules().stream()).filter(each -> !currentRules.contains(each)).collect(Collectors.toList()));
+    }
+    
     private Map<String, ShardingSphereMetaData> getNewMetaData(final String schemaName, final ShardingSphereMetaData metaData) {
         Map<String, ShardingSphereMetaData> newMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
         newMetaDataMap.remove(schemaName);
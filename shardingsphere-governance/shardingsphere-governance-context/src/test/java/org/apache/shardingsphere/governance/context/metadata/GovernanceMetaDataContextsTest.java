@@ -25,7 +25,9 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 
 import java.sql.SQLException;
@@ -189,6 +191,14 @@ public final class GovernanceMetaDataContextsTest {
         assertThat(governanceMetaDataContexts.getMetaData("schema"), not(metaData));
     }
     
+    @Test
+    public void assertRuleConfigurationsChangedWithReplacedRules() throws Exception {
+        ShardingSphereRule rule = mock(ShardingSphereRule.class, withSettings().extraInterfaces(AutoCloseable.class));
+        when(metaData.getRuleMetaData().getRules()).thenReturn(Collections.singletonList(rule));
+        governanceMetaDataContexts.renew(new RuleConfigurationsChangedEvent("schema", new LinkedList<>()));
+        verify((AutoCloseable) rule).close();
+    }
+    
     @Test
     public void assertDisableStateChanged() {
         DisabledStateChangedEvent event = new DisabledStateChangedEvent(new GovernanceSchema("schema.ds_0"), true);
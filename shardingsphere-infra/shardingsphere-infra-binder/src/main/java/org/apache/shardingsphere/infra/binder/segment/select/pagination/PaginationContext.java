@@ -43,6 +43,14 @@ public final class PaginationContext {
     
     private final Long actualRowCount;
     
+    private boolean revised;
+    
+    private long revisedOffset;
+    
+    private long revisedRowCount;
+    
+    private long mergedOffset;
+    
     public PaginationContext(final PaginationValueSegment offsetSegment, final PaginationValueSegment rowCountSegment, final List<Object> parameters) {
         hasPagination = null != offsetSegment || null != rowCountSegment;
         this.offsetSegment = offsetSegment;
@@ -84,6 +92,9 @@ public final class PaginationContext {
      * @return actual offset
      */
     public long getActualOffset() {
+        if (revised) {
+            return mergedOffset;
+        }
         if (null == offsetSegment) {
             return 0L;
         }
@@ -127,7 +138,7 @@ public final class PaginationContext {
      * @return revised offset
      */
     public long getRevisedOffset() {
-        return 0L;
+        return revised ? revisedOffset : 0L;
     }
     
     /**
@@ -137,12 +148,36 @@ public final class PaginationContext {
      * @return revised row count
      */
     public long getRevisedRowCount(final SelectStatementContext selectStatementContext) {
+        if (revised) {
+            return revisedRowCount;
+        }
         if (isMaxRowCount(selectStatementContext)) {
             return Integer.MAX_VALUE;
         }
         return rowCountSegment instanceof LimitValueSegment ? actualOffset + actualRowCount : actualRowCount;
     }
     
+    /**
+     * Revise pagination when each data node skips its own part of offset.
+     * 
+     * @param revisedOffset offset of actual SQL
+     * @param revisedRowCount row count of actual SQL
+     * @param mergedOffset offset to skip on merged result
+     */
+    public void revise(final long revisedOffset, final long revisedRowCount, final long mergedOffset) {
+        revised = true;
+        this.revisedOffset = revisedOffset;
+        this.revisedRowCount = revisedRowCount;
+        this.mergedOffset = mergedOffset;
+    }
+    
+    /**
+     * Cancel revision of pagination.
+     */
+    public void cancelRevision() {
+        revised = false;
+    }
+    
     private boolean isMaxRowCount(final SelectStatementContext selectStatementContext) {
         return (!selectStatementContext.getGroupByContext().getItems().isEmpty()
                 || !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty()) && !selectStatementContext.isSameGroupByAndOrderByItems();
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.binder.segment.select.projection.impl;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
 
 /**
@@ -32,6 +33,9 @@ public final class AggregationDistinctProjection extends AggregationProjection {
     
     private final String distinctInnerExpression;
     
+    @Setter
+    private boolean approximate;
+    
     public AggregationDistinctProjection(final int startIndex, final int stopIndex,
                                          final AggregationType type, final String innerExpression, final String alias, final String distinctInnerExpression) {
         super(type, innerExpression, alias);
@@ -178,22 +178,40 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
      * @param columnLabelIndexMap map for column label and index
      */
     public void setIndexes(final Map<String, Integer> columnLabelIndexMap) {
-        setIndexForAggregationProjection(columnLabelIndexMap);
+        setIndexes(columnLabelIndexMap, true);
+    }
+    
+    /**
+     * Set indexes.
+     *
+     * @param columnLabelIndexMap map for column label and index
+     * @param derivedAggregationProjectionsRequired whether derived aggregation projections are required, they are not selected if each group is aggregated in one data node
+     */
+    public void setIndexes(final Map<String, Integer> columnLabelIndexMap, final boolean derivedAggregationProjectionsRequired) {
+        setIndexForAggregationProjection(columnLabelIndexMap, derivedAggregationProjectionsRequired);
         setIndexForOrderItem(columnLabelIndexMap, orderByContext.getItems());
         setIndexForOrderItem(columnLabelIndexMap, groupByContext.getItems());
     }
     
-    private void setIndexForAggregationProjection(final Map<String, Integer> columnLabelIndexMap) {
-        for (AggregationProjection each : projectionsContext.getAggregationProjections()) {
+    private void setIndexForAggregationProjection(final Map<String, Integer> columnLabelIndexMap, final boolean derivedAggregationProjectionsRequired) {
+        Collection<AggregationProjection> aggregationProjections = derivedAggregationProjectionsRequired ? projectionsContext.getAggregationProjections()
+                : projectionsContext.getProjections().stream().filter(each -> each instanceof AggregationProjection).map(each -> (AggregationProjection) each).collect(Collectors.toList());
+        for (AggregationProjection each : aggregationProjections) {
             Preconditions.checkState(columnLabelIndexMap.containsKey(each.getColumnLabel()), "Can't find index: %s, please add alias for aggregate selections", each);
             each.setIndex(columnLabelIndexMap.get(each.getColumnLabel()));
-            for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
-                Preconditions.checkState(columnLabelIndexMap.containsKey(derived.getColumnLabel()), "Can't find index: %s", derived);
-                derived.setIndex(columnLabelIndexMap.get(derived.getColumnLabel()));
+            if (derivedAggregationProjectionsRequired) {
+                setIndexForDerivedAggregationProjection(columnLabelIndexMap, each);
             }
         }
     }
     
+    private void setIndexForDerivedAggregationProjection(final Map<String, Integer> columnLabelIndexMap, final AggregationProjection aggregationProjection) {
+        for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+            Preconditions.checkState(columnLabelIndexMap.containsKey(each.getColumnLabel()), "Can't find index: %s", each);
+            each.setIndex(columnLabelIndexMap.get(each.getColumnLabel()));
+        }
+    }
+    
     private void setIndexForOrderItem(final Map<String, Integer> columnLabelIndexMap, final Collection<OrderByItem> orderByItems) {
         for (OrderByItem each : orderByItems) {
             if (each.getSegment() instanceof IndexOrderByItemSegment) {
@@ -202,4 +202,28 @@ public final class PaginationContextTest {
         SelectStatementContext selectStatementContext = new SelectStatementContext(metaDataMap, Collections.emptyList(), selectStatement, DefaultSchema.LOGIC_NAME);
         assertThat(new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters()).getRevisedRowCount(selectStatementContext), is((long) Integer.MAX_VALUE));
     }
+    
+    @Test
+    public void assertRevise() {
+        PaginationContext paginationContext = new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters());
+        paginationContext.revise(12L, 28L, 8L);
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>();
+        metaDataMap.put(DefaultSchema.LOGIC_NAME, mock(ShardingSphereMetaData.class));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(metaDataMap, Collections.emptyList(), selectStatement, DefaultSchema.LOGIC_NAME);
+        assertThat(paginationContext.getRevisedOffset(), is(12L));
+        assertThat(paginationContext.getRevisedRowCount(selectStatementContext), is(28L));
+        assertThat(paginationContext.getActualOffset(), is(8L));
+        assertThat(paginationContext.getActualRowCount().orElse(null), is(20L));
+    }
+    
+    @Test
+    public void assertCancelRevision() {
+        PaginationContext paginationContext = new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters());
+        paginationContext.revise(12L, 28L, 8L);
+        paginationContext.cancelRevision();
+        assertThat(paginationContext.getRevisedOffset(), is(0L));
+        assertThat(paginationContext.getActualOffset(), is(30L));
+    }
 }
@@ -113,6 +113,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_HINT_ENABLED("proxy-hint-enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Query timeout milliseconds of ShardingSphere-Proxy, 0 means no limit.
+     */
+    PROXY_QUERY_TIMEOUT_MILLISECONDS("proxy-query-timeout-milliseconds", String.valueOf(0L), long.class),
+    
     /**
      * Whether enable show process list.
      */
@@ -132,7 +137,113 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      * Proxy backend query fetch size. A larger value may increase the memory usage of ShardingSphere Proxy.
      * The default value is -1, which means set the minimum value for different JDBC drivers.
      */
-    PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", "-1", int.class);
+    PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", "-1", int.class),
+    
+    /**
+     * Whether enable route cache for deterministic route results.
+     */
+    ROUTE_CACHE_ENABLED("route-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Maximum size of route cache for each schema.
+     */
+    ROUTE_CACHE_MAXIMUM_SIZE("route-cache-maximum-size", String.valueOf(4096L), long.class),
+    
+    /**
+     * Initial capacity of SQL statement cache.
+     */
+    SQL_STATEMENT_CACHE_INITIAL_CAPACITY("sql-statement-cache-initial-capacity", String.valueOf(2000), int.class),
+    
+    /**
+     * Maximum size of SQL statement cache.
+     */
+    SQL_STATEMENT_CACHE_MAXIMUM_SIZE("sql-statement-cache-maximum-size", String.valueOf(65535L), long.class),
+    
+    /**
+     * Maximum total length of SQL cached in SQL statement cache, which replaces maximum size when positive.
+     */
+    SQL_STATEMENT_CACHE_MAXIMUM_WEIGHT("sql-statement-cache-maximum-weight", String.valueOf(0L), long.class),
+    
+    /**
+     * Initial capacity of parse tree cache.
+     */
+    PARSE_TREE_CACHE_INITIAL_CAPACITY("parse-tree-cache-initial-capacity", String.valueOf(128), int.class),
+    
+    /**
+     * Maximum size of parse tree cache.
+     */
+    PARSE_TREE_CACHE_MAXIMUM_SIZE("parse-tree-cache-maximum-size", String.valueOf(1024L), long.class),
+    
+    /**
+     * Maximum total length of SQL cached in parse tree cache, which replaces maximum size when positive.
+     */
+    PARSE_TREE_CACHE_MAXIMUM_WEIGHT("parse-tree-cache-maximum-weight", String.valueOf(0L), long.class),
+    
+    /**
+     * Whether replace literals of non-parameterized SQL with parameters, to share parsed SQL statement between SQL only differing in literals.
+     * Only available for MySQL text protocol of ShardingSphere-Proxy.
+     */
+    SQL_FINGERPRINT_CACHE_ENABLED("sql-fingerprint-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Path of file with SQL to warm up SQL parser when ShardingSphere-Proxy starting, one SQL per line.
+     */
+    SQL_PARSER_WARM_UP_FILE("sql-parser-warm-up-file", "", String.class),
+    
+    /**
+     * Max count of groups kept in memory when merging group by result, groups exceeding it are spilled to local disk, 0 means no limit.
+     */
+    GROUP_BY_MERGE_MAX_MEMORY_ROWS("group-by-merge-max-memory-rows", String.valueOf(0), int.class),
+    
+    /**
+     * Directory of files spilled when merging group by result, default temporary directory is used if empty.
+     */
+    GROUP_BY_MERGE_SPILL_DIRECTORY("group-by-merge-spill-directory", "", String.class),
+    
+    /**
+     * Max count of parameter sets executed in one JDBC batch for each actual SQL, larger batches are executed in sub-batches, 0 means no limit.
+     */
+    MAX_BATCH_SIZE_PER_STATEMENT("max-batch-size-per-statement", String.valueOf(0), int.class),
+    
+    /**
+     * Max count of rows merged into one multiple rows insert statement when executing batch of single row insert, 0 means batch is not merged.
+     */
+    BATCH_INSERT_MERGE_MAX_ROWS("batch-insert-merge-max-rows", String.valueOf(0), int.class),
+    
+    /**
+     * Max bytes of rows loaded into heap for each query in connection strictly mode, rows exceeding it are spilled to memory mapped files, 0 means no limit.
+     */
+    QUERY_MEMORY_HEAP_BUDGET_BYTES("query-memory-heap-budget-bytes", String.valueOf(0L), long.class),
+    
+    /**
+     * Max bytes of rows loaded into heap for all queries of process, rows exceeding it are spilled to memory mapped files, 0 means no limit.
+     */
+    PROCESS_MEMORY_HEAP_BUDGET_BYTES("process-memory-heap-budget-bytes", String.valueOf(0L), long.class),
+    
+    /**
+     * Max bytes of rows loaded for each query including spilled rows, query fails if exceeding it, 0 means no limit.
+     */
+    QUERY_MEMORY_LIMIT_BYTES("query-memory-limit-bytes", String.valueOf(0L), long.class),
+    
+    /**
+     * Directory of files spilled when loading query result, default temporary directory is used if empty.
+     */
+    QUERY_MEMORY_SPILL_DIRECTORY("query-memory-spill-directory", "", String.class),
+    
+    /**
+     * Min offset of paginated query to let each data node skip its own part of offset, zero means disabled.
+     */
+    DEEP_PAGINATION_MIN_OFFSET("deep-pagination-min-offset", String.valueOf(0L), long.class),
+    
+    /**
+     * Max rows prefetched in background by each stream query result, zero means rows are fetched when merging.
+     */
+    STREAM_QUERY_PREFETCH_ROWS("stream-query-prefetch-rows", String.valueOf(0), int.class),
+    
+    /**
+     * Whether estimate COUNT(DISTINCT) of multiple data nodes with HyperLogLog sketch instead of exact set of distinct values, standard error is about 0.81%.
+     */
+    APPROXIMATE_COUNT_DISTINCT_ENABLED("approximate-count-distinct-enabled", String.valueOf(Boolean.FALSE), boolean.class);
     
     private final String key;
     
@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Deep pagination processor.
+ * 
+ * <p>
+ * Paginated query is rewritten as {@code LIMIT 0, offset + row count} for every data node, so all rows before the page are transferred and merged.
+ * For query with large offset ordered by single column primary key, each data node is probed with a window of keys around its share of offset first,
+ * the greatest key whose global rank does not exceed offset is taken as boundary, then each data node skips its own rows before the boundary.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class DeepPaginationProcessor {
+    
+    private static final int WINDOW_FACTOR = 4;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ConfigurationProperties props;
+    
+    /**
+     * Process deep pagination.
+     * 
+     * @param executionContext execution context
+     * @param probeExecutor probe executor
+     * @return execution context which lets each data node skip its own part of offset, or original execution context if not applicable
+     * @throws SQLException SQL exception
+     */
+    public ExecutionContext process(final ExecutionContext executionContext, final DeepPaginationProbeExecutor probeExecutor) throws SQLException {
+        if (!isApplicable(executionContext)) {
+            return executionContext;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) executionContext.getSqlStatementContext();
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        List<RouteUnit> routeUnits = getRouteUnits(executionContext.getRouteContext());
+        long offset = paginationContext.getActualOffset();
+        long rowCount = paginationContext.getActualRowCount().orElse(0L);
+        long position = offset / routeUnits.size();
+        long window = rowCount + (long) Math.ceil(WINDOW_FACTOR * Math.sqrt(position));
+        long probeOffset = Math.max(0L, position - window);
+        long probeRowCount = position + window + 1 - probeOffset;
+        paginationContext.revise(probeOffset, probeRowCount, 0L);
+        ExecutionContext probeExecutionContext = new ExecutionContext(executionContext.getLogicSQL(), createExecutionUnits(executionContext, routeUnits), executionContext.getRouteContext());
+        Optional<List<List<Comparable<?>>>> keys = getKeys(selectStatementContext, probeExecutor.execute(probeExecutionContext));
+        Optional<long[]> nodeOffsets = keys.flatMap(optional -> findNodeOffsets(optional, probeOffset, probeRowCount, offset, getOrderDirection(selectStatementContext)));
+        if (!nodeOffsets.isPresent()) {
+            paginationContext.cancelRevision();
+            return executionContext;
+        }
+        return createPageExecutionContext(executionContext, routeUnits, nodeOffsets.get(), offset, rowCount);
+    }
+    
+    private boolean isApplicable(final ExecutionContext executionContext) {
+        long minOffset = props.<Long>getValue(ConfigurationPropertyKey.DEEP_PAGINATION_MIN_OFFSET);
+        if (minOffset <= 0L || !(executionContext.getSqlStatementContext() instanceof SelectStatementContext)) {
+            return false;
+        }
+        RouteContext routeContext = executionContext.getRouteContext();
+        if (routeContext.isFederated() || routeContext.getRouteUnits().size() < 2 || routeContext.getRouteUnits().size() != executionContext.getExecutionUnits().size()) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) executionContext.getSqlStatementContext();
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        return paginationContext.getOffsetSegment().filter(each -> each instanceof LimitValueSegment).isPresent()
+                && paginationContext.getRowCountSegment().filter(each -> each instanceof LimitValueSegment).isPresent() && paginationContext.getActualOffset() >= minOffset
+                && selectStatementContext.getGroupByContext().getItems().isEmpty() && selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty()
+                && !selectStatementContext.getProjectionsContext().isDistinctRow() && !selectStatementContext.isContainsSubquery() && isOrderedByPrimaryKey(selectStatementContext);
+    }
+    
+    private boolean isOrderedByPrimaryKey(final SelectStatementContext selectStatementContext) {
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        Collection<String> tableNames = selectStatementContext.getTablesContext().getTableNames();
+        if (selectStatementContext.getOrderByContext().isGenerated() || 1 != orderByItems.size() || 1 != tableNames.size()) {
+            return false;
+        }
+        OrderByItem orderByItem = orderByItems.iterator().next();
+        if (!(orderByItem.getSegment() instanceof ColumnOrderByItemSegment)) {
+            return false;
+        }
+        TableMetaData tableMetaData = metaData.getSchema().get(tableNames.iterator().next());
+        String columnName = ((ColumnOrderByItemSegment) orderByItem.getSegment()).getColumn().getIdentifier().getValue();
+        return null != tableMetaData && 1 == tableMetaData.getPrimaryKeyColumns().size() && tableMetaData.getPrimaryKeyColumns().get(0).equalsIgnoreCase(columnName);
+    }
+    
+    private List<RouteUnit> getRouteUnits(final RouteContext routeContext) {
+        Map<String, List<RouteUnit>> result = new LinkedHashMap<>();
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            result.computeIfAbsent(each.getDataSourceMapper().getActualName(), key -> new LinkedList<>()).add(each);
+        }
+        return result.values().stream().flatMap(Collection::stream).collect(Collectors.toList());
+    }
+    
+    private Collection<ExecutionUnit> createExecutionUnits(final ExecutionContext executionContext, final Collection<RouteUnit> routeUnits) {
+        SQLRewriteResult rewriteResult = new SQLRewriteEntry(metaData.getSchema(), props, metaData.getRuleMetaData().getRules()).rewrite(
+                executionContext.getLogicSQL().getSql(), executionContext.getLogicSQL().getParameters(), executionContext.getSqlStatementContext(), executionContext.getRouteContext());
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(routeUnits.size(), 1);
+        for (RouteUnit each : routeUnits) {
+            sqlRewriteUnits.put(each, ((RouteSQLRewriteResult) rewriteResult).getSqlRewriteUnits().get(each));
+        }
+        return ExecutionContextBuilder.build(metaData, new RouteSQLRewriteResult(sqlRewriteUnits), executionContext.getSqlStatementContext());
+    }
+    
+    private Optional<List<List<Comparable<?>>>> getKeys(final SelectStatementContext selectStatementContext, final List<QueryResult> queryResults) throws SQLException {
+        selectStatementContext.setIndexes(getColumnLabelIndexMap(queryResults.get(0)));
+        int columnIndex = selectStatementContext.getOrderByContext().getItems().iterator().next().getIndex();
+        List<List<Comparable<?>>> result = new ArrayList<>(queryResults.size());
+        Class<?> keyClass = null;
+        for (QueryResult each : queryResults) {
+            List<Comparable<?>> keys = new ArrayList<>();
+            while (each.next()) {
+                Object value = each.getValue(columnIndex, Object.class);
+                if (!(value instanceof Number && value instanceof Comparable) || null != keyClass && keyClass != value.getClass()) {
+                    return Optional.empty();
+                }
+                keyClass = value.getClass();
+                keys.add((Comparable<?>) value);
+            }
+            result.add(keys);
+        }
+        return Optional.of(result);
+    }
+    
+    private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = queryResult.getMetaData().getColumnCount(); i > 0; i--) {
+            result.put(SQLUtil.getExactlyValue(queryResult.getMetaData().getColumnLabel(i)), i);
+        }
+        return result;
+    }
+    
+    private OrderDirection getOrderDirection(final SelectStatementContext selectStatementContext) {
+        return selectStatementContext.getOrderByContext().getItems().iterator().next().getSegment().getOrderDirection();
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Optional<long[]> findNodeOffsets(final List<List<Comparable<?>>> keys, final long probeOffset, final long probeRowCount, final long offset, final OrderDirection orderDirection) {
+        Comparator<Comparable<?>> comparator = (first, second) -> OrderDirection.ASC == orderDirection ? ((Comparable) first).compareTo(second) : ((Comparable) second).compareTo(first);
+        Comparable<?> lowerBound = null;
+        Comparable<?> upperBound = null;
+        for (List<Comparable<?>> each : keys) {
+            if (probeOffset > 0L && each.isEmpty()) {
+                return Optional.empty();
+            }
+            if (probeOffset > 0L && (null == lowerBound || comparator.compare(each.get(0), lowerBound) > 0)) {
+                lowerBound = each.get(0);
+            }
+            if (each.size() == probeRowCount && (null == upperBound || comparator.compare(each.get(each.size() - 1), upperBound) < 0)) {
+                upperBound = each.get(each.size() - 1);
+            }
+        }
+        List<Comparable<?>> candidates = getCandidates(keys, lowerBound, upperBound, comparator);
+        int low = 0;
+        int high = candidates.size() - 1;
+        Comparable<?> boundary = null;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (getNodeOffsets(keys, probeOffset, candidates.get(middle), comparator).stream().mapToLong(Long::longValue).sum() <= offset) {
+                boundary = candidates.get(middle);
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return null == boundary ? Optional.empty() : Optional.of(getNodeOffsets(keys, probeOffset, boundary, comparator).stream().mapToLong(Long::longValue).toArray());
+    }
+    
+    private List<Comparable<?>> getCandidates(final List<List<Comparable<?>>> keys, final Comparable<?> lowerBound, final Comparable<?> upperBound, final Comparator<Comparable<?>> comparator) {
+        List<Comparable<?>> result = new ArrayList<>();
+        for (List<Comparable<?>> each : keys) {
+            result.addAll(each.stream().filter(key -> (null == lowerBound || comparator.compare(key, lowerBound) >= 0)
+                    && (null == upperBound || comparator.compare(key, upperBound) <= 0)).collect(Collectors.toList()));
+        }
+        result.sort(comparator);
+        return result;
+    }
+    
+    private List<Long> getNodeOffsets(final List<List<Comparable<?>>> keys, final long probeOffset, final Comparable<?> boundary, final Comparator<Comparable<?>> comparator) {
+        List<Long> result = new ArrayList<>(keys.size());
+        for (List<Comparable<?>> each : keys) {
+            result.add(probeOffset + countBefore(each, boundary, comparator));
+        }
+        return result;
+    }
+    
+    private int countBefore(final List<Comparable<?>> keys, final Comparable<?> boundary, final Comparator<Comparable<?>> comparator) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(keys.get(middle), boundary) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+    
+    private ExecutionContext createPageExecutionContext(final ExecutionContext executionContext, final List<RouteUnit> routeUnits, final long[] nodeOffsets, final long offset, final long rowCount) {
+        long mergedOffset = offset - Arrays.stream(nodeOffsets).sum();
+        Map<Long, Collection<RouteUnit>> routeUnitGroups = new LinkedHashMap<>();
+        for (int i = 0; i < nodeOffsets.length; i++) {
+            routeUnitGroups.computeIfAbsent(nodeOffsets[i], key -> new LinkedList<>()).add(routeUnits.get(i));
+        }
+        PaginationContext paginationContext = ((SelectStatementContext) executionContext.getSqlStatementContext()).getPaginationContext();
+        Collection<ExecutionUnit> executionUnits = new LinkedHashSet<>(routeUnits.size(), 1);
+        for (Entry<Long, Collection<RouteUnit>> entry : routeUnitGroups.entrySet()) {
+            paginationContext.revise(entry.getKey(), mergedOffset + rowCount, mergedOffset);
+            executionUnits.addAll(createExecutionUnits(executionContext, entry.getValue()));
+        }
+        return new ExecutionContext(executionContext.getLogicSQL(), executionUnits, executionContext.getRouteContext());
+    }
+}
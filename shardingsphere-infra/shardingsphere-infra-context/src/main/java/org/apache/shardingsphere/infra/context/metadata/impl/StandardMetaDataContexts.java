@@ -21,11 +21,13 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.lock.ShardingSphereLock;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.optimize.context.OptimizeContextFactory;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.state.StateContext;
 
 import java.util.Collection;
@@ -35,6 +37,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 /**
  * Standard meta data contexts.
@@ -92,5 +95,41 @@ public final class StandardMetaDataContexts implements MetaDataContexts {
     @Override
     public void close() {
         executorEngine.close();
+        closeRules(metaDataMap.values().stream().flatMap(each -> each.getRuleMetaData().getRules().stream()).collect(Collectors.toList()));
+    }
+    
+    /**
+     * Close rules.
+     * 
+     * <p>
+     * Every auto closeable rule is closed even if others fail to close, the first failure is thrown with the following failures suppressed.
+     * </p>
+     * 
+     * @param rules rules to be closed
+     */
+    public static void closeRules(final Collection<ShardingSphereRule> rules) {
+        ShardingSphereException exception = null;
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) each).close();
+                    // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    exception = addException(exception, ex);
+                }
+            }
+        }
+        if (null != exception) {
+            throw exception;
+        }
+    }
+    
+    private static ShardingSphereException addException(final ShardingSphereException exception, final Exception ex) {
+        if (null == exception) {
+            return new ShardingSphereException(ex);
+        }
+        exception.addSuppressed(ex);
+        return exception;
     }
 }
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.LongUnaryOperator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DeepPaginationProcessorTest {
+    
+    private final ShardingSphereSchema schema = new ShardingSphereSchema(Collections.singletonMap("t_order",
+            new TableMetaData("t_order", Collections.singletonList(new ColumnMetaData("order_id", Types.BIGINT, true, false, false)), Collections.emptyList())));
+    
+    private final ShardingSphereMetaData metaData = new ShardingSphereMetaData("logic_schema",
+            mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), schema);
+    
+    @Test
+    public void assertProcessWhenDisabled() throws SQLException {
+        ExecutionContext executionContext = createExecutionContext(1000L);
+        assertThat(new DeepPaginationProcessor(metaData, createProperties(0L)).process(executionContext, this::failProbe), sameInstance(executionContext));
+    }
+    
+    @Test
+    public void assertProcessWithOffsetLessThanMinOffset() throws SQLException {
+        ExecutionContext executionContext = createExecutionContext(100L);
+        assertThat(new DeepPaginationProcessor(metaData, createProperties(1000L)).process(executionContext, this::failProbe), sameInstance(executionContext));
+    }
+    
+    @Test
+    public void assertProcess() throws SQLException {
+        ExecutionContext executionContext = createExecutionContext(1000L);
+        List<ExecutionContext> probeExecutionContexts = new ArrayList<>();
+        ExecutionContext actual = new DeepPaginationProcessor(metaData, createProperties(1000L)).process(executionContext, each -> {
+            probeExecutionContexts.add(each);
+            return Arrays.asList(mockQueryResult(row -> row * 2, 400L, 201L), mockQueryResult(row -> row * 2 + 1, 400L, 201L));
+        });
+        assertThat(actual, not(sameInstance(executionContext)));
+        assertThat(probeExecutionContexts.size(), is(1));
+        assertThat(probeExecutionContexts.get(0).getExecutionUnits().size(), is(2));
+        assertThat(actual.getExecutionUnits().size(), is(2));
+        PaginationContext paginationContext = ((SelectStatementContext) actual.getSqlStatementContext()).getPaginationContext();
+        assertThat(paginationContext.getRevisedOffset(), is(500L));
+        assertThat(paginationContext.getRevisedRowCount((SelectStatementContext) actual.getSqlStatementContext()), is(10L));
+        assertThat(paginationContext.getActualOffset(), is(0L));
+    }
+    
+    @Test
+    public void assertProcessWithUnevenDistribution() throws SQLException {
+        ExecutionContext executionContext = createExecutionContext(1000L);
+        ExecutionContext actual = new DeepPaginationProcessor(metaData, createProperties(1000L)).process(
+                executionContext, each -> Arrays.asList(mockQueryResult(row -> row * 3, 400L, 201L), mockQueryResult(row -> row * 3 / 2 + 1, 400L, 201L)));
+        assertThat(actual, sameInstance(executionContext));
+        PaginationContext paginationContext = ((SelectStatementContext) actual.getSqlStatementContext()).getPaginationContext();
+        assertThat(paginationContext.getRevisedOffset(), is(0L));
+        assertThat(paginationContext.getActualOffset(), is(1000L));
+    }
+    
+    private List<QueryResult> failProbe(final ExecutionContext executionContext) {
+        throw new IllegalStateException("Probe should not be executed.");
+    }
+    
+    private ConfigurationProperties createProperties(final long minOffset) {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.DEEP_PAGINATION_MIN_OFFSET.getKey(), String.valueOf(minOffset));
+        return new ConfigurationProperties(result);
+    }
+    
+    private ExecutionContext createExecutionContext(final long offset) {
+        String sql = String.format("SELECT order_id FROM t_order ORDER BY order_id LIMIT %s, 10", offset);
+        return new ExecutionContext(new LogicSQL(createSelectStatementContext(offset), sql, Collections.emptyList()), createExecutionUnits(sql), createRouteContext());
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final long offset) {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(7, 14);
+        projectionsSegment.getProjections().add(new ColumnProjectionSegment(new ColumnSegment(7, 14, new IdentifierValue("order_id"))));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setFrom(new SimpleTableSegment(new TableNameSegment(21, 27, new IdentifierValue("t_order"))));
+        selectStatement.setOrderBy(new OrderBySegment(29, 45,
+                Collections.singletonList(new ColumnOrderByItemSegment(new ColumnSegment(38, 45, new IdentifierValue("order_id")), OrderDirection.ASC))));
+        selectStatement.setLimit(new LimitSegment(47, 63, new NumberLiteralLimitValueSegment(53, 56, offset), new NumberLiteralLimitValueSegment(59, 60, 10L)));
+        return new SelectStatementContext(Collections.singletonMap("logic_schema", metaData), Collections.emptyList(), selectStatement, "logic_schema");
+    }
+    
+    private Collection<ExecutionUnit> createExecutionUnits(final String sql) {
+        Collection<ExecutionUnit> result = new LinkedHashSet<>();
+        result.add(new ExecutionUnit("ds_0", new SQLUnit(sql, Collections.emptyList())));
+        result.add(new ExecutionUnit("ds_1", new SQLUnit(sql, Collections.emptyList())));
+        return result;
+    }
+    
+    private RouteContext createRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order"))));
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t_order", "t_order"))));
+        return result;
+    }
+    
+    private QueryResult mockQueryResult(final LongUnaryOperator keyOfRow, final long startRow, final long rowCount) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(1);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("order_id");
+        long[] cursor = {startRow - 1};
+        when(result.next()).thenAnswer(invocation -> ++cursor[0] < startRow + rowCount);
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> keyOfRow.applyAsLong(cursor[0]));
+        return result;
+    }
+}
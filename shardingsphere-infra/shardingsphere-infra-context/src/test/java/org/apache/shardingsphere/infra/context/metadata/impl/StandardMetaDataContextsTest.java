@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.context.metadata.impl;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
@@ -27,19 +28,26 @@ import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.optimize.context.OptimizeContextFactory;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public final class StandardMetaDataContextsTest {
 
@@ -64,9 +72,36 @@ public final class StandardMetaDataContextsTest {
         verify(executorEngine).close();
     }
     
+    @Test
+    public void assertCloseWithRulesFailure() throws Exception {
+        ShardingSphereRule rule1 = mock(ShardingSphereRule.class, withSettings().extraInterfaces(AutoCloseable.class));
+        ShardingSphereRule rule2 = mock(ShardingSphereRule.class, withSettings().extraInterfaces(AutoCloseable.class));
+        doThrow(new SQLException("rule1")).when((AutoCloseable) rule1).close();
+        doThrow(new SQLException("rule2")).when((AutoCloseable) rule2).close();
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        StandardMetaDataContexts standardMetaDataContexts = new StandardMetaDataContexts(Collections.singletonMap("logic_db", getShardingSphereMetaData(Arrays.asList(rule1, rule2))),
+                mock(ShardingSphereRuleMetaData.class), executorEngine, new ConfigurationProperties(new Properties()), optimizeContextFactory);
+        ShardingSphereException actual = null;
+        try {
+            standardMetaDataContexts.close();
+        } catch (final ShardingSphereException ex) {
+            actual = ex;
+        }
+        assertNotNull(actual);
+        assertThat(actual.getCause().getMessage(), is("rule1"));
+        assertThat(actual.getSuppressed().length, is(1));
+        assertThat(actual.getSuppressed()[0].getMessage(), is("rule2"));
+        verify(executorEngine).close();
+        verify((AutoCloseable) rule2).close();
+    }
+    
     private ShardingSphereMetaData getShardingSphereMetaData() {
+        return getShardingSphereMetaData(Collections.emptyList());
+    }
+    
+    private ShardingSphereMetaData getShardingSphereMetaData(final Collection<ShardingSphereRule> rules) {
         ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
-        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList());
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList(), rules);
         ShardingSphereResource resource = new ShardingSphereResource(Collections.emptyMap(), null, null, new MySQLDatabaseType());
         ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
         Map<String, TableMetaData> tables = new HashMap<>();
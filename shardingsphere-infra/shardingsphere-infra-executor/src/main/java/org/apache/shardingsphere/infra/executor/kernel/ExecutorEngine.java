@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import com.google.common.util.concurrent.ListenableFuture;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionDeadline;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
@@ -27,13 +28,19 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.OptionalLong;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Executor engine.
@@ -78,55 +85,91 @@ public final class ExecutorEngine implements AutoCloseable {
         if (executionGroupContext.getInputGroups().isEmpty()) {
             return Collections.emptyList();
         }
-        return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback)
-                : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
+        Map<String, Object> dataMap = createDataMap(executionGroupContext.getTimeoutMillis());
+        return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback, dataMap)
+                : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback, dataMap);
     }
     
-    private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+    private Map<String, Object> createDataMap(final long timeoutMillis) {
+        return timeoutMillis > 0 ? ExecutionDeadline.createDataMap(ExecutorDataMap.getValue(), System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis)) : ExecutorDataMap.getValue();
+    }
+    
+    private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups,
+                                         final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final Map<String, Object> dataMap) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+        List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback, dataMap));
         while (executionGroups.hasNext()) {
-            result.addAll(syncExecute(executionGroups.next(), callback));
+            result.addAll(syncExecute(executionGroups.next(), callback, dataMap));
         }
         return result;
     }
     
-    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups,
+                                           final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final Map<String, Object> dataMap) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
-        return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
+        Map<ListenableFuture<Collection<O>>, ExecutionGroup<I>> restResultFutures = asyncExecute(executionGroups, callback, dataMap);
+        Collection<O> firstResults;
+        try {
+            firstResults = syncExecute(firstInputs, null == firstCallback ? callback : firstCallback, dataMap);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            cancel(restResultFutures, callback);
+            throw ex;
+        }
+        return getGroupResults(firstResults, restResultFutures, callback, dataMap);
     }
     
-    private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
-        return callback.execute(executionGroup.getInputs(), true, ExecutorDataMap.getValue());
+    private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback, final Map<String, Object> dataMap) throws SQLException {
+        return callback.execute(executionGroup.getInputs(), true, dataMap);
     }
     
-    private <I, O> Collection<ListenableFuture<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
-        Collection<ListenableFuture<Collection<O>>> result = new LinkedList<>();
+    private <I, O> Map<ListenableFuture<Collection<O>>, ExecutionGroup<I>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups,
+                                                                                         final ExecutorCallback<I, O> callback, final Map<String, Object> dataMap) {
+        Map<ListenableFuture<Collection<O>>, ExecutionGroup<I>> result = new LinkedHashMap<>();
         while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), callback));
+            ExecutionGroup<I> each = executionGroups.next();
+            result.put(asyncExecute(each, callback, dataMap), each);
         }
         return result;
     }
     
-    private <I, O> ListenableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
-        Map<String, Object> dataMap = ExecutorDataMap.getValue();
+    private <I, O> ListenableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback, final Map<String, Object> dataMap) {
         return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
     }
     
-    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
+    private <I, O> List<O> getGroupResults(final Collection<O> firstResults, final Map<ListenableFuture<Collection<O>>, ExecutionGroup<I>> restFutures,
+                                           final ExecutorCallback<I, O> callback, final Map<String, Object> dataMap) throws SQLException {
         List<O> result = new LinkedList<>(firstResults);
-        for (ListenableFuture<Collection<O>> each : restFutures) {
+        for (ListenableFuture<Collection<O>> each : restFutures.keySet()) {
             try {
-                result.addAll(each.get());
-            } catch (final InterruptedException | ExecutionException ex) {
+                result.addAll(getGroupResult(each, dataMap));
+            } catch (final InterruptedException | ExecutionException | TimeoutException ex) {
+                cancel(restFutures, callback);
                 return throwException(ex);
             }
         }
         return result;
     }
     
+    private <O> Collection<O> getGroupResult(final ListenableFuture<Collection<O>> future, final Map<String, Object> dataMap) throws InterruptedException, ExecutionException, TimeoutException {
+        OptionalLong remainingNanos = ExecutionDeadline.getRemainingNanos(dataMap);
+        return remainingNanos.isPresent() ? future.get(Math.max(remainingNanos.getAsLong(), 0L), TimeUnit.NANOSECONDS) : future.get();
+    }
+    
+    private <I, O> void cancel(final Map<ListenableFuture<Collection<O>>, ExecutionGroup<I>> futures, final ExecutorCallback<I, O> callback) {
+        for (Entry<ListenableFuture<Collection<O>>, ExecutionGroup<I>> entry : futures.entrySet()) {
+            if (!entry.getKey().isDone()) {
+                entry.getKey().cancel(false);
+                callback.cancel(entry.getValue().getInputs());
+            }
+        }
+    }
+    
     private <O> List<O> throwException(final Exception exception) throws SQLException {
+        if (exception instanceof TimeoutException) {
+            throw new SQLTimeoutException("Execution timed out.", exception);
+        }
         if (exception.getCause() instanceof SQLException) {
             throw (SQLException) exception.getCause();
         }
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Execution deadline.
+ * 
+ * <p>
+ * Deadline is carried by data map of executor callback, so it reaches every thread which executes part of an execution group context.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutionDeadline {
+    
+    private static final String DEADLINE_KEY = "EXECUTION_DEADLINE";
+    
+    /**
+     * Create data map with deadline.
+     * 
+     * @param dataMap original data map
+     * @param deadlineNanos deadline in {@link System#nanoTime()} scale
+     * @return data map with deadline
+     */
+    public static Map<String, Object> createDataMap(final Map<String, Object> dataMap, final long deadlineNanos) {
+        Map<String, Object> result = new LinkedHashMap<>(dataMap);
+        result.put(DEADLINE_KEY, deadlineNanos);
+        return result;
+    }
+    
+    /**
+     * Get remaining nanoseconds before deadline.
+     * 
+     * @param dataMap data map
+     * @return remaining nanoseconds, absent if no deadline
+     */
+    public static OptionalLong getRemainingNanos(final Map<String, Object> dataMap) {
+        Object result = dataMap.get(DEADLINE_KEY);
+        return null == result ? OptionalLong.empty() : OptionalLong.of((long) result - System.nanoTime());
+    }
+}
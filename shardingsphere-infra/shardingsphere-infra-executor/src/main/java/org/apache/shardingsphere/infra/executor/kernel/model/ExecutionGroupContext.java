@@ -42,4 +42,6 @@ public final class ExecutionGroupContext<T> {
     private volatile String schemaName;
     
     private volatile Grantee grantee;
+    
+    private volatile long timeoutMillis;
 }
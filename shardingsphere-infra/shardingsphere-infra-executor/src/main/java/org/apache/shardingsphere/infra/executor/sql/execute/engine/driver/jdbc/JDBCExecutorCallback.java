@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionDeadline;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -33,12 +34,15 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.sql.Statement;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JDBC executor callback.
@@ -82,6 +86,7 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
+            applyDeadline(jdbcExecutionUnit.getStorageResource(), dataMap);
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
             sqlExecutionHook.finishSuccess();
             finishReport(dataMap, jdbcExecutionUnit);
@@ -110,12 +115,34 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         return result;
     }
     
+    private void applyDeadline(final Statement statement, final Map<String, Object> dataMap) throws SQLException {
+        OptionalLong remainingNanos = ExecutionDeadline.getRemainingNanos(dataMap);
+        if (!remainingNanos.isPresent()) {
+            return;
+        }
+        if (remainingNanos.getAsLong() <= 0L) {
+            throw new SQLTimeoutException("Execution timed out before statement was sent.");
+        }
+        long remainingSeconds = (remainingNanos.getAsLong() + TimeUnit.SECONDS.toNanos(1L) - 1L) / TimeUnit.SECONDS.toNanos(1L);
+        statement.setQueryTimeout((int) Math.min(remainingSeconds, Integer.MAX_VALUE));
+    }
+    
     private void finishReport(final Map<String, Object> dataMap, final SQLExecutionUnit executionUnit) {
         if (dataMap.containsKey(ExecuteProcessConstants.EXECUTE_ID.name())) {
             ExecuteProcessEngine.finish(dataMap.get(ExecuteProcessConstants.EXECUTE_ID.name()).toString(), executionUnit);
         }
     }
     
+    @Override
+    public final void cancel(final Collection<JDBCExecutionUnit> executionUnits) {
+        for (JDBCExecutionUnit each : executionUnits) {
+            try {
+                each.getStorageResource().cancel();
+            } catch (final SQLException ignore) {
+            }
+        }
+    }
+    
     protected abstract T executeSQL(String sql, Statement statement, ConnectionMode connectionMode) throws SQLException;
     
     protected abstract Optional<T> getSaneResult(SQLStatement sqlStatement);
@@ -0,0 +1,331 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.MemoryQueryResultColumns;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.MemoryQueryResultSpillFile;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.QueryMemoryBudget;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.DictionaryMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.DoubleMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.IntMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.LongMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.ObjectMemoryQueryResultColumn;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC columns loader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JDBCColumnsLoader {
+    
+    private static final long RESERVATION_BYTES = 1L << 16;
+    
+    /**
+     * Load columns.
+     * 
+     * @param columnCount column count
+     * @param resultSet result set of JDBC
+     * @param memoryBudget memory budget of query
+     * @return query result columns
+     * @throws SQLException SQL exception
+     */
+    public static MemoryQueryResultColumns load(final int columnCount, final ResultSet resultSet, final QueryMemoryBudget memoryBudget) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        List<ColumnLoader> columnLoaders = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            columnLoaders.add(createColumnLoader(metaData, columnIndex));
+        }
+        if (!memoryBudget.isEnabled()) {
+            while (resultSet.next()) {
+                loadRow(resultSet, columnLoaders);
+            }
+            return new MemoryQueryResultColumns(getColumns(columnLoaders), null);
+        }
+        MemoryQueryResultSpillFile spillFile = loadIntoHeap(resultSet, columnLoaders, memoryBudget) ? null : spill(resultSet, columnLoaders, memoryBudget);
+        return new MemoryQueryResultColumns(getColumns(columnLoaders), spillFile);
+    }
+    
+    private static List<MemoryQueryResultColumn> getColumns(final List<ColumnLoader> columnLoaders) {
+        return columnLoaders.stream().map(ColumnLoader::getColumn).collect(Collectors.toList());
+    }
+    
+    /**
+     * Create row loader, which loads values of current row as the same types of loading columns.
+     * 
+     * @param columnCount column count
+     * @param resultSet result set of JDBC
+     * @return row loader
+     * @throws SQLException SQL exception
+     */
+    public static RowLoader createRowLoader(final int columnCount, final ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        List<ValueGetter> valueGetters = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            valueGetters.add(createColumnLoader(metaData, columnIndex).getValueGetter());
+        }
+        return currentResultSet -> getRowValues(currentResultSet, valueGetters, new Object[columnCount]);
+    }
+    
+    private static Object[] getRowValues(final ResultSet resultSet, final List<ValueGetter> valueGetters, final Object[] row) throws SQLException {
+        for (int i = 0; i < row.length; i++) {
+            Object value = valueGetters.get(i).get(resultSet);
+            row[i] = resultSet.wasNull() ? null : value;
+        }
+        return row;
+    }
+    
+    private static void loadRow(final ResultSet resultSet, final List<ColumnLoader> columnLoaders) throws SQLException {
+        for (ColumnLoader each : columnLoaders) {
+            each.getRowValueLoader().load(resultSet);
+        }
+    }
+    
+    private static boolean loadIntoHeap(final ResultSet resultSet, final List<ColumnLoader> columnLoaders, final QueryMemoryBudget memoryBudget) throws SQLException {
+        long reservedBytes = 0L;
+        long estimatedBytes = 0L;
+        while (resultSet.next()) {
+            loadRow(resultSet, columnLoaders);
+            estimatedBytes = getEstimatedBytes(columnLoaders);
+            if (estimatedBytes - reservedBytes >= RESERVATION_BYTES) {
+                long bytes = estimatedBytes - reservedBytes;
+                reservedBytes = estimatedBytes;
+                if (!memoryBudget.reserveHeap(bytes)) {
+                    return false;
+                }
+            }
+        }
+        return estimatedBytes <= reservedBytes || memoryBudget.reserveHeap(estimatedBytes - reservedBytes);
+    }
+    
+    private static long getEstimatedBytes(final List<ColumnLoader> columnLoaders) {
+        long result = 0L;
+        for (ColumnLoader each : columnLoaders) {
+            result += each.getColumn().getEstimatedBytes();
+        }
+        return result;
+    }
+    
+    private static MemoryQueryResultSpillFile spill(final ResultSet resultSet, final List<ColumnLoader> columnLoaders, final QueryMemoryBudget memoryBudget) throws SQLException {
+        MemoryQueryResultSpillFile result = createSpillFile(memoryBudget.getSpillDirectory(), columnLoaders.size());
+        boolean finished = false;
+        try {
+            List<ValueGetter> valueGetters = columnLoaders.stream().map(ColumnLoader::getValueGetter).collect(Collectors.toList());
+            Object[] row = new Object[columnLoaders.size()];
+            while (resultSet.next()) {
+                memoryBudget.reserveSpill(result.write(getRowValues(resultSet, valueGetters, row)));
+            }
+            result.finishWriting();
+            finished = true;
+            return result;
+        } catch (final IOException ex) {
+            throw new SQLException("Can not spill query result to disk.", ex);
+        } finally {
+            if (!finished) {
+                closeQuietly(result);
+            }
+        }
+    }
+    
+    private static MemoryQueryResultSpillFile createSpillFile(final String directory, final int columnCount) throws SQLException {
+        try {
+            return new MemoryQueryResultSpillFile(directory, columnCount);
+        } catch (final IOException ex) {
+            throw new SQLException("Can not spill query result to disk.", ex);
+        }
+    }
+    
+    private static void closeQuietly(final MemoryQueryResultSpillFile spillFile) {
+        try {
+            spillFile.close();
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    private static ColumnLoader createColumnLoader(final ResultSetMetaData metaData, final int columnIndex) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.BOOLEAN:
+                return createObjectColumnLoader(resultSet -> resultSet.getBoolean(columnIndex));
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return createIntColumnLoader(columnIndex);
+            case Types.INTEGER:
+                return metaData.isSigned(columnIndex) ? createIntColumnLoader(columnIndex) : createLongColumnLoader(columnIndex);
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex) ? createLongColumnLoader(columnIndex) : createObjectColumnLoader(resultSet -> {
+                    BigDecimal bigDecimal = resultSet.getBigDecimal(columnIndex);
+                    return null == bigDecimal ? null : bigDecimal.toBigInteger();
+                });
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return createObjectColumnLoader(resultSet -> resultSet.getBigDecimal(columnIndex));
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return createDoubleColumnLoader(columnIndex);
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return createDictionaryColumnLoader(columnIndex);
+            case Types.DATE:
+                return createObjectColumnLoader(resultSet -> resultSet.getDate(columnIndex));
+            case Types.TIME:
+                return createObjectColumnLoader(resultSet -> resultSet.getTime(columnIndex));
+            case Types.TIMESTAMP:
+                return createObjectColumnLoader(resultSet -> resultSet.getTimestamp(columnIndex));
+            case Types.CLOB:
+                return createObjectColumnLoader(resultSet -> resultSet.getClob(columnIndex));
+            case Types.BLOB:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return createObjectColumnLoader(resultSet -> resultSet.getBlob(columnIndex));
+            case Types.ARRAY:
+                return createObjectColumnLoader(resultSet -> resultSet.getArray(columnIndex));
+            default:
+                return createObjectColumnLoader(resultSet -> resultSet.getObject(columnIndex));
+        }
+    }
+    
+    private static ColumnLoader createIntColumnLoader(final int columnIndex) {
+        IntMemoryQueryResultColumn column = new IntMemoryQueryResultColumn();
+        return new ColumnLoader(column, resultSet -> {
+            int value = resultSet.getInt(columnIndex);
+            if (resultSet.wasNull()) {
+                column.addNull();
+            } else {
+                column.add(value);
+            }
+        }, resultSet -> resultSet.getInt(columnIndex));
+    }
+    
+    private static ColumnLoader createLongColumnLoader(final int columnIndex) {
+        LongMemoryQueryResultColumn column = new LongMemoryQueryResultColumn();
+        return new ColumnLoader(column, resultSet -> {
+            long value = resultSet.getLong(columnIndex);
+            if (resultSet.wasNull()) {
+                column.addNull();
+            } else {
+                column.add(value);
+            }
+        }, resultSet -> resultSet.getLong(columnIndex));
+    }
+    
+    private static ColumnLoader createDoubleColumnLoader(final int columnIndex) {
+        DoubleMemoryQueryResultColumn column = new DoubleMemoryQueryResultColumn();
+        return new ColumnLoader(column, resultSet -> {
+            double value = resultSet.getDouble(columnIndex);
+            if (resultSet.wasNull()) {
+                column.addNull();
+            } else {
+                column.add(value);
+            }
+        }, resultSet -> resultSet.getDouble(columnIndex));
+    }
+    
+    private static ColumnLoader createDictionaryColumnLoader(final int columnIndex) {
+        DictionaryMemoryQueryResultColumn column = new DictionaryMemoryQueryResultColumn();
+        ValueGetter valueGetter = resultSet -> resultSet.getString(columnIndex);
+        ColumnLoader result = new ColumnLoader(column, valueGetter);
+        result.setRowValueLoader(resultSet -> {
+            String value = resultSet.getString(columnIndex);
+            column.add(resultSet.wasNull() ? null : value);
+            if (column.isHighCardinality()) {
+                ObjectMemoryQueryResultColumn objectColumn = createObjectColumn(column);
+                result.setColumn(objectColumn);
+                result.setRowValueLoader(createObjectRowValueLoader(objectColumn, valueGetter));
+            }
+        });
+        return result;
+    }
+    
+    private static ObjectMemoryQueryResultColumn createObjectColumn(final MemoryQueryResultColumn column) {
+        ObjectMemoryQueryResultColumn result = new ObjectMemoryQueryResultColumn();
+        for (int i = 0; i < column.size(); i++) {
+            result.add(column.getValue(i));
+        }
+        return result;
+    }
+    
+    private static ColumnLoader createObjectColumnLoader(final ValueGetter valueGetter) {
+        ObjectMemoryQueryResultColumn column = new ObjectMemoryQueryResultColumn();
+        return new ColumnLoader(column, createObjectRowValueLoader(column, valueGetter), valueGetter);
+    }
+    
+    private static RowValueLoader createObjectRowValueLoader(final ObjectMemoryQueryResultColumn column, final ValueGetter valueGetter) {
+        return resultSet -> {
+            Object value = valueGetter.get(resultSet);
+            column.add(resultSet.wasNull() ? null : value);
+        };
+    }
+    
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    private static final class ColumnLoader {
+        
+        private MemoryQueryResultColumn column;
+        
+        private RowValueLoader rowValueLoader;
+        
+        private final ValueGetter valueGetter;
+        
+        ColumnLoader(final MemoryQueryResultColumn column, final ValueGetter valueGetter) {
+            this.column = column;
+            this.valueGetter = valueGetter;
+        }
+    }
+    
+    /**
+     * Row loader.
+     */
+    public interface RowLoader {
+        
+        /**
+         * Load values of current row.
+         * 
+         * @param resultSet result set of JDBC
+         * @return values of current row
+         * @throws SQLException SQL exception
+         */
+        Object[] load(ResultSet resultSet) throws SQLException;
+    }
+    
+    private interface RowValueLoader {
+        
+        void load(ResultSet resultSet) throws SQLException;
+    }
+    
+    private interface ValueGetter {
+        
+        Object get(ResultSet resultSet) throws SQLException;
+    }
+}
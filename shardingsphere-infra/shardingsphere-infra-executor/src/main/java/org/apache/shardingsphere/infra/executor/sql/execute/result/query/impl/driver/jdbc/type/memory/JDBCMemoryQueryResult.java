@@ -18,7 +18,8 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
 
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractColumnarMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.QueryMemoryBudget;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -26,9 +27,13 @@ import java.sql.SQLException;
 /**
  * JDBC query result for memory loading.
  */
-public final class JDBCMemoryQueryResult extends AbstractMemoryQueryResult {
+public final class JDBCMemoryQueryResult extends AbstractColumnarMemoryQueryResult {
     
     public JDBCMemoryQueryResult(final ResultSet resultSet) throws SQLException {
-        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), JDBCRowsLoader.load(resultSet.getMetaData().getColumnCount(), resultSet).iterator());
+        this(resultSet, new QueryMemoryBudget(0L, 0L, 0L, ""));
+    }
+    
+    public JDBCMemoryQueryResult(final ResultSet resultSet, final QueryMemoryBudget memoryBudget) throws SQLException {
+        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), JDBCColumnsLoader.load(resultSet.getMetaData().getColumnCount(), resultSet, memoryBudget), memoryBudget);
     }
 }
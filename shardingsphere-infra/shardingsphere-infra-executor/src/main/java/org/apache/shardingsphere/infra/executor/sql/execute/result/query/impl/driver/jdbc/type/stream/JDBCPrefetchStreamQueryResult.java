@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCColumnsLoader;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCColumnsLoader.RowLoader;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.QueryMemoryBudget;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Blob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Calendar;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * JDBC query result for stream loading with prefetching.
+ * 
+ * <p>
+ * Rows are read from result set by a background task into a bounded buffer, so network I/O of data nodes overlaps with merging.
+ * The task stops once the buffer is full and is submitted again once half of the buffer is consumed, so at most one task reads the result set at a time.
+ * The query result registers itself to query memory budget, which closes it before result set and statement are closed, so closing waits for the task in flight.
+ * </p>
+ */
+public final class JDBCPrefetchStreamQueryResult extends AbstractStreamQueryResult {
+    
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-StreamPrefetch-%d").build());
+    
+    private final ResultSet resultSet;
+    
+    private final RowLoader rowLoader;
+    
+    private final int bufferRows;
+    
+    private final Deque<Object[]> rows = new ArrayDeque<>();
+    
+    private boolean prefetching;
+    
+    private boolean exhausted;
+    
+    private boolean closed;
+    
+    private SQLException failure;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public JDBCPrefetchStreamQueryResult(final ResultSet resultSet, final QueryMemoryBudget memoryBudget) throws SQLException {
+        super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
+        this.resultSet = resultSet;
+        rowLoader = JDBCColumnsLoader.createRowLoader(resultSet.getMetaData().getColumnCount(), resultSet);
+        bufferRows = memoryBudget.getStreamPrefetchRows();
+        memoryBudget.addStreamQueryResult(this);
+        synchronized (this) {
+            prefetch();
+        }
+    }
+    
+    private void prefetch() {
+        prefetching = true;
+        PREFETCH_EXECUTOR.execute(this::fetchRows);
+    }
+    
+    private void fetchRows() {
+        try {
+            while (isBufferAvailable()) {
+                Object[] row = resultSet.next() ? rowLoader.load(resultSet) : null;
+                if (!addRow(row)) {
+                    return;
+                }
+            }
+        } catch (final SQLException ex) {
+            fail(ex);
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            fail(new SQLException(ex));
+        } finally {
+            stopPrefetching();
+        }
+    }
+    
+    private synchronized boolean isBufferAvailable() {
+        return !closed && rows.size() < bufferRows;
+    }
+    
+    private synchronized boolean addRow(final Object[] row) {
+        if (null == row) {
+            exhausted = true;
+            return false;
+        }
+        rows.addLast(row);
+        if (1 == rows.size()) {
+            notifyAll();
+        }
+        return true;
+    }
+    
+    private synchronized void fail(final SQLException ex) {
+        failure = ex;
+    }
+    
+    private synchronized void stopPrefetching() {
+        prefetching = false;
+        notifyAll();
+    }
+    
+    @Override
+    public synchronized boolean next() throws SQLException {
+        while (rows.isEmpty() && !exhausted && null == failure) {
+            if (!prefetching) {
+                prefetch();
+            }
+            await();
+        }
+        if (rows.isEmpty() && null != failure) {
+            throw failure;
+        }
+        currentRow = rows.pollFirst();
+        if (!prefetching && !exhausted && null == failure && rows.size() <= bufferRows / 2) {
+            prefetch();
+        }
+        return null != currentRow;
+    }
+    
+    private void await() throws SQLException {
+        try {
+            wait();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for prefetched rows.", ex);
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        Object value = getValue(columnIndex, Object.class);
+        if (value instanceof Blob) {
+            return ((Blob) value).getBinaryStream();
+        }
+        try {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+            objectOutputStream.writeObject(value);
+            objectOutputStream.flush();
+            objectOutputStream.close();
+            return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        synchronized (this) {
+            closed = true;
+            while (prefetching) {
+                await();
+            }
+            rows.clear();
+        }
+        resultSet.close();
+    }
+}
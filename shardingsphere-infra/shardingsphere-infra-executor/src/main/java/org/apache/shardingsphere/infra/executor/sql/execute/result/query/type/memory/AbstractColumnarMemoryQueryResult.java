@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * Abstract columnar memory query result.
+ * 
+ * <p>
+ * Values are stored column by column, numeric columns are stored in primitive arrays and string columns are dictionary encoded.
+ * Rows which can not be kept in heap within memory budget are read back from spill file after rows in columns.
+ * </p>
+ */
+public abstract class AbstractColumnarMemoryQueryResult implements QueryResult {
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final MemoryQueryResultColumn[] columns;
+    
+    private final int rowCount;
+    
+    private final MemoryQueryResultSpillFile spillFile;
+    
+    @Getter
+    private final QueryMemoryBudget memoryBudget;
+    
+    private int currentRowIndex = -1;
+    
+    private Object[] currentSpilledRow;
+    
+    private boolean lastValueNull;
+    
+    protected AbstractColumnarMemoryQueryResult(final QueryResultMetaData metaData, final MemoryQueryResultColumns columns, final QueryMemoryBudget memoryBudget) {
+        this.metaData = metaData;
+        this.columns = columns.getColumns().toArray(new MemoryQueryResultColumn[0]);
+        rowCount = this.columns.length > 0 ? this.columns[0].size() : 0;
+        spillFile = columns.getSpillFile();
+        this.memoryBudget = memoryBudget;
+    }
+    
+    @Override
+    public final boolean next() throws SQLException {
+        lastValueNull = false;
+        if (currentRowIndex < rowCount) {
+            currentRowIndex++;
+        }
+        if (currentRowIndex < rowCount) {
+            return true;
+        }
+        currentSpilledRow = null == spillFile ? null : readSpilledRow();
+        return null != currentSpilledRow;
+    }
+    
+    private Object[] readSpilledRow() throws SQLException {
+        try {
+            return spillFile.read();
+        } catch (final IOException ex) {
+            throw new SQLException("Can not read query result from disk.", ex);
+        }
+    }
+    
+    @Override
+    public final Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = null == currentSpilledRow ? columns[columnIndex - 1].getValue(currentRowIndex) : currentSpilledRow[columnIndex - 1];
+        lastValueNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public final InputStream getInputStream(final int columnIndex, final String type) {
+        return getInputStream(getValue(columnIndex, Object.class));
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public final boolean wasNull() {
+        return lastValueNull || currentRowIndex >= rowCount && null == currentSpilledRow;
+    }
+    
+    @Override
+    public final void close() throws SQLException {
+        if (null == spillFile) {
+            return;
+        }
+        try {
+            spillFile.close();
+        } catch (final IOException ex) {
+            throw new SQLException("Can not delete spilled query result.", ex);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory;
+
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spill file for memory query result, which stores encoded rows in local disk and reads them back with memory mapped segments.
+ * 
+ * <p>
+ * Rows never cross segments, so each segment is mapped once and decoded without copying the file into heap.
+ * The file is deleted as soon as it is opened for reading if the file system allows deleting opened files.
+ * </p>
+ */
+public final class MemoryQueryResultSpillFile {
+    
+    private static final long SEGMENT_BYTES = 64L << 20;
+    
+    private final Path path;
+    
+    private final int columnCount;
+    
+    private final ByteArrayOutputStream rowBuffer = new ByteArrayOutputStream();
+    
+    private final DataOutputStream rowOutputStream = new DataOutputStream(rowBuffer);
+    
+    private final List<Long> segmentEndOffsets = new ArrayList<>();
+    
+    private OutputStream outputStream;
+    
+    private FileChannel channel;
+    
+    private ByteBuffer currentSegment;
+    
+    private int segmentIndex;
+    
+    private long fileBytes;
+    
+    private long segmentStartOffset;
+    
+    @Getter
+    private int size;
+    
+    public MemoryQueryResultSpillFile(final String directory, final int columnCount) throws IOException {
+        path = directory.isEmpty() ? Files.createTempFile("shardingsphere-query-result-", ".spill") : Files.createTempFile(Paths.get(directory), "shardingsphere-query-result-", ".spill");
+        this.columnCount = columnCount;
+        outputStream = new BufferedOutputStream(Files.newOutputStream(path));
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @return bytes written
+     * @throws IOException IO exception
+     */
+    public int write(final Object[] row) throws IOException {
+        rowBuffer.reset();
+        for (Object each : row) {
+            SpillValueCodec.write(rowOutputStream, each);
+        }
+        int result = rowBuffer.size();
+        if (fileBytes > segmentStartOffset && fileBytes - segmentStartOffset + result > SEGMENT_BYTES) {
+            segmentEndOffsets.add(fileBytes);
+            segmentStartOffset = fileBytes;
+        }
+        rowBuffer.writeTo(outputStream);
+        fileBytes += result;
+        size++;
+        return result;
+    }
+    
+    /**
+     * Finish writing and open file for reading.
+     *
+     * @throws IOException IO exception
+     */
+    public void finishWriting() throws IOException {
+        outputStream.close();
+        outputStream = null;
+        segmentEndOffsets.add(fileBytes);
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        path.toFile().delete();
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if all rows are read
+     * @throws IOException IO exception
+     */
+    public Object[] read() throws IOException {
+        while (null == currentSegment || !currentSegment.hasRemaining()) {
+            if (segmentIndex == segmentEndOffsets.size()) {
+                close();
+                return null;
+            }
+            long startOffset = 0 == segmentIndex ? 0L : segmentEndOffsets.get(segmentIndex - 1);
+            currentSegment = channel.map(FileChannel.MapMode.READ_ONLY, startOffset, segmentEndOffsets.get(segmentIndex) - startOffset);
+            segmentIndex++;
+        }
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = SpillValueCodec.read(currentSegment);
+        }
+        return result;
+    }
+    
+    /**
+     * Close spill file and delete it.
+     *
+     * @throws IOException IO exception
+     */
+    public void close() throws IOException {
+        try {
+            if (null != outputStream) {
+                outputStream.close();
+            }
+            if (null != channel) {
+                channel.close();
+            }
+        } finally {
+            outputStream = null;
+            channel = null;
+            currentSegment = null;
+            segmentIndex = segmentEndOffsets.size();
+            File file = path.toFile();
+            if (file.exists() && !file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+    }
+}
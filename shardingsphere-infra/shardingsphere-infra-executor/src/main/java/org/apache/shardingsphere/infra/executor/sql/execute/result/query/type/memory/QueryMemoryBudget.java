@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Query memory budget, which accounts bytes of rows loaded into memory for one query.
+ * 
+ * <p>
+ * Rows should be spilled out of heap once heap budget of the query or of the process runs out, and the query fails once all loaded bytes exceed the limit.
+ * Heap bytes of a query are given back to the process when the budget is released, or when the budget is garbage collected if nobody released it.
+ * Rows of stream query results are not accounted, but each of them may buffer at most stream prefetch rows ahead of merging.
+ * Such stream query results are added to the budget, and should be closed by the budget before their result sets and statements are closed.
+ * </p>
+ */
+public final class QueryMemoryBudget {
+    
+    private static final AtomicLong PROCESS_HEAP_BYTES = new AtomicLong();
+    
+    private static final ReferenceQueue<QueryMemoryBudget> UNREACHABLE_BUDGETS = new ReferenceQueue<>();
+    
+    private static final Collection<HeapBytesReference> HEAP_BYTES_REFERENCES = ConcurrentHashMap.newKeySet();
+    
+    private final long maxHeapBytes;
+    
+    private final long maxProcessHeapBytes;
+    
+    private final long maxBytes;
+    
+    @Getter
+    private final String spillDirectory;
+    
+    @Getter
+    private final int streamPrefetchRows;
+    
+    private final AtomicLong heapBytes = new AtomicLong();
+    
+    private final AtomicLong bytes = new AtomicLong();
+    
+    private final Queue<QueryResult> streamQueryResults = new ConcurrentLinkedQueue<>();
+    
+    public QueryMemoryBudget(final ConfigurationProperties props) {
+        this(props.<Long>getValue(ConfigurationPropertyKey.QUERY_MEMORY_HEAP_BUDGET_BYTES), props.<Long>getValue(ConfigurationPropertyKey.PROCESS_MEMORY_HEAP_BUDGET_BYTES),
+                props.<Long>getValue(ConfigurationPropertyKey.QUERY_MEMORY_LIMIT_BYTES), props.getValue(ConfigurationPropertyKey.QUERY_MEMORY_SPILL_DIRECTORY),
+                props.<Integer>getValue(ConfigurationPropertyKey.STREAM_QUERY_PREFETCH_ROWS));
+    }
+    
+    public QueryMemoryBudget(final long maxHeapBytes, final long maxProcessHeapBytes, final long maxBytes, final String spillDirectory) {
+        this(maxHeapBytes, maxProcessHeapBytes, maxBytes, spillDirectory, 0);
+    }
+    
+    public QueryMemoryBudget(final long maxHeapBytes, final long maxProcessHeapBytes, final long maxBytes, final String spillDirectory, final int streamPrefetchRows) {
+        this.maxHeapBytes = maxHeapBytes;
+        this.maxProcessHeapBytes = maxProcessHeapBytes;
+        this.maxBytes = maxBytes;
+        this.spillDirectory = spillDirectory;
+        this.streamPrefetchRows = streamPrefetchRows;
+        if (maxProcessHeapBytes > 0) {
+            HEAP_BYTES_REFERENCES.add(new HeapBytesReference(this, heapBytes));
+        }
+    }
+    
+    /**
+     * Judge whether budget is enabled.
+     * 
+     * @return budget is enabled or not
+     */
+    public boolean isEnabled() {
+        return maxHeapBytes > 0 || maxProcessHeapBytes > 0 || maxBytes > 0;
+    }
+    
+    /**
+     * Reserve bytes of rows loaded into heap.
+     * 
+     * @param size bytes to be reserved
+     * @return whether heap budget is still available, rows should be spilled if not
+     * @throws SQLException SQL exception if bytes of query exceed limit
+     */
+    public boolean reserveHeap(final long size) throws SQLException {
+        reserve(size);
+        boolean result = maxHeapBytes <= 0 || heapBytes.addAndGet(size) <= maxHeapBytes;
+        if (maxProcessHeapBytes <= 0) {
+            return result;
+        }
+        if (maxHeapBytes <= 0) {
+            heapBytes.addAndGet(size);
+        }
+        releaseUnreachableBudgets();
+        return PROCESS_HEAP_BYTES.addAndGet(size) <= maxProcessHeapBytes && result;
+    }
+    
+    /**
+     * Reserve bytes of rows spilled out of heap.
+     * 
+     * @param size bytes to be reserved
+     * @throws SQLException SQL exception if bytes of query exceed limit
+     */
+    public void reserveSpill(final long size) throws SQLException {
+        reserve(size);
+    }
+    
+    private void reserve(final long size) throws SQLException {
+        long reservedBytes = bytes.addAndGet(size);
+        if (maxBytes > 0 && reservedBytes > maxBytes) {
+            throw new SQLException(String.format("Memory of query exceeds limit of %d bytes, please add filter conditions or increase `%s`.", 
+                    maxBytes, ConfigurationPropertyKey.QUERY_MEMORY_LIMIT_BYTES.getKey()));
+        }
+    }
+    
+    /**
+     * Release heap bytes of query to process.
+     */
+    public void release() {
+        long releasedBytes = heapBytes.getAndSet(0L);
+        if (maxProcessHeapBytes > 0) {
+            PROCESS_HEAP_BYTES.addAndGet(-releasedBytes);
+        }
+    }
+    
+    /**
+     * Add stream query result which buffers rows ahead of merging.
+     * 
+     * @param streamQueryResult stream query result to be added
+     */
+    public void addStreamQueryResult(final QueryResult streamQueryResult) {
+        streamQueryResults.add(streamQueryResult);
+    }
+    
+    /**
+     * Close stream query results added to budget.
+     * 
+     * @throws SQLException SQL exception if any stream query result fails to close, other stream query results are still closed
+     */
+    public void closeStreamQueryResults() throws SQLException {
+        SQLException result = null;
+        QueryResult each = streamQueryResults.poll();
+        while (null != each) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                if (null == result) {
+                    result = ex;
+                } else {
+                    result.setNextException(ex);
+                }
+            }
+            each = streamQueryResults.poll();
+        }
+        if (null != result) {
+            throw result;
+        }
+    }
+    
+    /**
+     * Get heap bytes reserved by all queries of process.
+     * 
+     * @return heap bytes reserved by process
+     */
+    public static long getProcessHeapBytes() {
+        releaseUnreachableBudgets();
+        return PROCESS_HEAP_BYTES.get();
+    }
+    
+    private static void releaseUnreachableBudgets() {
+        Reference<? extends QueryMemoryBudget> each = UNREACHABLE_BUDGETS.poll();
+        while (null != each) {
+            HEAP_BYTES_REFERENCES.remove(each);
+            PROCESS_HEAP_BYTES.addAndGet(-((HeapBytesReference) each).getHeapBytes().getAndSet(0L));
+            each = UNREACHABLE_BUDGETS.poll();
+        }
+    }
+    
+    /**
+     * Estimate heap bytes of value.
+     * 
+     * @param value value
+     * @return estimated heap bytes
+     */
+    public static long estimateBytes(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof BigDecimal) {
+            return 64L;
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        return value instanceof Number || value instanceof Boolean ? 16L : 32L;
+    }
+    
+    @Getter
+    private static final class HeapBytesReference extends PhantomReference<QueryMemoryBudget> {
+        
+        private final AtomicLong heapBytes;
+        
+        HeapBytesReference(final QueryMemoryBudget budget, final AtomicLong heapBytes) {
+            super(budget, UNREACHABLE_BUDGETS);
+            this.heapBytes = heapBytes;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * Codec of values written to spill files.
+ * 
+ * <p>
+ * Common JDBC values are encoded by type. Blob, clob and array values from drivers are usually not serializable,
+ * so they are written as bytes, string and object array. Other values are written with java serialization.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillValueCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte INTEGER = 1;
+    
+    private static final byte LONG = 2;
+    
+    private static final byte DOUBLE = 3;
+    
+    private static final byte STRING = 4;
+    
+    private static final byte BOOLEAN = 5;
+    
+    private static final byte DECIMAL = 6;
+    
+    private static final byte DATE = 7;
+    
+    private static final byte TIME = 8;
+    
+    private static final byte TIMESTAMP = 9;
+    
+    private static final byte SERIALIZED = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte ARRAY = 12;
+    
+    /**
+     * Write value.
+     *
+     * @param output output to be written
+     * @param value value to be written
+     * @throws IOException IO exception
+     */
+    public static void write(final DataOutput output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(DECIMAL);
+            writeBytes(output, value.toString().getBytes(StandardCharsets.UTF_8));
+        } else {
+            writeTemporalValue(output, value);
+        }
+    }
+    
+    private static void writeTemporalValue(final DataOutput output, final Object value) throws IOException {
+        if (value instanceof Timestamp) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof Date) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof Time) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else {
+            writeLargeOrSerializedValue(output, value);
+        }
+    }
+    
+    private static void writeLargeOrSerializedValue(final DataOutput output, final Object value) throws IOException {
+        try {
+            if (value instanceof byte[]) {
+                output.writeByte(BYTES);
+                writeBytes(output, (byte[]) value);
+            } else if (value instanceof Blob) {
+                output.writeByte(BYTES);
+                writeBytes(output, ((Blob) value).getBytes(1L, (int) ((Blob) value).length()));
+            } else if (value instanceof Clob) {
+                output.writeByte(STRING);
+                writeBytes(output, ((Clob) value).getSubString(1L, (int) ((Clob) value).length()).getBytes(StandardCharsets.UTF_8));
+            } else if (value instanceof Array && ((Array) value).getArray() instanceof Object[]) {
+                writeArray(output, (Object[]) ((Array) value).getArray());
+            } else if (value instanceof Object[]) {
+                writeArray(output, (Object[]) value);
+            } else {
+                output.writeByte(SERIALIZED);
+                writeBytes(output, serialize(value));
+            }
+        } catch (final SQLException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    private static void writeArray(final DataOutput output, final Object[] values) throws IOException {
+        output.writeByte(ARRAY);
+        output.writeInt(values.length);
+        for (Object each : values) {
+            write(output, each);
+        }
+    }
+    
+    private static byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    private static void writeBytes(final DataOutput output, final byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+    
+    /**
+     * Read value.
+     *
+     * @param buffer buffer to be read
+     * @return value
+     * @throws IOException IO exception
+     */
+    public static Object read(final ByteBuffer buffer) throws IOException {
+        byte type = buffer.get();
+        switch (type) {
+            case NULL:
+                return null;
+            case INTEGER:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case DOUBLE:
+                return buffer.getDouble();
+            case STRING:
+                return new String(readBytes(buffer), StandardCharsets.UTF_8);
+            case BOOLEAN:
+                return 0 != buffer.get();
+            case DECIMAL:
+                return new BigDecimal(new String(readBytes(buffer), StandardCharsets.UTF_8));
+            case DATE:
+                return new Date(buffer.getLong());
+            case TIME:
+                return new Time(buffer.getLong());
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(buffer.getLong());
+                timestamp.setNanos(buffer.getInt());
+                return timestamp;
+            case BYTES:
+                return readBytes(buffer);
+            case ARRAY:
+                return readArray(buffer);
+            default:
+                return deserialize(readBytes(buffer));
+        }
+    }
+    
+    private static Object[] readArray(final ByteBuffer buffer) throws IOException {
+        Object[] result = new Object[buffer.getInt()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = read(buffer);
+        }
+        return result;
+    }
+    
+    private static Object deserialize(final byte[] bytes) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectInputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    private static byte[] readBytes(final ByteBuffer buffer) {
+        byte[] result = new byte[buffer.getInt()];
+        buffer.get(result);
+        return result;
+    }
+}
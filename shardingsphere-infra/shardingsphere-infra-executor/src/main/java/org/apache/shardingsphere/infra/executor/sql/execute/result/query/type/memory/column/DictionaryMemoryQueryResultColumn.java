@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.QueryMemoryBudget;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memory query result column for string values, which stores each distinct string once and refers to it by dictionary index.
+ */
+public final class DictionaryMemoryQueryResultColumn extends MemoryQueryResultColumn {
+    
+    private static final long DICTIONARY_ENTRY_BYTES = 64L;
+    
+    private static final int MIN_CARDINALITY_ROWS = 1024;
+    
+    private static final double MAX_DISTINCT_RATIO = 0.5D;
+    
+    private final Map<String, Integer> dictionaryIndexes = new HashMap<>();
+    
+    private final List<String> dictionary = new ArrayList<>();
+    
+    private int[] values = new int[0];
+    
+    /**
+     * Add value.
+     * 
+     * @param value value
+     */
+    public void add(final String value) {
+        if (null == value) {
+            addNull();
+            return;
+        }
+        int index = nextIndex();
+        values[index] = dictionaryIndexes.computeIfAbsent(value, key -> {
+            dictionary.add(key);
+            addEstimatedBytes(QueryMemoryBudget.estimateBytes(key) + DICTIONARY_ENTRY_BYTES);
+            return dictionary.size() - 1;
+        });
+    }
+    
+    /**
+     * Judge whether distinct values are too many to benefit from dictionary.
+     * 
+     * <p>
+     * Count of distinct values is only judged after enough rows are added, dictionary is not worth its entries if more than half of the rows are distinct.
+     * </p>
+     * 
+     * @return distinct values are too many or not
+     */
+    public boolean isHighCardinality() {
+        return size() >= MIN_CARDINALITY_ROWS && dictionary.size() > size() * MAX_DISTINCT_RATIO;
+    }
+    
+    /**
+     * Get count of distinct values.
+     * 
+     * @return count of distinct values
+     */
+    public int getDictionarySize() {
+        return dictionary.size();
+    }
+    
+    @Override
+    protected int getValueBytes() {
+        return 4;
+    }
+    
+    @Override
+    protected int getCapacity() {
+        return values.length;
+    }
+    
+    @Override
+    protected void resize(final int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        return dictionary.get(values[rowIndex]);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.Arrays;
+
+/**
+ * Memory query result column for double values.
+ */
+public final class DoubleMemoryQueryResultColumn extends MemoryQueryResultColumn {
+    
+    private double[] values = new double[0];
+    
+    /**
+     * Add value.
+     * 
+     * @param value value
+     */
+    public void add(final double value) {
+        int index = nextIndex();
+        values[index] = value;
+    }
+    
+    /**
+     * Get double value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @return double value, 0 if value is null
+     */
+    public double getDouble(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    @Override
+    protected int getValueBytes() {
+        return 8;
+    }
+    
+    @Override
+    protected int getCapacity() {
+        return values.length;
+    }
+    
+    @Override
+    protected void resize(final int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+}
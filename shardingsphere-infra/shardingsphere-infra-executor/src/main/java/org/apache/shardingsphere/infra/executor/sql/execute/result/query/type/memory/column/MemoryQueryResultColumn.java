@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.BitSet;
+
+/**
+ * Memory query result column, which stores values of one column for all rows.
+ */
+public abstract class MemoryQueryResultColumn {
+    
+    private static final int DEFAULT_CAPACITY = 16;
+    
+    private final BitSet nullValues = new BitSet();
+    
+    private int size;
+    
+    private long estimatedBytes;
+    
+    /**
+     * Add null value.
+     */
+    public final void addNull() {
+        nullValues.set(nextIndex());
+    }
+    
+    protected final int nextIndex() {
+        if (size == getCapacity()) {
+            int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+            estimatedBytes += (long) (capacity - size) * getValueBytes();
+            resize(capacity);
+        }
+        return size++;
+    }
+    
+    protected final void addEstimatedBytes(final long bytes) {
+        estimatedBytes += bytes;
+    }
+    
+    /**
+     * Get estimated heap bytes of column.
+     * 
+     * @return estimated heap bytes
+     */
+    public final long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+    
+    /**
+     * Get count of rows.
+     * 
+     * @return count of rows
+     */
+    public final int size() {
+        return size;
+    }
+    
+    /**
+     * Judge whether value is null.
+     * 
+     * @param rowIndex row index, start from 0
+     * @return value is null or not
+     */
+    public final boolean isNull(final int rowIndex) {
+        return nullValues.get(rowIndex);
+    }
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @return value
+     */
+    public final Object getValue(final int rowIndex) {
+        return isNull(rowIndex) ? null : getNonNullValue(rowIndex);
+    }
+    
+    protected abstract int getValueBytes();
+    
+    protected abstract int getCapacity();
+    
+    protected abstract void resize(int capacity);
+    
+    protected abstract Object getNonNullValue(int rowIndex);
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.executor.kernel.fixture.BlockingExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -25,13 +26,16 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -102,4 +106,33 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertThat(actual.size(), is(0));
     }
+    
+    @Test
+    public void assertParallelExecuteCancelRestGroupsWhenFirstGroupFailed() {
+        BlockingExecutorCallbackFixture restCallback = new BlockingExecutorCallbackFixture();
+        SQLException actual = null;
+        try {
+            executorEngine.execute(executionGroupContext, (inputs, isTrunkThread, dataMap) -> {
+                throw new SQLException("mock");
+            }, restCallback, false);
+        } catch (final SQLException ex) {
+            actual = ex;
+        }
+        assertThat(actual.getMessage(), is("mock"));
+        assertTrue(restCallback.isCancelled());
+    }
+    
+    @Test
+    public void assertParallelExecuteCancelRestGroupsWhenTimeout() throws SQLException {
+        BlockingExecutorCallbackFixture restCallback = new BlockingExecutorCallbackFixture();
+        executionGroupContext.setTimeoutMillis(100L);
+        SQLException actual = null;
+        try {
+            executorEngine.execute(executionGroupContext, firstCallback, restCallback, false);
+        } catch (final SQLTimeoutException ex) {
+            actual = ex;
+        }
+        assertThat(actual, instanceOf(SQLTimeoutException.class));
+        assertTrue(restCallback.isCancelled());
+    }
 }
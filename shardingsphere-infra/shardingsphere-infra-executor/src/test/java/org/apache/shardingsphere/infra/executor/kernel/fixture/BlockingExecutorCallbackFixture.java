@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.fixture;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public final class BlockingExecutorCallbackFixture implements ExecutorCallback<Object, String> {
+    
+    private final CountDownLatch cancelLatch = new CountDownLatch(1);
+    
+    @Override
+    public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread, final Map<String, Object> dataMap) {
+        try {
+            cancelLatch.await(10L, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return Collections.emptyList();
+    }
+    
+    @Override
+    public void cancel(final Collection<Object> inputs) {
+        cancelLatch.countDown();
+    }
+    
+    /**
+     * Judge whether execution is cancelled.
+     * 
+     * @return is cancelled or not
+     */
+    public boolean isCancelled() {
+        return 0L == cancelLatch.getCount();
+    }
+}
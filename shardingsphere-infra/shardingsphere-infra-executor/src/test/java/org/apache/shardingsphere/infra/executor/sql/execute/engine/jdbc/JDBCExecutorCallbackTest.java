@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.jdbc;
 
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionDeadline;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -26,6 +27,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -42,10 +44,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -71,10 +75,37 @@ public final class JDBCExecutorCallbackTest {
                 new JDBCExecutionUnit(new ExecutionUnit("ds", new SQLUnit("SELECT now()", Collections.emptyList())), ConnectionMode.CONNECTION_STRICTLY, preparedStatement));
     }
     
-    @SuppressWarnings("unchecked")
+    @After
+    public void tearDown() throws NoSuchFieldException, IllegalAccessException {
+        getCachedDataSourceMetaData().clear();
+    }
+    
     @Test
     public void assertExecute() throws SQLException, NoSuchFieldException, IllegalAccessException {
-        JDBCExecutorCallback<?> jdbcExecutorCallback = new JDBCExecutorCallback<Integer>(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), mock(SelectStatement.class), true) {
+        JDBCExecutorCallback<?> jdbcExecutorCallback = createJDBCExecutorCallback();
+        Map<String, DataSourceMetaData> cachedDataSourceMetaData = getCachedDataSourceMetaData();
+        assertThat(cachedDataSourceMetaData.size(), is(0));
+        jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
+        assertThat(cachedDataSourceMetaData.size(), is(1));
+        jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
+        assertThat(cachedDataSourceMetaData.size(), is(1));
+    }
+    
+    @Test
+    public void assertExecuteWithDeadline() throws SQLException {
+        createJDBCExecutorCallback().execute(units, true, ExecutionDeadline.createDataMap(Collections.emptyMap(), System.nanoTime() + TimeUnit.SECONDS.toNanos(30L)));
+        verify(preparedStatement).setQueryTimeout(30);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, DataSourceMetaData> getCachedDataSourceMetaData() throws NoSuchFieldException, IllegalAccessException {
+        Field field = JDBCExecutorCallback.class.getDeclaredField("CACHED_DATASOURCE_METADATA");
+        field.setAccessible(true);
+        return (Map<String, DataSourceMetaData>) field.get(null);
+    }
+    
+    private JDBCExecutorCallback<Integer> createJDBCExecutorCallback() {
+        return new JDBCExecutorCallback<Integer>(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), mock(SelectStatement.class), true) {
             
             @Override
             protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
@@ -86,13 +117,5 @@ public final class JDBCExecutorCallbackTest {
                 return Optional.empty();
             }
         };
-        Field field = JDBCExecutorCallback.class.getDeclaredField("CACHED_DATASOURCE_METADATA");
-        field.setAccessible(true);
-        Map<String, DataSourceMetaData> cachedDataSourceMetaData = (Map<String, DataSourceMetaData>) field.get(jdbcExecutorCallback);
-        assertThat(cachedDataSourceMetaData.size(), is(0));
-        jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
-        assertThat(cachedDataSourceMetaData.size(), is(1));
-        jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
-        assertThat(cachedDataSourceMetaData.size(), is(1));
     }
 }
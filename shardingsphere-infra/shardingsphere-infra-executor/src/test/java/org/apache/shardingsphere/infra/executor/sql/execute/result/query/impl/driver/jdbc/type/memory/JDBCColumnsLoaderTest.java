@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.MemoryQueryResultColumns;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.QueryMemoryBudget;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.DictionaryMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.ObjectMemoryQueryResultColumn;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class JDBCColumnsLoaderTest {
+    
+    @Test
+    public void assertLoadWithLowCardinalityVarchar() throws SQLException {
+        MemoryQueryResultColumn actual = loadVarcharColumn(2048, 16);
+        assertThat(actual, instanceOf(DictionaryMemoryQueryResultColumn.class));
+        assertColumn(actual, 2048, 16);
+    }
+    
+    @Test
+    public void assertLoadWithHighCardinalityVarchar() throws SQLException {
+        MemoryQueryResultColumn actual = loadVarcharColumn(2048, 2048);
+        assertThat(actual, instanceOf(ObjectMemoryQueryResultColumn.class));
+        assertColumn(actual, 2048, 2048);
+    }
+    
+    private MemoryQueryResultColumn loadVarcharColumn(final int rowCount, final int distinctCount) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnType(1)).thenReturn(Types.VARCHAR);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        AtomicInteger currentRow = new AtomicInteger();
+        when(resultSet.next()).thenAnswer(invocation -> currentRow.incrementAndGet() <= rowCount);
+        when(resultSet.getString(1)).thenAnswer(invocation -> 0 == currentRow.get() % 100 ? null : String.valueOf(currentRow.get() % distinctCount));
+        when(resultSet.wasNull()).thenAnswer(invocation -> 0 == currentRow.get() % 100);
+        MemoryQueryResultColumns result = JDBCColumnsLoader.load(1, resultSet, new QueryMemoryBudget(0L, 0L, 0L, ""));
+        return result.getColumns().get(0);
+    }
+    
+    private void assertColumn(final MemoryQueryResultColumn actual, final int rowCount, final int distinctCount) {
+        assertThat(actual.size(), is(rowCount));
+        for (int i = 1; i <= rowCount; i++) {
+            if (0 == i % 100) {
+                assertNull(actual.getValue(i - 1));
+            } else {
+                assertThat(actual.getValue(i - 1), is(String.valueOf(i % distinctCount)));
+            }
+        }
+    }
+}
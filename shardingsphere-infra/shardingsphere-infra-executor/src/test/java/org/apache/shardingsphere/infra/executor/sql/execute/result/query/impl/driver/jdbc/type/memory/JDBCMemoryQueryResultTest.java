@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.QueryMemoryBudget;
 import org.hamcrest.core.Is;
 import org.junit.Test;
 
@@ -37,6 +38,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.Calendar;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -77,6 +79,59 @@ public final class JDBCMemoryQueryResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertGetValueWithMultipleRows() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 0, 3);
+        when(resultSet.getString(2)).thenReturn("init", "init", null);
+        when(resultSet.wasNull()).thenReturn(false, false, true, false, false, true);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is(1));
+        assertThat(actual.getValue(2, String.class), is("init"));
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, int.class));
+        assertTrue(actual.wasNull());
+        assertThat(actual.getValue(2, String.class), is("init"));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is(3));
+        assertNull(actual.getValue(2, String.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueWithSpilledRows() throws SQLException {
+        int rowCount = 20000;
+        ResultSet resultSet = getMockedResultSet(Types.BIGINT);
+        when(resultSet.getMetaData().isSigned(1)).thenReturn(true);
+        AtomicInteger currentRow = new AtomicInteger();
+        when(resultSet.next()).thenAnswer(invocation -> currentRow.incrementAndGet() <= rowCount);
+        when(resultSet.getLong(1)).thenAnswer(invocation -> (long) currentRow.get());
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet, new QueryMemoryBudget(1L, 0L, 0L, ""));
+        for (long i = 1; i <= rowCount; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, long.class), is(i));
+        }
+        assertFalse(actual.next());
+        assertTrue(actual.wasNull());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertConstructorWithMemoryLimitExceeded() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.BIGINT);
+        when(resultSet.getMetaData().isSigned(1)).thenReturn(true);
+        when(resultSet.next()).thenReturn(true);
+        new JDBCMemoryQueryResult(resultSet, new QueryMemoryBudget(1L, 0L, 1L << 20, ""));
+    }
+    
     @Test
     public void assertGetValueByBoolean() throws SQLException {
         ResultSet resultSet = getMockedResultSet(Types.BOOLEAN);
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.QueryMemoryBudget;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class JDBCPrefetchStreamQueryResultTest {
+    
+    @Test
+    public void assertNext() throws SQLException {
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(mockResultSet(10), new QueryMemoryBudget(0L, 0L, 0L, null, 3));
+        for (int i = 1; i <= 10; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, int.class), is(i));
+            assertFalse(actual.wasNull());
+        }
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithFailure() throws SQLException {
+        ResultSet resultSet = mockResultSet(1);
+        when(resultSet.next()).thenThrow(new SQLException("Connection reset."));
+        new JDBCPrefetchStreamQueryResult(resultSet, new QueryMemoryBudget(0L, 0L, 0L, null, 3)).next();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithError() throws SQLException {
+        ResultSet resultSet = mockResultSet(1);
+        when(resultSet.next()).thenThrow(new NoClassDefFoundError("com/mysql/jdbc/RowData"));
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new QueryMemoryBudget(0L, 0L, 0L, null, 3));
+        try {
+            actual.next();
+        } finally {
+            actual.close();
+        }
+    }
+    
+    @Test
+    public void assertCloseStreamQueryResultsOfMemoryBudget() throws SQLException {
+        ResultSet resultSet = mockResultSet(10);
+        QueryMemoryBudget memoryBudget = new QueryMemoryBudget(0L, 0L, 0L, null, 3);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, memoryBudget);
+        assertTrue(actual.next());
+        memoryBudget.closeStreamQueryResults();
+        verify(resultSet).close();
+        memoryBudget.closeStreamQueryResults();
+        verify(resultSet).close();
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        ResultSet resultSet = mockResultSet(10);
+        JDBCPrefetchStreamQueryResult actual = new JDBCPrefetchStreamQueryResult(resultSet, new QueryMemoryBudget(0L, 0L, 0L, null, 3));
+        assertTrue(actual.next());
+        actual.close();
+        verify(resultSet).close();
+    }
+    
+    private ResultSet mockResultSet(final int rowCount) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(metaData.isSigned(1)).thenReturn(true);
+        when(result.getMetaData()).thenReturn(metaData);
+        int[] cursor = {0};
+        when(result.next()).thenAnswer(invocation -> ++cursor[0] <= rowCount);
+        when(result.getInt(1)).thenAnswer(invocation -> cursor[0]);
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MemoryQueryResultSpillFileTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        MemoryQueryResultSpillFile actual = new MemoryQueryResultSpillFile("", 6);
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] firstRow = {1, 2L, 3.5D, "value", true, new BigDecimal("1.10")};
+        Object[] secondRow = {null, new Date(0L), new Time(0L), timestamp, new BigInteger("18446744073709551615"), new byte[] {1}};
+        actual.write(firstRow);
+        actual.write(secondRow);
+        actual.finishWriting();
+        assertThat(actual.getSize(), is(2));
+        assertThat(actual.read(), is(firstRow));
+        assertThat(actual.read(), is(secondRow));
+        assertNull(actual.read());
+        assertNull(actual.read());
+    }
+    
+    @Test
+    public void assertWriteAndReadNotSerializableLargeObjects() throws IOException, SQLException {
+        Blob blob = mock(Blob.class);
+        when(blob.length()).thenReturn(2L);
+        when(blob.getBytes(1L, 2)).thenReturn(new byte[] {1, 2});
+        Clob clob = mock(Clob.class);
+        when(clob.length()).thenReturn(5L);
+        when(clob.getSubString(1L, 5)).thenReturn("value");
+        Array array = mock(Array.class);
+        when(array.getArray()).thenReturn(new Object[] {1, "value"});
+        MemoryQueryResultSpillFile actual = new MemoryQueryResultSpillFile("", 3);
+        actual.write(new Object[] {blob, clob, array});
+        actual.finishWriting();
+        assertThat(actual.read(), is(new Object[] {new byte[] {1, 2}, "value", new Object[] {1, "value"}}));
+        assertNull(actual.read());
+    }
+}
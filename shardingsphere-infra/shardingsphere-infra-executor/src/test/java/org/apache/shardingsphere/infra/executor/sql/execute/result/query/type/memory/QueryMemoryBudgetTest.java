@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class QueryMemoryBudgetTest {
+    
+    @Test
+    public void assertIsEnabled() {
+        assertFalse(new QueryMemoryBudget(0L, 0L, 0L, "").isEnabled());
+        assertTrue(new QueryMemoryBudget(1L, 0L, 0L, "").isEnabled());
+    }
+    
+    @Test
+    public void assertReserveHeap() throws SQLException {
+        QueryMemoryBudget actual = new QueryMemoryBudget(100L, 0L, 0L, "");
+        assertTrue(actual.reserveHeap(60L));
+        assertFalse(actual.reserveHeap(60L));
+        actual.release();
+        assertTrue(actual.reserveHeap(60L));
+    }
+    
+    @Test
+    public void assertReserveProcessHeap() throws SQLException {
+        QueryMemoryBudget budget = new QueryMemoryBudget(0L, 100L, 0L, "");
+        assertTrue(budget.reserveHeap(60L));
+        QueryMemoryBudget actual = new QueryMemoryBudget(0L, 100L, 0L, "");
+        assertFalse(actual.reserveHeap(60L));
+        budget.release();
+        actual.release();
+        assertTrue(actual.reserveHeap(60L));
+        actual.release();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertReserveSpillExceedLimit() throws SQLException {
+        QueryMemoryBudget actual = new QueryMemoryBudget(10L, 0L, 100L, "");
+        assertFalse(actual.reserveHeap(60L));
+        actual.reserveSpill(60L);
+    }
+}
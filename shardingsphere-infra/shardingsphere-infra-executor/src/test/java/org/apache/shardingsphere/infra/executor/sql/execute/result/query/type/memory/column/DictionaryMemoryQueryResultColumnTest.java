@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DictionaryMemoryQueryResultColumnTest {
+    
+    @Test
+    public void assertGetValue() {
+        DictionaryMemoryQueryResultColumn actual = new DictionaryMemoryQueryResultColumn();
+        for (int i = 0; i < 100; i++) {
+            actual.add(0 == i % 2 ? "init" : "paid");
+        }
+        actual.add(null);
+        assertThat(actual.size(), is(101));
+        assertThat(actual.getDictionarySize(), is(2));
+        assertThat(actual.getValue(0), is("init"));
+        assertThat(actual.getValue(99), is("paid"));
+        assertFalse(actual.isNull(99));
+        assertTrue(actual.isNull(100));
+        assertNull(actual.getValue(100));
+    }
+    
+    @Test
+    public void assertIsHighCardinality() {
+        DictionaryMemoryQueryResultColumn actual = new DictionaryMemoryQueryResultColumn();
+        for (int i = 0; i < 1023; i++) {
+            actual.add(String.valueOf(i));
+        }
+        assertFalse(actual.isHighCardinality());
+        actual.add("1023");
+        assertTrue(actual.isHighCardinality());
+    }
+    
+    @Test
+    public void assertIsNotHighCardinality() {
+        DictionaryMemoryQueryResultColumn actual = new DictionaryMemoryQueryResultColumn();
+        for (int i = 0; i < 2048; i++) {
+            actual.add(String.valueOf(i % 1024));
+        }
+        assertFalse(actual.isHighCardinality());
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractColumnarMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.QueryMemoryBudget;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -33,14 +35,23 @@ import java.sql.SQLXML;
 import java.util.Calendar;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Memory merged result.
+ * 
+ * <p>
+ * Merged rows are accounted to memory budget of the query if query results are loaded into memory, so the query fails instead of exhausting heap when exceeding memory limit.
+ * </p>
  *
  * @param <T> type of rule
  */
 public abstract class MemoryMergedResult<T extends ShardingSphereRule> implements MergedResult {
     
+    private static final long ROW_BYTES = 32L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     private MemoryQueryResultRow currentResultSetRow;
@@ -49,6 +60,7 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     
     protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         List<MemoryQueryResultRow> memoryQueryResultRowList = init(rule, schema, sqlStatementContext, queryResults);
+        reserveMemory(queryResults, memoryQueryResultRowList);
         memoryResultSetRows = memoryQueryResultRowList.iterator();
         if (!memoryQueryResultRowList.isEmpty()) {
             currentResultSetRow = memoryQueryResultRowList.get(0);
@@ -57,6 +69,25 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     
     protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
+    private void reserveMemory(final List<QueryResult> queryResults, final List<MemoryQueryResultRow> memoryQueryResultRows) throws SQLException {
+        Optional<QueryMemoryBudget> memoryBudget = queryResults.stream()
+                .filter(each -> each instanceof AbstractColumnarMemoryQueryResult).map(each -> ((AbstractColumnarMemoryQueryResult) each).getMemoryBudget()).findFirst();
+        if (memoryBudget.isPresent() && memoryBudget.get().isEnabled()) {
+            memoryBudget.get().reserveHeap(estimateBytes(memoryQueryResultRows));
+        }
+    }
+    
+    private long estimateBytes(final List<MemoryQueryResultRow> memoryQueryResultRows) {
+        long result = 0L;
+        for (MemoryQueryResultRow each : memoryQueryResultRows) {
+            result += ROW_BYTES + REFERENCE_BYTES * each.getData().length;
+            for (Object cell : each.getData()) {
+                result += QueryMemoryBudget.estimateBytes(cell);
+            }
+        }
+        return result;
+    }
+    
     @Override
     public final boolean next() {
         if (memoryResultSetRows.hasNext()) {
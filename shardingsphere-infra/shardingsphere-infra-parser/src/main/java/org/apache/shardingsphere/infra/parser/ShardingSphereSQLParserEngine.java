@@ -19,11 +19,14 @@ package org.apache.shardingsphere.infra.parser;
 
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.api.DistSQLStatementParserEngine;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Properties;
+
 /**
  * ShardingSphere SQL parser engine.
  */
@@ -34,7 +37,11 @@ public final class ShardingSphereSQLParserEngine {
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
     public ShardingSphereSQLParserEngine(final String databaseTypeName) {
-        sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseTypeName);
+        this(databaseTypeName, new ConfigurationProperties(new Properties()));
+    }
+    
+    public ShardingSphereSQLParserEngine(final String databaseTypeName, final ConfigurationProperties props) {
+        sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseTypeName, props);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
     }
     
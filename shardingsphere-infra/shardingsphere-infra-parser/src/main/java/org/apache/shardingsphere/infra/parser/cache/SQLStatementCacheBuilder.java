@@ -21,6 +21,7 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.LoadingCache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserExecutor;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -38,7 +39,24 @@ public final class SQLStatementCacheBuilder {
      * @return built SQL statement cache
      */
     public static LoadingCache<String, SQLStatement> build(final CacheOption option, final String databaseType) {
-        return CacheBuilder.newBuilder().softValues()
-                .initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).concurrencyLevel(option.getConcurrencyLevel()).build(new SQLStatementCacheLoader(databaseType));
+        return build(option, new SQLStatementCacheLoader(databaseType));
+    }
+    
+    /**
+     * Build SQL statement cache.
+     *
+     * @param option cache option
+     * @param sqlStatementParserExecutor SQL statement parser executor to load SQL statement
+     * @return built SQL statement cache
+     */
+    public static LoadingCache<String, SQLStatement> build(final CacheOption option, final SQLStatementParserExecutor sqlStatementParserExecutor) {
+        return build(option, new SQLStatementCacheLoader(sqlStatementParserExecutor));
+    }
+    
+    private static LoadingCache<String, SQLStatement> build(final CacheOption option, final SQLStatementCacheLoader cacheLoader) {
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().initialCapacity(option.getInitialCapacity()).concurrencyLevel(option.getConcurrencyLevel()).recordStats();
+        return option.getMaximumWeight() > 0L
+                ? cacheBuilder.maximumWeight(option.getMaximumWeight()).<String, SQLStatement>weigher((sql, sqlStatement) -> sql.length()).build(cacheLoader)
+                : cacheBuilder.softValues().maximumSize(option.getMaximumSize()).build(cacheLoader);
     }
 }
@@ -34,6 +34,10 @@ public final class SQLStatementCacheLoader extends CacheLoader<String, SQLStatem
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType);
     }
     
+    public SQLStatementCacheLoader(final SQLStatementParserExecutor sqlStatementParserExecutor) {
+        this.sqlStatementParserExecutor = sqlStatementParserExecutor;
+    }
+    
     @ParametersAreNonnullByDefault
     @Override
     public SQLStatement load(final String sql) {
@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.fingerprint;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL fingerprint normalizer for MySQL.
+ * 
+ * <p>
+ * Replaces the literals of non-parameterized DML with parameter markers, so that SQL only differing in literals share one parsed SQL statement.
+ * Only literals at positions where a parameter marker is equivalent are replaced: compared values, LIKE patterns, BETWEEN bounds, IN lists, 
+ * VALUES lists and LIMIT / OFFSET values. SQL with comments, parameter markers or multiple statements is not normalized.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLFingerprintNormalizer {
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> ENABLE_CLAUSE_KEYWORDS = new HashSet<>(Arrays.asList("WHERE", "SET", "ON", "HAVING", "VALUES", "VALUE", "LIMIT"));
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("=", "<>", "!=", "<", ">", "<=", ">="));
+    
+    private static final Collection<String> FOLLOW_KEYWORDS = new HashSet<>(Arrays.asList("AND", "OR", "XOR", "ORDER", "GROUP", "LIMIT", "HAVING", "OFFSET", "WHERE", "UNION", "FOR", "LOCK"));
+    
+    private static final Collection<String> FOLLOW_SYMBOLS = new HashSet<>(Arrays.asList(",", ")", ";"));
+    
+    private static final String[] MULTI_CHAR_SYMBOLS = {"<=>", "->>", "<=", ">=", "<>", "!=", ":=", "||", "&&", "<<", ">>", "->"};
+    
+    /**
+     * Normalize SQL.
+     * 
+     * @param sql SQL to be normalized
+     * @return SQL fingerprint, empty if SQL has no replaceable literal or can not be normalized safely
+     */
+    public static Optional<SQLFingerprint> normalize(final String sql) {
+        Optional<List<Token>> tokens = tokenize(sql);
+        if (!tokens.isPresent() || tokens.get().isEmpty() || TokenType.WORD != tokens.get().get(0).type || !DML_KEYWORDS.contains(tokens.get().get(0).text)) {
+            return Optional.empty();
+        }
+        List<Token> literals = findReplaceableLiterals(tokens.get());
+        if (literals.isEmpty()) {
+            return Optional.empty();
+        }
+        StringBuilder normalizedSQL = new StringBuilder(sql.length());
+        List<Object> parameters = new ArrayList<>(literals.size());
+        int lastStopIndex = 0;
+        for (Token each : literals) {
+            normalizedSQL.append(sql, lastStopIndex, each.startIndex).append('?');
+            parameters.add(getLiteralValue(each));
+            lastStopIndex = each.stopIndex;
+        }
+        normalizedSQL.append(sql, lastStopIndex, sql.length());
+        return Optional.of(new SQLFingerprint(normalizedSQL.toString(), parameters));
+    }
+    
+    private static List<Token> findReplaceableLiterals(final List<Token> tokens) {
+        List<Token> result = new LinkedList<>();
+        LinkedList<ParenthesisType> parentheses = new LinkedList<>();
+        ParenthesisType[] closedParentheses = new ParenthesisType[tokens.size()];
+        boolean clauseEnabled = false;
+        boolean betweenPending = false;
+        int betweenAndIndex = -1;
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            if (TokenType.WORD == token.type) {
+                if ("SELECT".equals(token.text)) {
+                    clauseEnabled = false;
+                } else if (ENABLE_CLAUSE_KEYWORDS.contains(token.text)) {
+                    clauseEnabled = true;
+                } else if ("BETWEEN".equals(token.text)) {
+                    betweenPending = true;
+                } else if ("AND".equals(token.text) && betweenPending) {
+                    betweenPending = false;
+                    betweenAndIndex = i;
+                }
+            } else if (isSymbol(token, "(")) {
+                parentheses.push(getParenthesisType(tokens, closedParentheses, i));
+            } else if (isSymbol(token, ")")) {
+                closedParentheses[i] = parentheses.isEmpty() ? ParenthesisType.OTHER : parentheses.pop();
+            } else if (isReplaceableLiteral(tokens, i, clauseEnabled, betweenAndIndex, parentheses.isEmpty() ? ParenthesisType.OTHER : parentheses.peek())) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+    
+    private static ParenthesisType getParenthesisType(final List<Token> tokens, final ParenthesisType[] closedParentheses, final int index) {
+        if (0 == index) {
+            return ParenthesisType.OTHER;
+        }
+        Token previous = tokens.get(index - 1);
+        if (isKeyword(previous, "VALUES") || isKeyword(previous, "VALUE")) {
+            return ParenthesisType.VALUES_LIST;
+        }
+        if (isKeyword(previous, "IN")) {
+            return ParenthesisType.IN_LIST;
+        }
+        if (isSymbol(previous, ",") && index >= 2 && ParenthesisType.VALUES_LIST == closedParentheses[index - 2]) {
+            return ParenthesisType.VALUES_LIST;
+        }
+        return ParenthesisType.OTHER;
+    }
+    
+    private static boolean isReplaceableLiteral(final List<Token> tokens, final int index, final boolean clauseEnabled, final int betweenAndIndex, final ParenthesisType parenthesisType) {
+        Token token = tokens.get(index);
+        if (!token.replaceable || 0 == index || !isFollowedByClauseBoundary(tokens, index)) {
+            return false;
+        }
+        Token previous = tokens.get(index - 1);
+        if (isSymbol(previous, "(") || isSymbol(previous, ",")) {
+            if (ParenthesisType.VALUES_LIST == parenthesisType) {
+                return true;
+            }
+            if (ParenthesisType.IN_LIST == parenthesisType) {
+                return clauseEnabled;
+            }
+            return isSymbol(previous, ",") && index >= 3 && TokenType.NUMBER == tokens.get(index - 2).type && isKeyword(tokens.get(index - 3), "LIMIT") && isLimitValue(token);
+        }
+        if (isKeyword(previous, "LIMIT") || isKeyword(previous, "OFFSET")) {
+            return isLimitValue(token);
+        }
+        if (!clauseEnabled) {
+            return false;
+        }
+        if (isKeyword(previous, "BETWEEN")) {
+            return index + 1 < tokens.size() && isKeyword(tokens.get(index + 1), "AND");
+        }
+        return TokenType.SYMBOL == previous.type && COMPARISON_OPERATORS.contains(previous.text) || isKeyword(previous, "LIKE") || index - 1 == betweenAndIndex;
+    }
+    
+    private static boolean isFollowedByClauseBoundary(final List<Token> tokens, final int index) {
+        if (index + 1 == tokens.size()) {
+            return true;
+        }
+        Token next = tokens.get(index + 1);
+        return TokenType.SYMBOL == next.type && FOLLOW_SYMBOLS.contains(next.text) || TokenType.WORD == next.type && FOLLOW_KEYWORDS.contains(next.text);
+    }
+    
+    private static boolean isLimitValue(final Token token) {
+        if (TokenType.NUMBER != token.type) {
+            return false;
+        }
+        Object value = getLiteralValue(token);
+        return value instanceof Integer || value instanceof Long;
+    }
+    
+    private static boolean isSymbol(final Token token, final String symbol) {
+        return TokenType.SYMBOL == token.type && symbol.equals(token.text);
+    }
+    
+    private static boolean isKeyword(final Token token, final String keyword) {
+        return TokenType.WORD == token.type && keyword.equals(token.text);
+    }
+    
+    private static Object getLiteralValue(final Token token) {
+        return TokenType.NUMBER == token.type ? new NumberLiteralValue(token.text).getValue() : token.text;
+    }
+    
+    private static Optional<List<Token>> tokenize(final String sql) {
+        List<Token> result = new ArrayList<>();
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char current = sql.charAt(index);
+            if (Character.isWhitespace(current)) {
+                index++;
+                continue;
+            }
+            if (!result.isEmpty() && isSymbol(result.get(result.size() - 1), ";")) {
+                return Optional.empty();
+            }
+            if ('?' == current || '#' == current || sql.startsWith("--", index) || sql.startsWith("/*", index)) {
+                return Optional.empty();
+            }
+            int stopIndex;
+            if ('\'' == current || '"' == current || '`' == current) {
+                stopIndex = findQuoteStopIndex(sql, index, current);
+                if (stopIndex < 0) {
+                    return Optional.empty();
+                }
+                result.add(createQuotedToken(sql, index, stopIndex, current));
+            } else if (Character.isDigit(current)) {
+                stopIndex = findNumberStopIndex(sql, index);
+                boolean number = stopIndex == length || !isWordPart(sql.charAt(stopIndex)) && '.' != sql.charAt(stopIndex);
+                if (!number) {
+                    stopIndex = findWordStopIndex(sql, stopIndex);
+                }
+                result.add(new Token(number ? TokenType.NUMBER : TokenType.WORD, sql.substring(index, stopIndex), index, stopIndex, number));
+            } else if (isWordPart(current)) {
+                stopIndex = findWordStopIndex(sql, index);
+                result.add(new Token(TokenType.WORD, sql.substring(index, stopIndex).toUpperCase(), index, stopIndex, false));
+            } else {
+                stopIndex = index + getSymbolLength(sql, index);
+                result.add(new Token(TokenType.SYMBOL, sql.substring(index, stopIndex), index, stopIndex, false));
+            }
+            index = stopIndex;
+        }
+        return Optional.of(result);
+    }
+    
+    private static int findQuoteStopIndex(final String sql, final int startIndex, final char quote) {
+        int index = startIndex + 1;
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            if ('\\' == current && '`' != quote) {
+                index += 2;
+                continue;
+            }
+            if (quote == current) {
+                if (index + 1 < sql.length() && quote == sql.charAt(index + 1)) {
+                    index += 2;
+                    continue;
+                }
+                return index + 1;
+            }
+            index++;
+        }
+        return -1;
+    }
+    
+    private static Token createQuotedToken(final String sql, final int startIndex, final int stopIndex, final char quote) {
+        String text = sql.substring(startIndex + 1, stopIndex - 1);
+        boolean replaceable = '\'' == quote && -1 == text.indexOf('\\') && -1 == text.indexOf('\'');
+        return new Token('`' == quote ? TokenType.IDENTIFIER : TokenType.STRING, text, startIndex, stopIndex, replaceable);
+    }
+    
+    private static int findNumberStopIndex(final String sql, final int startIndex) {
+        int result = findDigitsStopIndex(sql, startIndex);
+        if (result + 1 < sql.length() && '.' == sql.charAt(result) && Character.isDigit(sql.charAt(result + 1))) {
+            result = findDigitsStopIndex(sql, result + 1);
+        }
+        return result;
+    }
+    
+    private static int findDigitsStopIndex(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && Character.isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int findWordStopIndex(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && isWordPart(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isWordPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private static int getSymbolLength(final String sql, final int index) {
+        for (String each : MULTI_CHAR_SYMBOLS) {
+            if (sql.startsWith(each, index)) {
+                return each.length();
+            }
+        }
+        return 1;
+    }
+    
+    private enum TokenType {
+        
+        WORD, NUMBER, STRING, IDENTIFIER, SYMBOL
+    }
+    
+    private enum ParenthesisType {
+        
+        IN_LIST, VALUES_LIST, OTHER
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Token {
+        
+        private final TokenType type;
+        
+        private final String text;
+        
+        private final int startIndex;
+        
+        private final int stopIndex;
+        
+        private final boolean replaceable;
+    }
+}
@@ -17,11 +17,15 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
+import lombok.Getter;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Collection;
+
 /**
  * SQL statement parser engine.
  */
@@ -31,10 +35,17 @@ public final class SQLStatementParserEngine {
     
     private final LoadingCache<String, SQLStatement> sqlStatementCache;
     
-    public SQLStatementParserEngine(final String databaseType) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType);
-        // TODO use props to configure cache option
-        sqlStatementCache = SQLStatementCacheBuilder.build(new CacheOption(2000, 65535L, 4), databaseType);
+    @Getter
+    private final CacheOption sqlStatementCacheOption;
+    
+    @Getter
+    private final CacheOption parseTreeCacheOption;
+    
+    public SQLStatementParserEngine(final String databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
+        sqlStatementCache = SQLStatementCacheBuilder.build(sqlStatementCacheOption, sqlStatementParserExecutor);
+        this.sqlStatementCacheOption = sqlStatementCacheOption;
+        this.parseTreeCacheOption = parseTreeCacheOption;
     }
     
     /**
@@ -47,4 +58,32 @@ public final class SQLStatementParserEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         return useCache ? sqlStatementCache.getUnchecked(sql) : sqlStatementParserExecutor.parse(sql);
     }
+    
+    /**
+     * Get statistics of SQL statement cache.
+     *
+     * @return statistics of SQL statement cache
+     */
+    public CacheStats getSQLStatementCacheStats() {
+        return sqlStatementCache.stats();
+    }
+    
+    /**
+     * Get statistics of parse tree cache.
+     *
+     * @return statistics of parse tree cache
+     */
+    public CacheStats getParseTreeCacheStats() {
+        return sqlStatementParserExecutor.getParserEngine().getCacheStats();
+    }
+    
+    /**
+     * Warm up SQL parser.
+     *
+     * @param sqls SQL to be parsed for warming up
+     * @return count of parsed SQL
+     */
+    public int warmUp(final Collection<String> sqls) {
+        return sqlStatementParserExecutor.getParserEngine().warmUp(sqls);
+    }
 }
@@ -18,7 +18,12 @@
 package org.apache.shardingsphere.infra.parser.sql;
 
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -29,15 +34,47 @@ import java.util.concurrent.ConcurrentHashMap;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLStatementParserEngineFactory {
     
-    private static final Map<String, SQLStatementParserEngine> ENGINES = new ConcurrentHashMap<>();
+    private static final int CACHE_CONCURRENCY_LEVEL = 4;
+    
+    private static final Map<EngineKey, SQLStatementParserEngine> ENGINES = new ConcurrentHashMap<>();
     
     /**
      * Get SQL statement parser engine.
+     * 
+     * <p>Engines are shared by database type and cache options, so contexts configured with different cache options keep their own engines and caches.</p>
      *
      * @param databaseType name of database type
+     * @param props configuration properties
      * @return SQL statement parser engine
      */
-    public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType) {
-        return ENGINES.getOrDefault(databaseType, ENGINES.computeIfAbsent(databaseType, SQLStatementParserEngine::new));
+    public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType, final ConfigurationProperties props) {
+        EngineKey engineKey = new EngineKey(databaseType, createSQLStatementCacheOption(props), createParseTreeCacheOption(props));
+        SQLStatementParserEngine result = ENGINES.get(engineKey);
+        return null == result ? ENGINES.computeIfAbsent(engineKey, EngineKey::createEngine) : result;
+    }
+    
+    private static CacheOption createSQLStatementCacheOption(final ConfigurationProperties props) {
+        return new CacheOption(props.<Integer>getValue(ConfigurationPropertyKey.SQL_STATEMENT_CACHE_INITIAL_CAPACITY), props.<Long>getValue(ConfigurationPropertyKey.SQL_STATEMENT_CACHE_MAXIMUM_SIZE),
+                CACHE_CONCURRENCY_LEVEL, props.<Long>getValue(ConfigurationPropertyKey.SQL_STATEMENT_CACHE_MAXIMUM_WEIGHT));
+    }
+    
+    private static CacheOption createParseTreeCacheOption(final ConfigurationProperties props) {
+        return new CacheOption(props.<Integer>getValue(ConfigurationPropertyKey.PARSE_TREE_CACHE_INITIAL_CAPACITY), props.<Long>getValue(ConfigurationPropertyKey.PARSE_TREE_CACHE_MAXIMUM_SIZE),
+                CACHE_CONCURRENCY_LEVEL, props.<Long>getValue(ConfigurationPropertyKey.PARSE_TREE_CACHE_MAXIMUM_WEIGHT));
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class EngineKey {
+        
+        private final String databaseType;
+        
+        private final CacheOption sqlStatementCacheOption;
+        
+        private final CacheOption parseTreeCacheOption;
+        
+        private SQLStatementParserEngine createEngine() {
+            return new SQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
+        }
     }
 }
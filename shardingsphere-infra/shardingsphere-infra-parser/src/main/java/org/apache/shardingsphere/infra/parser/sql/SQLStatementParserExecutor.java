@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import lombok.Getter;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -28,6 +30,7 @@ import java.util.Properties;
  */
 public final class SQLStatementParserExecutor {
     
+    @Getter
     private final SQLParserEngine parserEngine;
     
     private final SQLVisitorEngine visitorEngine;
@@ -37,6 +40,11 @@ public final class SQLStatementParserExecutor {
         visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", new Properties());
     }
     
+    public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption) {
+        parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
+        visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", new Properties());
+    }
+    
     /**
      * Parse to SQL statement.
      *
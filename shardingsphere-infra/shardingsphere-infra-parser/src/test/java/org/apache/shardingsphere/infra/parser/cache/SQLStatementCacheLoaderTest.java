@@ -28,6 +28,7 @@ import java.lang.reflect.Field;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public final class SQLStatementCacheLoaderTest {
 
@@ -42,6 +43,7 @@ public final class SQLStatementCacheLoaderTest {
         sqlStatementParserExecutorField.setAccessible(true);
         sqlStatementParserExecutorField.set(sqlStatementCacheLoader, executor);
         assertThat(sqlStatementCacheLoader.load(SQL), isA(SQLStatement.class));
+        verify(executor).parse(SQL);
         sqlStatementParserExecutorField.setAccessible(false);
     }
 }
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.fingerprint;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLFingerprintNormalizerTest {
+    
+    @Test
+    public void assertNormalizeSelectWithComparison() {
+        Optional<SQLFingerprint> actual = MySQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE user_id = 10 AND status = 'init' AND price >= 1.5");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE user_id = ? AND status = ? AND price >= ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "init", new BigDecimal("1.5"))));
+    }
+    
+    @Test
+    public void assertNormalizeSelectWithInAndBetween() {
+        Optional<SQLFingerprint> actual = MySQLFingerprintNormalizer.normalize("select * from t_order where order_id in (1, 2) and user_id between 3 and 4000000000 limit 5, 10");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("select * from t_order where order_id in (?, ?) and user_id between ? and ? limit ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, 3, 4000000000L, 5, 10)));
+    }
+    
+    @Test
+    public void assertNormalizeInsertWithMultipleValues() {
+        Optional<SQLFingerprint> actual = MySQLFingerprintNormalizer.normalize("INSERT INTO t_order (order_id, status) VALUES (1, 'a'), (2, NOW())");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, NOW())"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, "a", 2)));
+    }
+    
+    @Test
+    public void assertNormalizeUpdate() {
+        Optional<SQLFingerprint> actual = MySQLFingerprintNormalizer.normalize("UPDATE t_order SET status = 'done', amount = amount + 1 WHERE order_id = 1;");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("UPDATE t_order SET status = ?, amount = amount + 1 WHERE order_id = ?;"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList("done", 1)));
+    }
+    
+    @Test
+    public void assertNormalizeKeepsProjectionAndExpressionLiterals() {
+        Optional<SQLFingerprint> actual = MySQLFingerprintNormalizer.normalize("SELECT 1, 'x' AS c FROM t_order WHERE `order_id` = 1 + 2 AND status = \"init\" AND user_id = 5");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT 1, 'x' AS c FROM t_order WHERE `order_id` = 1 + 2 AND status = \"init\" AND user_id = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(5)));
+    }
+    
+    @Test
+    public void assertNormalizeKeepsEscapedAndIntroducedStrings() {
+        assertFalse(MySQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE status = 'it''s' OR status = 'a\\'b' OR status = _utf8mb4'c' OR status = x'41'").isPresent());
+    }
+    
+    @Test
+    public void assertNotNormalizeWithParameterMarkerOrComment() {
+        assertFalse(MySQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE user_id = ? AND order_id = 1").isPresent());
+        assertFalse(MySQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE user_id = 1 /* hint */").isPresent());
+        assertFalse(MySQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE user_id = 1 -- comment").isPresent());
+        assertFalse(MySQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE user_id = '1").isPresent());
+    }
+    
+    @Test
+    public void assertNotNormalizeNonDMLOrMultipleStatements() {
+        assertFalse(MySQLFingerprintNormalizer.normalize("SET autocommit = 1").isPresent());
+        assertFalse(MySQLFingerprintNormalizer.normalize("SELECT * FROM t_order WHERE user_id = 1; DELETE FROM t_order WHERE user_id = 1").isPresent());
+    }
+    
+    @Test
+    public void assertNotNormalizeNonIntegerLimit() {
+        assertFalse(MySQLFingerprintNormalizer.normalize("SELECT * FROM t_order LIMIT 99999999999999999999").isPresent());
+    }
+}
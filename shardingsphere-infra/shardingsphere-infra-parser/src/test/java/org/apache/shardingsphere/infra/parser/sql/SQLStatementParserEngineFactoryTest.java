@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class SQLStatementParserEngineFactoryTest {
+    
+    @Test
+    public void assertGetSQLStatementParserEngineWithSameProps() {
+        SQLStatementParserEngine expected = SQLStatementParserEngineFactory.getSQLStatementParserEngine("Fixture_Same", createProperties(1024L));
+        assertThat(SQLStatementParserEngineFactory.getSQLStatementParserEngine("Fixture_Same", createProperties(1024L)), sameInstance(expected));
+        assertThat(expected.getSqlStatementCacheOption(), is(new CacheOption(2000, 65535L, 4, 1024L)));
+        assertThat(expected.getParseTreeCacheOption(), is(new CacheOption(128, 1024L, 4)));
+    }
+    
+    @Test
+    public void assertGetSQLStatementParserEngineWithChangedProps() {
+        SQLStatementParserEngine actual = SQLStatementParserEngineFactory.getSQLStatementParserEngine("Fixture_Changed", createProperties(1024L));
+        assertThat(SQLStatementParserEngineFactory.getSQLStatementParserEngine("Fixture_Changed", createProperties(2048L)), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertGetSQLStatementParserEngineWithAlternateProps() {
+        SQLStatementParserEngine expectedFirst = SQLStatementParserEngineFactory.getSQLStatementParserEngine("Fixture_Alternate", createProperties(1024L));
+        SQLStatementParserEngine expectedSecond = SQLStatementParserEngineFactory.getSQLStatementParserEngine("Fixture_Alternate", createProperties(2048L));
+        for (int i = 0; i < 3; i++) {
+            assertThat(SQLStatementParserEngineFactory.getSQLStatementParserEngine("Fixture_Alternate", createProperties(1024L)), sameInstance(expectedFirst));
+            assertThat(SQLStatementParserEngineFactory.getSQLStatementParserEngine("Fixture_Alternate", createProperties(2048L)), sameInstance(expectedSecond));
+        }
+        assertThat(expectedFirst.getSqlStatementCacheOption().getMaximumWeight(), is(1024L));
+        assertThat(expectedSecond.getSqlStatementCacheOption().getMaximumWeight(), is(2048L));
+    }
+    
+    private ConfigurationProperties createProperties(final long sqlStatementCacheMaximumWeight) {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.SQL_STATEMENT_CACHE_MAXIMUM_WEIGHT.getKey(), String.valueOf(sqlStatementCacheMaximumWeight));
+        return new ConfigurationProperties(result);
+    }
+}
@@ -17,20 +17,21 @@
 
 package org.apache.shardingsphere.infra.rewrite.engine;
 
-import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.route.context.DataNodeGroupIndex;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -48,42 +49,29 @@ public final class RouteSQLRewriteEngine {
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1);
+        SQLRewriteTemplate template = new SQLRewriteTemplate(sqlRewriteContext.getSql(), sqlRewriteContext.getSqlTokens());
+        DataNodeGroupIndex originalDataNodeIndex = new DataNodeGroupIndex(routeContext.getOriginalDataNodes());
         for (RouteUnit each : routeContext.getRouteUnits()) {
-            result.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
+            result.put(each, new SQLRewriteUnit(new RouteSQLBuilder(template, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, originalDataNodeIndex, each)));
         }
         return new RouteSQLRewriteResult(result);
     }
     
-    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
+    private List<Object> getParameters(final ParameterBuilder parameterBuilder, final RouteContext routeContext, final DataNodeGroupIndex originalDataNodeIndex, final RouteUnit routeUnit) {
         if (parameterBuilder instanceof StandardParameterBuilder) {
             return parameterBuilder.getParameters();
         }
         return routeContext.getOriginalDataNodes().isEmpty()
-                ? ((GroupedParameterBuilder) parameterBuilder).getParameters() : buildRouteParameters((GroupedParameterBuilder) parameterBuilder, routeContext, routeUnit);
+                ? ((GroupedParameterBuilder) parameterBuilder).getParameters() : buildRouteParameters((GroupedParameterBuilder) parameterBuilder, originalDataNodeIndex, routeUnit);
     }
     
-    private List<Object> buildRouteParameters(final GroupedParameterBuilder parameterBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
-        List<Object> result = new LinkedList<>();
-        int count = 0;
-        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
-            if (isInSameDataNode(each, routeUnit)) {
-                result.addAll(parameterBuilder.getParameters(count));
-            }
-            count++;
+    private List<Object> buildRouteParameters(final GroupedParameterBuilder parameterBuilder, final DataNodeGroupIndex originalDataNodeIndex, final RouteUnit routeUnit) {
+        List<Object> result = new ArrayList<>();
+        BitSet groupIndexes = originalDataNodeIndex.getGroupIndexes(routeUnit);
+        for (int i = groupIndexes.nextSetBit(0); i >= 0; i = groupIndexes.nextSetBit(i + 1)) {
+            result.addAll(parameterBuilder.getParameters(i));
         }
         result.addAll(parameterBuilder.getGenericParameterBuilder().getParameters());
         return result;
     }
-    
-    private boolean isInSameDataNode(final Collection<DataNode> dataNodes, final RouteUnit routeUnit) {
-        if (dataNodes.isEmpty()) {
-            return true;
-        }
-        for (DataNode each : dataNodes) {
-            if (routeUnit.findTableMapper(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
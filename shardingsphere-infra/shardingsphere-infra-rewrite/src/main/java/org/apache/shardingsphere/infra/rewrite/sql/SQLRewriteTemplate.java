@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL rewrite template.
+ * 
+ * <p>SQL rewrite template splits SQL into literal fragments and SQL token slots.
+ * It is compiled once for a SQL rewrite context, and shared by SQL builders of all route units which only need to fill the slots.</p>
+ */
+public final class SQLRewriteTemplate {
+    
+    @Getter
+    private final String sql;
+    
+    @Getter
+    private final List<SQLToken> sqlTokens;
+    
+    @Getter
+    private final String headFragment;
+    
+    private final List<String> conjunctionFragments;
+    
+    public SQLRewriteTemplate(final String sql, final List<SQLToken> sqlTokens) {
+        this.sql = sql;
+        Collections.sort(sqlTokens);
+        this.sqlTokens = new ArrayList<>(sqlTokens);
+        headFragment = this.sqlTokens.isEmpty() ? sql : sql.substring(0, this.sqlTokens.get(0).getStartIndex());
+        conjunctionFragments = createConjunctionFragments();
+    }
+    
+    private List<String> createConjunctionFragments() {
+        List<String> result = new ArrayList<>(sqlTokens.size());
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            int stopIndex = sqlTokens.size() - 1 == i ? sql.length() : sqlTokens.get(i + 1).getStartIndex();
+            result.add(sql.substring(getStartIndex(sqlTokens.get(i)), stopIndex));
+        }
+        return result;
+    }
+    
+    /**
+     * Get conjunction fragment after SQL token.
+     * 
+     * @param index index of SQL token
+     * @return conjunction fragment
+     */
+    public String getConjunctionFragment(final int index) {
+        return conjunctionFragments.get(index);
+    }
+    
+    /**
+     * Get conjunction fragment after SQL token which is not one of SQL token slots, such as SQL token composed in other SQL token.
+     * 
+     * @param sqlToken SQL token
+     * @return conjunction fragment
+     */
+    public String getConjunctionFragment(final SQLToken sqlToken) {
+        int currentSQLTokenIndex = sqlTokens.indexOf(sqlToken);
+        int stopIndex = sqlTokens.size() - 1 == currentSQLTokenIndex ? sql.length() : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
+        return sql.substring(getStartIndex(sqlToken), stopIndex);
+    }
+    
+    private int getStartIndex(final SQLToken sqlToken) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(startIndex, sql.length());
+    }
+}
@@ -17,34 +17,41 @@
 
 package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.SQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.SQLRewriteTemplate;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
-import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.ComposableSQLToken;
 
-import java.util.Collections;
+import java.util.List;
 
 /**
  * Abstract SQL builder.
  */
-@RequiredArgsConstructor
 public abstract class AbstractSQLBuilder implements SQLBuilder {
     
-    private final SQLRewriteContext context;
+    private final SQLRewriteTemplate template;
+    
+    protected AbstractSQLBuilder(final SQLRewriteContext context) {
+        this(new SQLRewriteTemplate(context.getSql(), context.getSqlTokens()));
+    }
+    
+    protected AbstractSQLBuilder(final SQLRewriteTemplate template) {
+        this.template = template;
+    }
     
     @Override
     public final String toSQL() {
-        if (context.getSqlTokens().isEmpty()) {
-            return context.getSql();
+        List<SQLToken> sqlTokens = template.getSqlTokens();
+        if (sqlTokens.isEmpty()) {
+            return template.getSql();
         }
-        Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
+        StringBuilder result = new StringBuilder(template.getSql().length());
+        result.append(template.getHeadFragment());
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            SQLToken each = sqlTokens.get(i);
             result.append(each instanceof ComposableSQLToken ? getComposableSQLTokenText((ComposableSQLToken) each) : getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+            result.append(template.getConjunctionFragment(i));
         }
         return result.toString();
     }
@@ -55,22 +62,8 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
         StringBuilder result = new StringBuilder();
         for (SQLToken each : composableSQLToken.getSqlTokens()) {
             result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+            result.append(template.getConjunctionFragment(each));
         }
         return result.toString();
     }
-
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
-    }
-    
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
-    }
 }
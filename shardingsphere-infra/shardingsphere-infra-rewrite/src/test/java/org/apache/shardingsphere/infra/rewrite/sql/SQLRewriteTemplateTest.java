@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.sql;
+
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.RouteUnitAwareSQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
+import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class SQLRewriteTemplateTest {
+    
+    @Test
+    public void assertNewInstanceWithoutSQLToken() {
+        SQLRewriteTemplate actual = new SQLRewriteTemplate("SELECT * FROM tbl", new LinkedList<>());
+        assertThat(actual.getHeadFragment(), is("SELECT * FROM tbl"));
+        assertTrue(actual.getSqlTokens().isEmpty());
+    }
+    
+    @Test
+    public void assertNewInstanceWithUnsortedSQLTokens() {
+        SQLToken tableToken = new SQLTokenFixture(14, 16);
+        SQLToken projectionToken = new SQLTokenFixture(7, 7);
+        List<SQLToken> sqlTokens = new LinkedList<>(Arrays.asList(tableToken, projectionToken));
+        SQLRewriteTemplate actual = new SQLRewriteTemplate("SELECT * FROM tbl WHERE id=?", sqlTokens);
+        assertThat(sqlTokens.get(0), is(projectionToken));
+        assertThat(actual.getHeadFragment(), is("SELECT "));
+        assertThat(actual.getConjunctionFragment(0), is(" FROM "));
+        assertThat(actual.getConjunctionFragment(1), is(" WHERE id=?"));
+        assertThat(actual.getConjunctionFragment(tableToken), is(" WHERE id=?"));
+    }
+    
+    @Test
+    public void assertToSQLWithSharedTemplate() {
+        SQLRewriteTemplate template = new SQLRewriteTemplate("SELECT * FROM tbl WHERE id=?", Collections.singletonList(new RouteUnitAwareSQLTokenFixture(14, 16)));
+        assertThat(new RouteSQLBuilder(template, createRouteUnit("tbl_0")).toSQL(), is("SELECT * FROM tbl_0 WHERE id=?"));
+        assertThat(new RouteSQLBuilder(template, createRouteUnit("tbl_1")).toSQL(), is("SELECT * FROM tbl_1 WHERE id=?"));
+    }
+    
+    private RouteUnit createRouteUnit(final String actualTableName) {
+        return new RouteUnit(mock(RouteMapper.class), Collections.singletonList(new RouteMapper("tbl", actualTableName)));
+    }
+}
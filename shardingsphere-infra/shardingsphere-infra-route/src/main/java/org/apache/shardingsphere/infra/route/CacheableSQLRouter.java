@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+/**
+ * Cacheable SQL router.
+ * 
+ * @param <T> type of rule
+ */
+public interface CacheableSQLRouter<T extends ShardingSphereRule> extends SQLRouter<T> {
+    
+    /**
+     * Judge whether route context is cacheable or not.
+     * 
+     * <p>Route context is cacheable only if routing same SQL with same parameters always gets same route context.</p>
+     *
+     * @param logicSQL logic SQL
+     * @param metaData ShardingSphere meta data
+     * @param rule rule
+     * @param props configuration properties
+     * @return route context is cacheable or not
+     */
+    boolean isCacheable(LogicSQL logicSQL, ShardingSphereMetaData metaData, T rule, ConfigurationProperties props);
+}
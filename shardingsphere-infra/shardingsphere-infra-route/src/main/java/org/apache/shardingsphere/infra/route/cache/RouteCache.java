@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Route cache.
+ * 
+ * <p>Route contexts are copied when put into and get from cache, the caller can modify route context freely.</p>
+ */
+public final class RouteCache {
+    
+    @Getter
+    private final long maximumSize;
+    
+    private final Cache<RouteCacheKey, RouteContext> cache;
+    
+    public RouteCache(final ConfigurationProperties props) {
+        maximumSize = props.<Long>getValue(ConfigurationPropertyKey.ROUTE_CACHE_MAXIMUM_SIZE);
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+    
+    /**
+     * Get route context.
+     * 
+     * @param key route cache key
+     * @return route context
+     */
+    public Optional<RouteContext> get(final RouteCacheKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key)).map(this::copy);
+    }
+    
+    /**
+     * Put route context.
+     * 
+     * @param key route cache key
+     * @param routeContext route context
+     */
+    public void put(final RouteCacheKey key, final RouteContext routeContext) {
+        cache.put(key, copy(routeContext));
+    }
+    
+    /**
+     * Invalidate all route contexts.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+    
+    /**
+     * Get statistics of hit, miss and eviction.
+     * 
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    private RouteContext copy(final RouteContext routeContext) {
+        RouteContext result = new RouteContext();
+        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
+            result.getOriginalDataNodes().add(new ArrayList<>(each));
+        }
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            Collection<RouteMapper> tableMappers = each.getTableMappers() instanceof Set ? new LinkedHashSet<>(each.getTableMappers()) : new ArrayList<>(each.getTableMappers());
+            result.getRouteUnits().add(new RouteUnit(each.getDataSourceMapper(), tableMappers));
+        }
+        result.getRouteStageContexts().putAll(routeContext.getRouteStageContexts());
+        result.setFederated(routeContext.isFederated());
+        return result;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.cache;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.CreateTableEvent;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.DropTableEvent;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Route cache manager.
+ * 
+ * <p>Route caches are weakly bound to meta data, a new meta data created by rule or data source changing will use a new route cache.
+ * Route cache of meta data is replaced only when cache options changed.
+ * Route caches are invalidated when schema altered.</p>
+ */
+public final class RouteCacheManager {
+    
+    private static final RouteCacheManager INSTANCE = new RouteCacheManager();
+    
+    private final Map<ShardingSphereMetaData, RouteCache> routeCaches = new MapMaker().weakKeys().makeMap();
+    
+    private RouteCacheManager() {
+        ShardingSphereEventBus.getInstance().register(this);
+    }
+    
+    /**
+     * Get route cache manager instance.
+     * 
+     * @return route cache manager instance
+     */
+    public static RouteCacheManager getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get route cache.
+     * 
+     * @param metaData ShardingSphere meta data
+     * @param props configuration properties
+     * @return route cache
+     */
+    public RouteCache getRouteCache(final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        long maximumSize = props.<Long>getValue(ConfigurationPropertyKey.ROUTE_CACHE_MAXIMUM_SIZE);
+        RouteCache result = routeCaches.get(metaData);
+        if (null != result && result.getMaximumSize() == maximumSize) {
+            return result;
+        }
+        return routeCaches.compute(metaData, (key, value) -> null == value || value.getMaximumSize() != maximumSize ? new RouteCache(props) : value);
+    }
+    
+    /**
+     * Invalidate route caches when table created.
+     * 
+     * @param event create table event
+     */
+    @Subscribe
+    public void renew(final CreateTableEvent event) {
+        routeCaches.values().forEach(RouteCache::invalidateAll);
+    }
+    
+    /**
+     * Invalidate route caches when table dropped.
+     *
+     * @param event drop table event
+     */
+    @Subscribe
+    public void renew(final DropTableEvent event) {
+        routeCaches.values().forEach(RouteCache::invalidateAll);
+    }
+    
+    /**
+     * Invalidate route caches when schema altered.
+     *
+     * @param event schema altered event
+     */
+    @Subscribe
+    public void renew(final SchemaAlteredEvent event) {
+        for (Entry<ShardingSphereMetaData, RouteCache> entry : routeCaches.entrySet()) {
+            if (entry.getKey().getName().equals(event.getSchemaName())) {
+                entry.getValue().invalidateAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.context;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Data node group index, which finds groups of data nodes routed to route unit.
+ * 
+ * <p>
+ * Groups are usually the original data nodes of insert values or parameter groups, and group indexes of each data node are built in one pass,
+ * so groups for all route units can be found without matching every group against every route unit.
+ * Groups without data node belong to all route units.
+ * </p>
+ */
+public final class DataNodeGroupIndex {
+    
+    private final Map<DataNode, BitSet> groupIndexes = new HashMap<>();
+    
+    private final BitSet unroutedGroupIndexes = new BitSet();
+    
+    public DataNodeGroupIndex(final Collection<? extends Collection<DataNode>> dataNodeGroups) {
+        int index = 0;
+        for (Collection<DataNode> each : dataNodeGroups) {
+            if (each.isEmpty()) {
+                unroutedGroupIndexes.set(index);
+            }
+            for (DataNode dataNode : each) {
+                groupIndexes.computeIfAbsent(dataNode, key -> new BitSet()).set(index);
+            }
+            index++;
+        }
+    }
+    
+    /**
+     * Get indexes of groups routed to route unit.
+     * 
+     * @param routeUnit route unit
+     * @return indexes of groups in ascending order
+     */
+    public BitSet getGroupIndexes(final RouteUnit routeUnit) {
+        BitSet result = (BitSet) unroutedGroupIndexes.clone();
+        for (RouteMapper each : routeUnit.getTableMappers()) {
+            BitSet indexes = groupIndexes.get(new DataNode(routeUnit.getDataSourceMapper().getLogicName(), each.getActualName()));
+            if (null != indexes) {
+                result.or(indexes);
+            }
+        }
+        return result;
+    }
+}
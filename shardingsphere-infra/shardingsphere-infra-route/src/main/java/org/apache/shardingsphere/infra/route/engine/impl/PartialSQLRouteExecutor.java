@@ -19,8 +19,14 @@ package org.apache.shardingsphere.infra.route.engine.impl;
 
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.route.CacheableSQLRouter;
 import org.apache.shardingsphere.infra.route.SQLRouter;
+import org.apache.shardingsphere.infra.route.cache.RouteCache;
+import org.apache.shardingsphere.infra.route.cache.RouteCacheKey;
+import org.apache.shardingsphere.infra.route.cache.RouteCacheManager;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
@@ -33,6 +39,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * Partial SQL route executor.
@@ -54,8 +61,36 @@ public final class PartialSQLRouteExecutor implements SQLRouteExecutor {
     }
     
     @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData) {
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.ROUTE_CACHE_ENABLED) || !isCacheable(logicSQL, metaData)) {
+            return doRoute(logicSQL, metaData);
+        }
+        RouteCache routeCache = RouteCacheManager.getInstance().getRouteCache(metaData, props);
+        RouteCacheKey routeCacheKey = new RouteCacheKey(logicSQL.getSql(), logicSQL.getParameters());
+        Optional<RouteContext> cachedRouteContext = routeCache.get(routeCacheKey);
+        if (cachedRouteContext.isPresent()) {
+            return cachedRouteContext.get();
+        }
+        RouteContext result = doRoute(logicSQL, metaData);
+        routeCache.put(routeCacheKey, result);
+        return result;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean isCacheable(final LogicSQL logicSQL, final ShardingSphereMetaData metaData) {
+        if (routers.isEmpty() || HintManager.isInstantiated()) {
+            return false;
+        }
+        for (Entry<ShardingSphereRule, SQLRouter> entry : routers.entrySet()) {
+            if (!(entry.getValue() instanceof CacheableSQLRouter) || !((CacheableSQLRouter) entry.getValue()).isCacheable(logicSQL, metaData, entry.getKey(), props)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private RouteContext doRoute(final LogicSQL logicSQL, final ShardingSphereMetaData metaData) {
         RouteContext result = new RouteContext();
         for (Entry<ShardingSphereRule, SQLRouter> entry : routers.entrySet()) {
             if (result.getRouteUnits().isEmpty()) {
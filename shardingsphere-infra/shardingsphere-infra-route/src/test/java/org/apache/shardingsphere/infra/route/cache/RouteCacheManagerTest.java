@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.cache;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class RouteCacheManagerTest {
+    
+    @Test
+    public void assertGetRouteCacheWithSameCacheOptions() {
+        ShardingSphereMetaData metaData = createMetaData();
+        RouteCache expected = RouteCacheManager.getInstance().getRouteCache(metaData, createProperties(16L));
+        assertThat(RouteCacheManager.getInstance().getRouteCache(metaData, createProperties(16L)), sameInstance(expected));
+    }
+    
+    @Test
+    public void assertGetRouteCacheWithDifferentCacheOptions() {
+        ShardingSphereMetaData metaData = createMetaData();
+        RouteCache routeCache = RouteCacheManager.getInstance().getRouteCache(metaData, createProperties(16L));
+        RouteCache actual = RouteCacheManager.getInstance().getRouteCache(metaData, createProperties(32L));
+        assertThat(actual, not(sameInstance(routeCache)));
+        assertThat(actual.getMaximumSize(), is(32L));
+    }
+    
+    private ShardingSphereMetaData createMetaData() {
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList());
+        return new ShardingSphereMetaData("logic_schema", mock(ShardingSphereResource.class), ruleMetaData, new ShardingSphereSchema());
+    }
+    
+    private ConfigurationProperties createProperties(final long maximumSize) {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.ROUTE_CACHE_MAXIMUM_SIZE.getKey(), String.valueOf(maximumSize));
+        return new ConfigurationProperties(props);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.cache;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RouteCacheTest {
+    
+    @Test
+    public void assertGetWithHit() {
+        RouteCache routeCache = new RouteCache(createProperties(16L));
+        RouteContext routeContext = createRouteContext();
+        routeCache.put(new RouteCacheKey("SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1)), routeContext);
+        Optional<RouteContext> actual = routeCache.get(new RouteCacheKey("SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1)));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), not(sameInstance(routeContext)));
+        assertThat(actual.get().getRouteUnits(), is(routeContext.getRouteUnits()));
+        assertThat(actual.get().getOriginalDataNodes().size(), is(1));
+        assertThat(routeCache.getStats().hitCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetWithDifferentParameters() {
+        RouteCache routeCache = new RouteCache(createProperties(16L));
+        routeCache.put(new RouteCacheKey("SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1)), createRouteContext());
+        assertFalse(routeCache.get(new RouteCacheKey("SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(2))).isPresent());
+        assertThat(routeCache.getStats().missCount(), is(1L));
+    }
+    
+    @Test
+    public void assertKeyNotAffectedByParametersModification() {
+        RouteCache routeCache = new RouteCache(createProperties(16L));
+        List<Object> parameters = new ArrayList<>(Collections.singletonList(1));
+        routeCache.put(new RouteCacheKey("SELECT * FROM t_order WHERE order_id = ?", parameters), createRouteContext());
+        parameters.set(0, 2);
+        assertTrue(routeCache.get(new RouteCacheKey("SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1))).isPresent());
+    }
+    
+    @Test
+    public void assertCachedRouteContextNotAffectedByModification() {
+        RouteCache routeCache = new RouteCache(createProperties(16L));
+        RouteCacheKey key = new RouteCacheKey("SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1));
+        routeCache.put(key, createRouteContext());
+        routeCache.get(key).get().getRouteUnits().clear();
+        assertThat(routeCache.get(key).get().getRouteUnits().size(), is(1));
+    }
+    
+    @Test
+    public void assertEviction() {
+        RouteCache routeCache = new RouteCache(createProperties(1L));
+        routeCache.put(new RouteCacheKey("SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1)), createRouteContext());
+        routeCache.put(new RouteCacheKey("SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(2)), createRouteContext());
+        assertThat(routeCache.getStats().evictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertInvalidateAll() {
+        RouteCache routeCache = new RouteCache(createProperties(16L));
+        RouteCacheKey key = new RouteCacheKey("SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1));
+        routeCache.put(key, createRouteContext());
+        routeCache.invalidateAll();
+        assertFalse(routeCache.get(key).isPresent());
+    }
+    
+    private ConfigurationProperties createProperties(final long maximumSize) {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.ROUTE_CACHE_MAXIMUM_SIZE.getKey(), String.valueOf(maximumSize));
+        return new ConfigurationProperties(props);
+    }
+    
+    private RouteContext createRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0", "t_order_1")));
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_1"))));
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.context;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class DataNodeGroupIndexTest {
+    
+    private final DataNodeGroupIndex dataNodeGroupIndex = new DataNodeGroupIndex(Arrays.asList(
+            Collections.singletonList(new DataNode("ds_0", "tbl_0")),
+            Collections.singletonList(new DataNode("ds_1", "tbl_1")),
+            Collections.emptyList(),
+            Arrays.asList(new DataNode("DS_0", "TBL_1"), new DataNode("ds_1", "tbl_1")),
+            Collections.singletonList(new DataNode("ds_0", "tbl_0"))));
+    
+    @Test
+    public void assertGetGroupIndexesWithSingleTableMapper() {
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_1", "actual_ds_1"), Collections.singletonList(new RouteMapper("tbl", "tbl_1")));
+        assertThat(dataNodeGroupIndex.getGroupIndexes(routeUnit), is(createBitSet(1, 2, 3)));
+    }
+    
+    @Test
+    public void assertGetGroupIndexesWithMultipleTableMappers() {
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_0", "actual_ds_0"), Arrays.asList(new RouteMapper("tbl", "tbl_0"), new RouteMapper("tbl", "tbl_1")));
+        assertThat(dataNodeGroupIndex.getGroupIndexes(routeUnit), is(createBitSet(0, 2, 3, 4)));
+    }
+    
+    @Test
+    public void assertGetGroupIndexesWithoutRoutedGroup() {
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_2", "actual_ds_2"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        assertThat(dataNodeGroupIndex.getGroupIndexes(routeUnit), is(createBitSet(2)));
+    }
+    
+    private BitSet createBitSet(final int... indexes) {
+        BitSet result = new BitSet();
+        for (int each : indexes) {
+            result.set(each);
+        }
+        return result;
+    }
+}
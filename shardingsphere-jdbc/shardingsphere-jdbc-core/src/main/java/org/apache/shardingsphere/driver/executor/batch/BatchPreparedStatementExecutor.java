@@ -18,25 +18,38 @@
 package org.apache.shardingsphere.driver.executor.batch;
 
 import com.google.common.base.Preconditions;
-import lombok.Getter;
+import com.google.common.collect.Lists;
+import org.apache.shardingsphere.driver.jdbc.adapter.WrapperAdapter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -49,22 +62,29 @@ import java.util.stream.Collectors;
  */
 public final class BatchPreparedStatementExecutor {
     
+    private static final Collection<String> MULTIPLE_ROWS_INSERT_DATABASE_TYPES = Arrays.asList("MySQL", "PostgreSQL");
+    
     private final MetaDataContexts metaDataContexts;
     
     private final JDBCExecutor jdbcExecutor;
     
+    private final StatementOption statementOption;
+    
+    private final WrapperAdapter statementAdapter;
+    
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
-    public BatchPreparedStatementExecutor(final MetaDataContexts metaDataContexts, final JDBCExecutor jdbcExecutor) {
+    public BatchPreparedStatementExecutor(final MetaDataContexts metaDataContexts, final JDBCExecutor jdbcExecutor, final StatementOption statementOption, final WrapperAdapter statementAdapter) {
         this.metaDataContexts = metaDataContexts;
         this.jdbcExecutor = jdbcExecutor;
+        this.statementOption = statementOption;
+        this.statementAdapter = statementAdapter;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>());
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
     }
     
     /**
@@ -82,33 +102,27 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
+        for (ExecutionUnit each : executionUnits) {
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(
+                        each.getSqlUnit().getSql(), new ArrayList<>(each.getSqlUnit().getParameters()), each.getSqlUnit().getTableRouteMappers())));
+                batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
+            } else {
+                batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
+            }
+            batchExecutionUnit.mapAddBatchCount(batchCount);
+        }
         batchCount++;
     }
     
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        return executionUnits.stream().map(BatchExecutionUnit::new).collect(Collectors.toList());
-    }
-    
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
-    }
-    
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        batchExecutionUnits.stream().filter(each -> each.equals(batchExecutionUnit)).forEach(each -> reviseBatchExecutionUnit(each, batchExecutionUnit));
-    }
-    
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
-    }
-    
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        newExecutionUnits.forEach(each -> each.mapAddBatchCount(batchCount));
-        batchExecutionUnits.addAll(newExecutionUnits);
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
     }
     
     /**
@@ -120,12 +134,18 @@ public final class BatchPreparedStatementExecutor {
      */
     public int[] executeBatch(final SQLStatementContext sqlStatementContext) throws SQLException {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
-        JDBCExecutorCallback<int[]> callback = new JDBCExecutorCallback<int[]>(
-                metaDataContexts.getDefaultMetaData().getResource().getDatabaseType(), sqlStatementContext.getSqlStatement(), isExceptionThrown) {
+        Map<Statement, List<List<Object>>> parameterSets = getStatementParameterSets();
+        int maxBatchSize = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_BATCH_SIZE_PER_STATEMENT);
+        DatabaseType databaseType = metaDataContexts.getDefaultMetaData().getResource().getDatabaseType();
+        int maxMergedRows = isMultipleRowsInsertSupported(databaseType, sqlStatementContext) ? metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_MERGE_MAX_ROWS) : 0;
+        JDBCExecutorCallback<int[]> callback = new JDBCExecutorCallback<int[]>(databaseType, sqlStatementContext.getSqlStatement(), isExceptionThrown) {
             
             @Override
             protected int[] executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
-                return statement.executeBatch();
+                List<List<Object>> statementParameterSets = parameterSets.getOrDefault(statement, Collections.emptyList());
+                Optional<MultipleRowsInsertSQLBuilder> sqlBuilder = maxMergedRows > 0 ? MultipleRowsInsertSQLBuilder.newInstance(sql) : Optional.empty();
+                return sqlBuilder.isPresent() ? executeMultipleRowsInsert((PreparedStatement) statement, sqlBuilder.get(), statementParameterSets, maxMergedRows)
+                        : executePreparedStatementBatch((PreparedStatement) statement, statementParameterSets, maxBatchSize);
             }
             
             @SuppressWarnings("OptionalContainsCollection")
@@ -143,6 +163,93 @@ public final class BatchPreparedStatementExecutor {
                 ? accumulate(results) : results.get(0);
     }
     
+    private boolean isMultipleRowsInsertSupported(final DatabaseType databaseType, final SQLStatementContext<?> sqlStatementContext) {
+        return MULTIPLE_ROWS_INSERT_DATABASE_TYPES.contains(DatabaseTypeRegistry.getTrunkDatabaseTypeName(databaseType))
+                && sqlStatementContext instanceof InsertStatementContext && 1 == ((InsertStatementContext) sqlStatementContext).getInsertValueContexts().size()
+                && !((InsertStatementContext) sqlStatementContext).getSqlStatement().getInsertSelect().isPresent();
+    }
+    
+    private Map<Statement, List<List<Object>>> getStatementParameterSets() {
+        Map<Statement, List<List<Object>>> result = new HashMap<>();
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit eachUnit : each.getInputs()) {
+                result.put(eachUnit.getStorageResource(), getParameterSets(eachUnit));
+            }
+        }
+        return result;
+    }
+    
+    private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
+        BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        Preconditions.checkState(null != batchExecutionUnit);
+        return batchExecutionUnit.getParameterSets();
+    }
+    
+    private int[] executePreparedStatementBatch(final PreparedStatement preparedStatement, final List<List<Object>> parameterSets, final int maxBatchSize) throws SQLException {
+        if (maxBatchSize <= 0 || parameterSets.size() <= maxBatchSize) {
+            addBatch(preparedStatement, parameterSets);
+            return preparedStatement.executeBatch();
+        }
+        int[] result = new int[parameterSets.size()];
+        int count = 0;
+        for (List<List<Object>> each : Lists.partition(parameterSets, maxBatchSize)) {
+            addBatch(preparedStatement, each);
+            int[] subResult = preparedStatement.executeBatch();
+            System.arraycopy(subResult, 0, result, count, Math.min(subResult.length, result.length - count));
+            count += each.size();
+        }
+        return result;
+    }
+    
+    private void addBatch(final PreparedStatement preparedStatement, final List<List<Object>> parameterSets) throws SQLException {
+        for (List<Object> each : parameterSets) {
+            setParameters(preparedStatement, Collections.singletonList(each));
+            preparedStatement.addBatch();
+        }
+    }
+    
+    private int[] executeMultipleRowsInsert(final PreparedStatement preparedStatement,
+                                            final MultipleRowsInsertSQLBuilder sqlBuilder, final List<List<Object>> parameterSets, final int maxRows) throws SQLException {
+        int[] result = new int[parameterSets.size()];
+        int count = 0;
+        Map<Integer, PreparedStatement> multipleRowsInsertStatements = new HashMap<>(2, 1);
+        try {
+            for (List<List<Object>> each : Lists.partition(parameterSets, maxRows)) {
+                PreparedStatement multipleRowsInsertStatement = multipleRowsInsertStatements.get(each.size());
+                if (null == multipleRowsInsertStatement) {
+                    multipleRowsInsertStatement = prepareMultipleRowsInsertStatement(preparedStatement.getConnection(), sqlBuilder.build(each.size()));
+                    multipleRowsInsertStatements.put(each.size(), multipleRowsInsertStatement);
+                }
+                setParameters(multipleRowsInsertStatement, each);
+                int updateCount = multipleRowsInsertStatement.executeUpdate();
+                Arrays.fill(result, count, count + each.size(), updateCount == each.size() ? 1 : Statement.SUCCESS_NO_INFO);
+                count += each.size();
+            }
+        } finally {
+            for (PreparedStatement each : multipleRowsInsertStatements.values()) {
+                each.close();
+            }
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("MagicConstant")
+    private PreparedStatement prepareMultipleRowsInsertStatement(final Connection connection, final String sql) throws SQLException {
+        PreparedStatement result = statementOption.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(sql, statementOption.getResultSetType(), statementOption.getResultSetConcurrency(), statementOption.getResultSetHoldability());
+        statementAdapter.replayMethodsInvocation(result);
+        return result;
+    }
+    
+    private void setParameters(final PreparedStatement preparedStatement, final List<List<Object>> parameterSets) throws SQLException {
+        int index = 1;
+        for (List<Object> each : parameterSets) {
+            for (Object parameter : each) {
+                preparedStatement.setObject(index++, parameter);
+            }
+        }
+    }
+    
     private boolean isNeedAccumulate(final Collection<ShardingSphereRule> rules, final SQLStatementContext sqlStatementContext) {
         return rules.stream().anyMatch(each -> ((DataNodeContainedRule) each).isNeedAccumulate(sqlStatementContext.getTablesContext().getTableNames()));
     }
@@ -152,13 +259,8 @@ public final class BatchPreparedStatementExecutor {
         int count = 0;
         for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
             for (JDBCExecutionUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = Collections.emptyMap();
-                for (BatchExecutionUnit eachExecutionUnit : batchExecutionUnits) {
-                    if (isSameDataSourceAndSQL(eachExecutionUnit, eachUnit)) {
-                        jdbcAndActualAddBatchCallTimesMap = eachExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
-                    }
-                }
+                BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(eachUnit.getExecutionUnit());
+                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = null == batchExecutionUnit ? Collections.emptyMap() : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
                 for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
                     int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
                     result[entry.getKey()] += value;
@@ -169,11 +271,6 @@ public final class BatchPreparedStatementExecutor {
         return result;
     }
     
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
-    }
-    
     /**
      * Get statements.
      *
@@ -187,27 +284,6 @@ public final class BatchPreparedStatementExecutor {
         return result;
     }
     
-    /**
-     * Get parameter sets.
-     *
-     * @param statement statement
-     * @return parameter sets
-     */
-    public List<List<Object>> getParameterSet(final Statement statement) {
-        return executionGroupContext.getInputGroups().stream().map(each -> findJDBCExecutionUnit(statement, each)).filter(Optional::isPresent).findFirst().map(Optional::get)
-                .map(this::getParameterSets).orElse(Collections.emptyList());
-    }
-    
-    private Optional<JDBCExecutionUnit> findJDBCExecutionUnit(final Statement statement, final ExecutionGroup<JDBCExecutionUnit> executionGroup) {
-        return executionGroup.getInputs().stream().filter(each -> each.getStorageResource().equals(statement)).findFirst();
-    }
-    
-    private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        Optional<BatchExecutionUnit> batchExecutionUnit = batchExecutionUnits.stream().filter(each -> isSameDataSourceAndSQL(each, executionUnit)).findFirst();
-        Preconditions.checkState(batchExecutionUnit.isPresent());
-        return batchExecutionUnit.get().getParameterSets();
-    }
-    
     /**
      * Clear.
      *
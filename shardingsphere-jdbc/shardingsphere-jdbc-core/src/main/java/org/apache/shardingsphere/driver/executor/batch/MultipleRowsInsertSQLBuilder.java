@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Multiple rows insert SQL builder, which repeats values of single row insert SQL.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MultipleRowsInsertSQLBuilder {
+    
+    private static final Pattern VALUES_KEYWORD_PATTERN = Pattern.compile("(?is).*\\bvalues?\\s*$");
+    
+    private final String sqlWithoutValues;
+    
+    private final String values;
+    
+    /**
+     * Create multiple rows insert SQL builder.
+     * 
+     * @param sql single row insert SQL, which should be ended with values
+     * @return multiple rows insert SQL builder, or empty if SQL is not ended with values
+     */
+    public static Optional<MultipleRowsInsertSQLBuilder> newInstance(final String sql) {
+        int valuesStartIndex = -1;
+        int valuesStopIndex = -1;
+        int depth = 0;
+        char quote = 0;
+        int index = 0;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if (0 != quote) {
+                if ('\\' == each) {
+                    index++;
+                } else if (quote == each) {
+                    quote = 0;
+                }
+            } else if ('\'' == each || '"' == each || '`' == each) {
+                quote = each;
+            } else if ('(' == each && 0 == depth++ && valuesStartIndex < 0 && VALUES_KEYWORD_PATTERN.matcher(sql.substring(0, index)).matches()) {
+                valuesStartIndex = index;
+            } else if (')' == each && 0 == --depth && valuesStopIndex < valuesStartIndex) {
+                valuesStopIndex = index;
+            }
+            index++;
+        }
+        if (0 != quote || 0 != depth || valuesStartIndex < 0 || valuesStopIndex != getLastNonWhitespaceIndex(sql)) {
+            return Optional.empty();
+        }
+        return Optional.of(new MultipleRowsInsertSQLBuilder(sql.substring(0, valuesStartIndex), sql.substring(valuesStartIndex, valuesStopIndex + 1)));
+    }
+    
+    private static int getLastNonWhitespaceIndex(final String sql) {
+        int result = sql.length() - 1;
+        while (result >= 0 && Character.isWhitespace(sql.charAt(result))) {
+            result--;
+        }
+        return result;
+    }
+    
+    /**
+     * Build multiple rows insert SQL.
+     * 
+     * @param rowCount count of rows
+     * @return multiple rows insert SQL
+     */
+    public String build(final int rowCount) {
+        StringBuilder result = new StringBuilder(sqlWithoutValues.length() + (values.length() + 2) * rowCount);
+        result.append(sqlWithoutValues).append(values);
+        for (int i = 1; i < rowCount; i++) {
+            result.append(", ").append(values);
+        }
+        return result.toString();
+    }
+}
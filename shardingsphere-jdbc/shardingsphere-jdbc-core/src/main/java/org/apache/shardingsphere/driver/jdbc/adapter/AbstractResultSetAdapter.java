@@ -79,7 +79,13 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
-        forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        try {
+            if (statement instanceof AbstractStatementAdapter) {
+                ((AbstractStatementAdapter) statement).releaseMemoryBudgets();
+            }
+        } finally {
+            forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        }
     }
     
     @Override
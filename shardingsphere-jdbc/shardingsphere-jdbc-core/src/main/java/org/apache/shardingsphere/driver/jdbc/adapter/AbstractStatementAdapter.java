@@ -20,12 +20,16 @@ package org.apache.shardingsphere.driver.jdbc.adapter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.driver.jdbc.unsupported.AbstractUnsupportedOperationStatement;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.QueryMemoryBudget;
 import org.apache.shardingsphere.infra.executor.sql.federate.execute.FederateExecutor;
 
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Adapter for {@code Statement}.
@@ -43,17 +47,27 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     
     private int fetchDirection;
     
+    private int queryTimeoutSeconds;
+    
     private final ForceExecuteTemplate<Statement> forceExecuteTemplate = new ForceExecuteTemplate<>();
     
+    private final ForceExecuteTemplate<QueryMemoryBudget> forceExecuteMemoryBudgetTemplate = new ForceExecuteTemplate<>();
+    
+    private final Collection<QueryMemoryBudget> memoryBudgets = new LinkedList<>();
+    
     @SuppressWarnings("unchecked")
     @Override
     public final void close() throws SQLException {
         closed = true;
         try {
-            forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::close);
-            getFederateExecutor().close();
+            releaseMemoryBudgets();
         } finally {
-            getRoutedStatements().clear();
+            try {
+                forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::close);
+                getFederateExecutor().close();
+            } finally {
+                getRoutedStatements().clear();
+            }
         }
     }
     
@@ -197,10 +211,41 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     @SuppressWarnings("unchecked")
     @Override
     public final void setQueryTimeout(final int seconds) throws SQLException {
+        queryTimeoutSeconds = seconds;
         recordMethodInvocation(targetClass, "setQueryTimeout", new Class[] {int.class}, new Object[] {seconds});
         forceExecuteTemplate.execute((Collection) getRoutedStatements(), statement -> statement.setQueryTimeout(seconds));
     }
     
+    protected final long getQueryTimeoutMillis() {
+        return TimeUnit.SECONDS.toMillis(queryTimeoutSeconds);
+    }
+    
+    protected final QueryMemoryBudget createMemoryBudget(final ConfigurationProperties props) {
+        QueryMemoryBudget result = new QueryMemoryBudget(props);
+        memoryBudgets.add(result);
+        return result;
+    }
+    
+    /**
+     * Release memory budgets of queries executed by statement.
+     * 
+     * <p>
+     * Stream query results of budgets are closed at first, so it should be called before closing result sets and statements.
+     * </p>
+     * 
+     * @throws SQLException SQL exception if any stream query result fails to close
+     */
+    public final void releaseMemoryBudgets() throws SQLException {
+        try {
+            forceExecuteMemoryBudgetTemplate.execute(memoryBudgets, QueryMemoryBudget::closeStreamQueryResults);
+        } finally {
+            for (QueryMemoryBudget each : memoryBudgets) {
+                each.release();
+            }
+            memoryBudgets.clear();
+        }
+    }
+    
     protected abstract boolean isAccumulate();
     
     protected abstract Collection<? extends Statement> getRoutedStatements();
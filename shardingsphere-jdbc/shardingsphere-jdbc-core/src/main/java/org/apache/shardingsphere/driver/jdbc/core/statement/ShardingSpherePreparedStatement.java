@@ -37,6 +37,7 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.DeepPaginationProcessor;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
@@ -155,7 +156,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         statements = new ArrayList<>();
         parameterSets = new ArrayList<>();
         ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(
-                DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType()));
+                DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType()), metaDataContexts.getProps());
         sqlStatement = sqlParserEngine.parse(sql, true);
         parameterMetaData = new ShardingSphereParameterMetaData(sqlStatement);
         statementOption = returnGeneratedKeys ? new StatementOption(true) : new StatementOption(resultSetType, resultSetConcurrency, resultSetHoldability);
@@ -164,7 +165,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         rawExecutor = new RawExecutor(metaDataContexts.getExecutorEngine(), connection.isHoldTransaction(), metaDataContexts.getProps());
         // TODO Consider FederateRawExecutor
         federateExecutor = new FederateJDBCExecutor(DefaultSchema.LOGIC_NAME, metaDataContexts.getOptimizeContextFactory(), metaDataContexts.getProps(), jdbcExecutor);
-        batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(metaDataContexts, jdbcExecutor);
+        batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(metaDataContexts, jdbcExecutor, statementOption, this);
         kernelProcessor = new KernelProcessor();
     }
     
@@ -173,7 +174,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         ResultSet result;
         try {
             clearPrevious();
-            executionContext = createExecutionContext();
+            executionContext = processDeepPagination(createExecutionContext());
             List<QueryResult> queryResults = executeQuery0();
             MergedResult mergedResult = mergeQuery(queryResults);
             result = new ShardingSphereResultSet(getResultSetsForShardingSphereResultSet(), mergedResult, this, executionContext);
@@ -202,7 +203,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext();
         cacheStatements(executionGroupContext.getInputGroups());
         return driverJDBCExecutor.executeQuery(executionGroupContext, executionContext.getLogicSQL(),
-                new PreparedStatementExecuteQueryCallback(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType(), sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown()));
+                new PreparedStatementExecuteQueryCallback(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType(), sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown(),
+                        createMemoryBudget(metaDataContexts.getProps())));
     }
     
     private List<QueryResult> executeFederatedQuery() throws SQLException {
@@ -210,7 +212,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
             return Collections.emptyList();
         }
         PreparedStatementExecuteQueryCallback callback = new PreparedStatementExecuteQueryCallback(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType(), 
-                 sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown());
+                 sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown(), createMemoryBudget(metaDataContexts.getProps()));
         return federateExecutor.executeQuery(executionContext, callback, createDriverExecutionPrepareEngine());
     }
     
@@ -266,7 +268,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     public boolean execute() throws SQLException {
         try {
             clearPrevious();
-            executionContext = createExecutionContext();
+            executionContext = processDeepPagination(createExecutionContext());
             if (metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules().stream().anyMatch(each -> each instanceof RawExecutionRule)) {
                 // TODO process getStatement
                 Collection<ExecuteResult> executeResults = rawExecutor.execute(createRawExecutionGroupContext(), executionContext.getLogicSQL(), new RawSQLExecutorCallback());
@@ -293,7 +295,9 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private ExecutionGroupContext<JDBCExecutionUnit> createExecutionGroupContext() throws SQLException {
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine();
-        return prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        result.setTimeoutMillis(getQueryTimeoutMillis());
+        return result;
     }
     
     private JDBCExecutorCallback<Boolean> createExecuteCallback() {
@@ -363,6 +367,34 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         return result;
     }
     
+    private ExecutionContext processDeepPagination(final ExecutionContext executionContext) throws SQLException {
+        Collection<PreparedStatement> probeStatements = new LinkedList<>();
+        try {
+            return new DeepPaginationProcessor(metaDataContexts.getDefaultMetaData(), metaDataContexts.getProps()).process(
+                    executionContext, probeExecutionContext -> executeDeepPaginationProbe(probeExecutionContext, probeStatements));
+        } finally {
+            for (PreparedStatement each : probeStatements) {
+                each.close();
+            }
+        }
+    }
+    
+    private List<QueryResult> executeDeepPaginationProbe(final ExecutionContext probeExecutionContext, final Collection<PreparedStatement> probeStatements) throws SQLException {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createDriverExecutionPrepareEngine().prepare(
+                probeExecutionContext.getRouteContext(), probeExecutionContext.getExecutionUnits());
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit input : each.getInputs()) {
+                PreparedStatement preparedStatement = (PreparedStatement) input.getStorageResource();
+                probeStatements.add(preparedStatement);
+                replaySetParameter(preparedStatement, input.getExecutionUnit().getSqlUnit().getParameters());
+                replayMethodsInvocation(preparedStatement);
+            }
+        }
+        return driverJDBCExecutor.executeQuery(executionGroupContext, probeExecutionContext.getLogicSQL(),
+                new PreparedStatementExecuteQueryCallback(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType(), sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown(),
+                        createMemoryBudget(metaDataContexts.getProps())));
+    }
+    
     private LogicSQL createLogicSQL() {
         List<Object> parameters = new ArrayList<>(getParameters());
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaDataMap(), parameters, sqlStatement, DefaultSchema.LOGIC_NAME);
@@ -444,18 +476,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
                 JDBCDriverType.PREPARED_STATEMENT, metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY),
                 connection, statementOption, metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules());
         batchPreparedStatementExecutor.init(prepareEngine.prepare(executionContext.getRouteContext(),
-                new ArrayList<>(batchPreparedStatementExecutor.getBatchExecutionUnits()).stream().map(BatchExecutionUnit::getExecutionUnit).collect(Collectors.toList())));
-        setBatchParametersForStatements();
-    }
-    
-    private void setBatchParametersForStatements() throws SQLException {
-        for (Statement each : batchPreparedStatementExecutor.getStatements()) {
-            List<List<Object>> parameterSet = batchPreparedStatementExecutor.getParameterSet(each);
-            for (List<Object> parameters : parameterSet) {
-                replaySetParameter((PreparedStatement) each, parameters);
-                ((PreparedStatement) each).addBatch();
-            }
-        }
+                batchPreparedStatementExecutor.getBatchExecutionUnits().stream().map(BatchExecutionUnit::getExecutionUnit).collect(Collectors.toList())));
     }
     
     @Override
@@ -494,9 +515,13 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private void clearStatements() throws SQLException {
-        for (Statement each : statements) {
-            each.close();
+        try {
+            releaseMemoryBudgets();
+        } finally {
+            for (Statement each : statements) {
+                each.close();
+            }
+            statements.clear();
         }
-        statements.clear();
     }
 }
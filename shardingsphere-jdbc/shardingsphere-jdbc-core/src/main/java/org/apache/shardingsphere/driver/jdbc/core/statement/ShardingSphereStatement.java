@@ -36,6 +36,7 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.DeepPaginationProcessor;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
@@ -143,7 +144,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         }
         ResultSet result;
         try {
-            executionContext = createExecutionContext(sql);
+            executionContext = processDeepPagination(createExecutionContext(sql));
             List<QueryResult> queryResults = executeQuery0();
             MergedResult mergedResult = mergeQuery(queryResults);
             result = new ShardingSphereResultSet(getResultSetsForShardingSphereResultSet(), mergedResult, this, executionContext);
@@ -172,7 +173,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionContext();
         cacheStatements(executionGroupContext.getInputGroups());
         StatementExecuteQueryCallback callback = new StatementExecuteQueryCallback(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType(),
-                executionContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown());
+                executionContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown(), createMemoryBudget(metaDataContexts.getProps()));
         return driverJDBCExecutor.executeQuery(executionGroupContext, executionContext.getLogicSQL(), callback);
     }
     
@@ -181,7 +182,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
             return Collections.emptyList();
         }
         StatementExecuteQueryCallback callback = new StatementExecuteQueryCallback(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType(),
-                executionContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown());
+                executionContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown(), createMemoryBudget(metaDataContexts.getProps()));
         return federateExecutor.executeQuery(executionContext, callback, createDriverExecutionPrepareEngine());
     }
     
@@ -333,7 +334,7 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     private boolean execute0(final String sql, final ExecuteCallback callback) throws SQLException {
         try {
-            executionContext = createExecutionContext(sql);
+            executionContext = processDeepPagination(createExecutionContext(sql));
             if (metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules().stream().anyMatch(each -> each instanceof RawExecutionRule)) {
                 // TODO process getStatement
                 Collection<ExecuteResult> results = rawExecutor.execute(createRawExecutionContext(), executionContext.getLogicSQL(), new RawSQLExecutorCallback());
@@ -352,15 +353,19 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     }
     
     private void clearStatements() throws SQLException {
-        for (Statement each : statements) {
-            each.close();
+        try {
+            releaseMemoryBudgets();
+        } finally {
+            for (Statement each : statements) {
+                each.close();
+            }
+            statements.clear();
         }
-        statements.clear();
     }
     
     private LogicSQL createLogicSQL(final String sql) {
         ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(
-                DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType()));
+                DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType()), metaDataContexts.getProps());
         SQLStatement sqlStatement = sqlParserEngine.parse(sql, false);
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaDataMap(), Collections.emptyList(), sqlStatement, DefaultSchema.LOGIC_NAME);
         return new LogicSQL(sqlStatementContext, sql, Collections.emptyList());
@@ -376,7 +381,35 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     private ExecutionGroupContext<JDBCExecutionUnit> createExecutionContext() throws SQLException {
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine();
-        return prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepareEngine.prepare(executionContext.getRouteContext(), executionContext.getExecutionUnits());
+        result.setTimeoutMillis(getQueryTimeoutMillis());
+        return result;
+    }
+    
+    private ExecutionContext processDeepPagination(final ExecutionContext executionContext) throws SQLException {
+        Collection<Statement> probeStatements = new LinkedList<>();
+        try {
+            return new DeepPaginationProcessor(metaDataContexts.getDefaultMetaData(), metaDataContexts.getProps()).process(
+                    executionContext, probeExecutionContext -> executeDeepPaginationProbe(probeExecutionContext, probeStatements));
+        } finally {
+            for (Statement each : probeStatements) {
+                each.close();
+            }
+        }
+    }
+    
+    private List<QueryResult> executeDeepPaginationProbe(final ExecutionContext probeExecutionContext, final Collection<Statement> probeStatements) throws SQLException {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createDriverExecutionPrepareEngine().prepare(
+                probeExecutionContext.getRouteContext(), probeExecutionContext.getExecutionUnits());
+        for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit input : each.getInputs()) {
+                probeStatements.add(input.getStorageResource());
+                replayMethodsInvocation(input.getStorageResource());
+            }
+        }
+        StatementExecuteQueryCallback callback = new StatementExecuteQueryCallback(metaDataContexts.getDefaultMetaData().getResource().getDatabaseType(),
+                probeExecutionContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown(), createMemoryBudget(metaDataContexts.getProps()));
+        return driverJDBCExecutor.executeQuery(executionGroupContext, probeExecutionContext.getLogicSQL(), callback);
     }
     
     private ExecutionGroupContext<RawSQLExecutionUnit> createRawExecutionContext() throws SQLException {
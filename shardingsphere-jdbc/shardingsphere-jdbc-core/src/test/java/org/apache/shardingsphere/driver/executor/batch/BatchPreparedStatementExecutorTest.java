@@ -18,16 +18,22 @@
 package org.apache.shardingsphere.driver.executor.batch;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.driver.jdbc.adapter.WrapperAdapter;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.driver.executor.AbstractBaseExecutorTest;
 import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.junit.Test;
 import org.mockito.Mock;
 
@@ -35,17 +41,26 @@ import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,18 +68,29 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     
     private static final String SQL = "DELETE FROM table_x WHERE id=?";
     
+    private static final String INSERT_SQL = "INSERT INTO table_x (id) VALUES (?)";
+    
+    private static final String MULTIPLE_ROWS_INSERT_SQL = "INSERT INTO table_x (id) VALUES (?), (?)";
+    
     private BatchPreparedStatementExecutor actual;
     
     @Mock
     private SQLStatementContext<?> sqlStatementContext;
     
+    @Mock
+    private WrapperAdapter statementAdapter;
+    
     @Override
     public void setUp() throws SQLException {
         super.setUp();
-        actual = spy(new BatchPreparedStatementExecutor(getConnection().getMetaDataContexts(), new JDBCExecutor(getExecutorEngine(), false)));
+        actual = createBatchPreparedStatementExecutor(new StatementOption(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT));
         when(sqlStatementContext.getTablesContext()).thenReturn(mock(TablesContext.class));
     }
     
+    private BatchPreparedStatementExecutor createBatchPreparedStatementExecutor(final StatementOption statementOption) {
+        return spy(new BatchPreparedStatementExecutor(getConnection().getMetaDataContexts(), new JDBCExecutor(getExecutorEngine(), false), statementOption, statementAdapter));
+    }
+    
     @Test
     public void assertNoPreparedStatement() throws SQLException {
         PreparedStatement preparedStatement = getPreparedStatement();
@@ -104,6 +130,87 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertExecuteBatchWithSubBatches() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.MAX_BATCH_SIZE_PER_STATEMENT.getKey(), "1");
+        when(getConnection().getMetaDataContexts().getProps()).thenReturn(new ConfigurationProperties(props));
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[] {10}, new int[] {20});
+        setExecutionGroups(Collections.singletonList(preparedStatement));
+        assertThat(actual.executeBatch(sqlStatementContext), is(new int[] {10, 20}));
+        verify(preparedStatement, times(2)).executeBatch();
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setObject(1, 2);
+    }
+    
+    @Test
+    public void assertExecuteBatchWithMultipleRowsInsert() throws SQLException {
+        setBatchInsertMergeMaxRows();
+        PreparedStatement preparedStatement = getPreparedStatement();
+        PreparedStatement multipleRowsInsertStatement = mock(PreparedStatement.class);
+        when(multipleRowsInsertStatement.executeUpdate()).thenReturn(2);
+        when(preparedStatement.getConnection().prepareStatement(MULTIPLE_ROWS_INSERT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT))
+                .thenReturn(multipleRowsInsertStatement);
+        setExecutionGroups(INSERT_SQL, Collections.singletonList(preparedStatement));
+        assertThat(actual.executeBatch(createInsertStatementContext()), is(new int[] {1, 1}));
+        verify(preparedStatement, times(0)).executeBatch();
+        verify(statementAdapter).replayMethodsInvocation(multipleRowsInsertStatement);
+        verify(multipleRowsInsertStatement).setObject(1, 1);
+        verify(multipleRowsInsertStatement).setObject(2, 2);
+        verify(multipleRowsInsertStatement).close();
+    }
+    
+    @Test
+    public void assertExecuteBatchWithMultipleRowsInsertForGeneratedKeys() throws SQLException {
+        actual = createBatchPreparedStatementExecutor(new StatementOption(true));
+        setBatchInsertMergeMaxRows();
+        PreparedStatement preparedStatement = getPreparedStatement();
+        PreparedStatement multipleRowsInsertStatement = mock(PreparedStatement.class);
+        when(multipleRowsInsertStatement.executeUpdate()).thenReturn(2);
+        when(preparedStatement.getConnection().prepareStatement(MULTIPLE_ROWS_INSERT_SQL, Statement.RETURN_GENERATED_KEYS)).thenReturn(multipleRowsInsertStatement);
+        setExecutionGroups(INSERT_SQL, Collections.singletonList(preparedStatement));
+        assertThat(actual.executeBatch(createInsertStatementContext()), is(new int[] {1, 1}));
+        verify(statementAdapter).replayMethodsInvocation(multipleRowsInsertStatement);
+        verify(multipleRowsInsertStatement).executeUpdate();
+    }
+    
+    @Test
+    public void assertExecuteBatchWithoutMultipleRowsInsertForOracle() throws SQLException {
+        setBatchInsertMergeMaxRows();
+        when(getConnection().getMetaDataContexts().getDefaultMetaData().getResource().getDatabaseType()).thenReturn(DatabaseTypeRegistry.getActualDatabaseType("Oracle"));
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(new int[] {1, 1});
+        setExecutionGroups(INSERT_SQL, Collections.singletonList(preparedStatement));
+        assertThat(actual.executeBatch(createInsertStatementContext()), is(new int[] {1, 1}));
+        verify(preparedStatement).executeBatch();
+    }
+    
+    private void setBatchInsertMergeMaxRows() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.BATCH_INSERT_MERGE_MAX_ROWS.getKey(), "2");
+        when(getConnection().getMetaDataContexts().getProps()).thenReturn(new ConfigurationProperties(props));
+    }
+    
+    private InsertStatementContext createInsertStatementContext() {
+        InsertStatementContext result = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getInsertValueContexts().size()).thenReturn(1);
+        when(result.getSqlStatement().getInsertSelect()).thenReturn(Optional.empty());
+        return result;
+    }
+    
+    @Test
+    public void assertAddBatchForExecutionUnits() {
+        actual.addBatchForExecutionUnits(Arrays.asList(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), 
+                new ExecutionUnit("ds_1", new SQLUnit(SQL, Collections.singletonList(2)))));
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_1", new SQLUnit(SQL, Collections.singletonList(3)))));
+        List<BatchExecutionUnit> actualBatchExecutionUnits = new ArrayList<>(actual.getBatchExecutionUnits());
+        assertThat(actualBatchExecutionUnits.size(), is(2));
+        assertThat(actualBatchExecutionUnits.get(0).getParameterSets(), is(Collections.singletonList(Collections.<Object>singletonList(1))));
+        assertThat(actualBatchExecutionUnits.get(1).getParameterSets(), is(Arrays.asList(Collections.<Object>singletonList(2), Collections.<Object>singletonList(3))));
+        assertThat(actualBatchExecutionUnits.get(1).getJdbcAndActualAddBatchCallTimesMap().get(1), is(1));
+    }
+    
     @Test(expected = SQLException.class)
     public void assertExecuteBatchForSinglePreparedStatementFailure() throws SQLException {
         PreparedStatement preparedStatement = getPreparedStatement();
@@ -128,23 +235,29 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     }
     
     private void setExecutionGroups(final List<PreparedStatement> preparedStatements) {
+        setExecutionGroups(SQL, preparedStatements);
+    }
+    
+    private void setExecutionGroups(final String sql, final List<PreparedStatement> preparedStatements) {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
+        int index = 0;
         for (PreparedStatement each : preparedStatements) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
+            String dataSourceName = "ds_" + index++;
+            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(dataSourceName, new SQLUnit(sql, Arrays.asList(1, 2))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
-            executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))),
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
+            executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit(dataSourceName, new SQLUnit(sql, Collections.singletonList(1))),
                     ConnectionMode.MEMORY_STRICTLY, each));
         }
         setFields(executionGroups, batchExecutionUnits);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         Field field = BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext");
         field.setAccessible(true);
         field.set(actual, new ExecutionGroupContext<>(executionGroups));
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MultipleRowsInsertSQLBuilderTest {
+    
+    @Test
+    public void assertBuild() {
+        Optional<MultipleRowsInsertSQLBuilder> actual = MultipleRowsInsertSQLBuilder.newInstance("INSERT INTO t_order (order_id, status) VALUES (?, ?) ");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().build(1), is("INSERT INTO t_order (order_id, status) VALUES (?, ?)"));
+        assertThat(actual.get().build(3), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, ?), (?, ?)"));
+    }
+    
+    @Test
+    public void assertBuildWithParenthesesInLiteral() {
+        Optional<MultipleRowsInsertSQLBuilder> actual = MultipleRowsInsertSQLBuilder.newInstance("INSERT INTO t_order (order_id, status) VALUE (?, 'it''s (init')");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().build(2), is("INSERT INTO t_order (order_id, status) VALUE (?, 'it''s (init'), (?, 'it''s (init')"));
+    }
+    
+    @Test
+    public void assertNewInstanceWithTrailingClause() {
+        assertFalse(MultipleRowsInsertSQLBuilder.newInstance("INSERT INTO t_order (order_id, status) VALUES (?, ?) ON DUPLICATE KEY UPDATE status = VALUES(status)").isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWithoutValues() {
+        assertFalse(MultipleRowsInsertSQLBuilder.newInstance("INSERT INTO t_order SET order_id = ?, status = ?").isPresent());
+        assertFalse(MultipleRowsInsertSQLBuilder.newInstance("INSERT INTO t_order (order_id, status) SELECT order_id, status FROM t_order_bak WHERE order_id IN (?)").isPresent());
+    }
+}
@@ -19,20 +19,35 @@ package org.apache.shardingsphere.driver.jdbc.adapter;
 
 import org.apache.shardingsphere.driver.jdbc.core.resultset.ShardingSphereResultSet;
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSphereStatement;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCPrefetchStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.QueryMemoryBudget;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.junit.Test;
 
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -48,6 +63,62 @@ public final class ResultSetAdapterTest {
         verify(resultSet).close();
     }
     
+    @Test
+    public void assertCloseWithMemoryBudget() throws SQLException {
+        ShardingSphereStatement statement = new ShardingSphereStatement(mock(ShardingSphereConnection.class, RETURNS_DEEP_STUBS));
+        long processHeapBytes = QueryMemoryBudget.getProcessHeapBytes();
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROCESS_MEMORY_HEAP_BUDGET_BYTES.getKey(), "1024");
+        assertTrue(statement.createMemoryBudget(new ConfigurationProperties(props)).reserveHeap(100L));
+        ResultSet actual = new ShardingSphereResultSet(Collections.singletonList(mock(ResultSet.class, RETURNS_DEEP_STUBS)), mock(MergedResult.class), statement, mock(ExecutionContext.class));
+        assertThat(QueryMemoryBudget.getProcessHeapBytes(), is(processHeapBytes + 100L));
+        actual.close();
+        assertThat(QueryMemoryBudget.getProcessHeapBytes(), is(processHeapBytes));
+    }
+    
+    @Test
+    public void assertCloseWithPrefetchStreamQueryResultMidStream() throws SQLException, InterruptedException {
+        ShardingSphereStatement statement = new ShardingSphereStatement(mock(ShardingSphereConnection.class, RETURNS_DEEP_STUBS));
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.STREAM_QUERY_PREFETCH_ROWS.getKey(), "2");
+        QueryMemoryBudget memoryBudget = statement.createMemoryBudget(new ConfigurationProperties(props));
+        CountDownLatch fetchingLatch = new CountDownLatch(1);
+        AtomicBoolean fetching = new AtomicBoolean();
+        AtomicBoolean closedWhileFetching = new AtomicBoolean();
+        ResultSet resultSet = mockPrefetchedResultSet(fetchingLatch, fetching);
+        doAnswer(invocation -> {
+            closedWhileFetching.compareAndSet(false, fetching.get());
+            return null;
+        }).when(resultSet).close();
+        QueryResult queryResult = new JDBCPrefetchStreamQueryResult(resultSet, memoryBudget);
+        assertTrue(queryResult.next());
+        assertTrue(fetchingLatch.await(5L, TimeUnit.SECONDS));
+        new ShardingSphereResultSet(Collections.singletonList(resultSet), mock(MergedResult.class), statement, mock(ExecutionContext.class)).close();
+        verify(resultSet, atLeastOnce()).close();
+        assertFalse(closedWhileFetching.get());
+    }
+    
+    private ResultSet mockPrefetchedResultSet(final CountDownLatch fetchingLatch, final AtomicBoolean fetching) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(metaData.isSigned(1)).thenReturn(true);
+        when(result.getMetaData()).thenReturn(metaData);
+        AtomicInteger rowCount = new AtomicInteger();
+        when(result.next()).thenAnswer(invocation -> {
+            if (1 == rowCount.incrementAndGet()) {
+                return true;
+            }
+            fetching.set(true);
+            fetchingLatch.countDown();
+            Thread.sleep(200L);
+            fetching.set(false);
+            return true;
+        });
+        return result;
+    }
+    
     @Test
     public void assertSetFetchDirection() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
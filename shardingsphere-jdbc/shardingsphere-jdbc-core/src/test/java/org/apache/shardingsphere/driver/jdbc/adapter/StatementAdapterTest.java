@@ -20,7 +20,10 @@ package org.apache.shardingsphere.driver.jdbc.adapter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSphereStatement;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.QueryMemoryBudget;
 import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
 import org.junit.Test;
 
@@ -30,6 +33,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -54,6 +58,18 @@ public final class StatementAdapterTest {
         verify(statement).close();
     }
     
+    @Test
+    public void assertCloseWithMemoryBudget() throws SQLException {
+        ShardingSphereStatement actual = mockShardingSphereStatement();
+        long processHeapBytes = QueryMemoryBudget.getProcessHeapBytes();
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROCESS_MEMORY_HEAP_BUDGET_BYTES.getKey(), "1024");
+        assertTrue(actual.createMemoryBudget(new ConfigurationProperties(props)).reserveHeap(100L));
+        assertThat(QueryMemoryBudget.getProcessHeapBytes(), is(processHeapBytes + 100L));
+        actual.close();
+        assertThat(QueryMemoryBudget.getProcessHeapBytes(), is(processHeapBytes));
+    }
+    
     @Test
     public void assertSetPoolable() throws SQLException {
         Statement statement = mock(Statement.class);
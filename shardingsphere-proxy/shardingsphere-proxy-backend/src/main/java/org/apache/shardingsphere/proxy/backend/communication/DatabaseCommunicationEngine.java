@@ -17,15 +17,18 @@
 
 package org.apache.shardingsphere.proxy.backend.communication;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.context.kernel.DeepPaginationProcessor;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.context.metadata.refresher.MetadataRefreshEngine;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.QueryMemoryBudget;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
@@ -49,6 +52,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -81,6 +85,9 @@ public final class DatabaseCommunicationEngine {
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    @Getter
+    private QueryMemoryBudget memoryBudget;
+    
     public DatabaseCommunicationEngine(final String driverType, final ShardingSphereMetaData metaData, final LogicSQL logicSQL, final BackendConnection backendConnection) {
         this.driverType = driverType;
         this.metaData = metaData;
@@ -117,11 +124,18 @@ public final class DatabaseCommunicationEngine {
      * @throws SQLException SQL exception
      */
     public ResponseHeader execute() throws SQLException {
+        if (null != memoryBudget) {
+            memoryBudget.closeStreamQueryResults();
+        }
+        releaseMemoryBudget();
+        memoryBudget = new QueryMemoryBudget(ProxyContext.getInstance().getMetaDataContexts().getProps());
         ExecutionContext executionContext = kernelProcessor.generateExecutionContext(logicSQL, metaData, ProxyContext.getInstance().getMetaDataContexts().getProps());
         if (executionContext.getExecutionUnits().isEmpty()) {
             return new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement());
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
+        executionContext = new DeepPaginationProcessor(metaData, ProxyContext.getInstance().getMetaDataContexts().getProps()).process(
+                executionContext, probeExecutionContext -> proxyLockEngine.execute(probeExecutionContext).stream().map(each -> (QueryResult) each).collect(Collectors.toList()));
         Collection<ExecuteResult> executeResults = proxyLockEngine.execute(executionContext);
         ExecuteResult executeResultSample = executeResults.iterator().next();
         return executeResultSample instanceof QueryResult
@@ -219,13 +233,26 @@ public final class DatabaseCommunicationEngine {
         return JDBCDriverType.PREPARED_STATEMENT.equals(driverType);
     }
     
+    /**
+     * Cancel statements which may be still executing.
+     */
+    public void cancel() {
+        for (Statement each : cachedStatements) {
+            try {
+                each.cancel();
+            } catch (final SQLException ignore) {
+            }
+        }
+    }
+    
     /**
      * Close database communication engine.
      *
      * @throws SQLException SQL exception
      */
     public void close() throws SQLException {
-        Collection<SQLException> result = new LinkedList<>();
+        Collection<SQLException> result = new LinkedList<>(closeStreamQueryResults());
+        releaseMemoryBudget();
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         if (result.isEmpty()) {
@@ -236,6 +263,25 @@ public final class DatabaseCommunicationEngine {
         throw ex;
     }
     
+    private void releaseMemoryBudget() {
+        if (null != memoryBudget) {
+            memoryBudget.release();
+            memoryBudget = null;
+        }
+    }
+    
+    private Collection<SQLException> closeStreamQueryResults() {
+        if (null == memoryBudget) {
+            return Collections.emptyList();
+        }
+        try {
+            memoryBudget.closeStreamQueryResults();
+        } catch (final SQLException ex) {
+            return Collections.singletonList(ex);
+        }
+        return Collections.emptyList();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
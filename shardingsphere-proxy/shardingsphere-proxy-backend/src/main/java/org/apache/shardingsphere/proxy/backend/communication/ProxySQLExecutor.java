@@ -174,6 +174,7 @@ public final class ProxySQLExecutor {
         }
         executionGroupContext.setSchemaName(backendConnection.getSchemaName());
         executionGroupContext.setGrantee(backendConnection.getGrantee());
+        executionGroupContext.setTimeoutMillis(ProxyContext.getInstance().getMetaDataContexts().getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_QUERY_TIMEOUT_MILLISECONDS));
         return jdbcExecutor.execute(executionContext.getLogicSQL(), executionGroupContext, isReturnGeneratedKeys, isExceptionThrown);
     }
     
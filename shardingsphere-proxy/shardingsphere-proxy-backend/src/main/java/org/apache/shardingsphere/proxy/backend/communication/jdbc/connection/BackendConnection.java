@@ -284,6 +284,15 @@ public final class BackendConnection implements ExecutorJDBCManager {
         return result;
     }
     
+    /**
+     * Cancel statements of database communication engines which may be still executing.
+     */
+    public void cancelDatabaseCommunicationEngines() {
+        for (DatabaseCommunicationEngine each : databaseCommunicationEngines) {
+            each.cancel();
+        }
+    }
+    
     /**
      * Close connections.
      * 
@@ -26,7 +26,9 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.s
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCPrefetchStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.QueryMemoryBudget;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -81,7 +83,12 @@ public abstract class ProxyJDBCExecutorCallback extends JDBCExecutorCallback<Exe
     protected abstract boolean execute(String sql, Statement statement, boolean isReturnGeneratedKeys) throws SQLException;
     
     private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
-        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new JDBCStreamQueryResult(resultSet) : new JDBCMemoryQueryResult(resultSet);
+        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? createStreamQueryResult(resultSet) : new JDBCMemoryQueryResult(resultSet, databaseCommunicationEngine.getMemoryBudget());
+    }
+    
+    private QueryResult createStreamQueryResult(final ResultSet resultSet) throws SQLException {
+        QueryMemoryBudget memoryBudget = databaseCommunicationEngine.getMemoryBudget();
+        return memoryBudget.getStreamPrefetchRows() > 0 ? new JDBCPrefetchStreamQueryResult(resultSet, memoryBudget) : new JDBCStreamQueryResult(resultSet);
     }
     
     private long getGeneratedKey(final Statement statement) throws SQLException {
@@ -24,10 +24,13 @@ import org.apache.shardingsphere.distsql.parser.statement.DistSQLStatement;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.type.TableAvailable;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.parser.fingerprint.MySQLFingerprintNormalizer;
+import org.apache.shardingsphere.infra.parser.fingerprint.SQLFingerprint;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.proxy.backend.communication.SQLStatementSchemaHolder;
@@ -45,13 +48,18 @@ import org.apache.shardingsphere.proxy.backend.text.transaction.TransactionBacke
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateDatabaseStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DropDatabaseStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.EmptyStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.TCLStatement;
 
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -83,12 +91,16 @@ public final class TextProtocolBackendHandlerFactory {
         if (trimSQL.toUpperCase().startsWith(ShardingCTLBackendHandlerFactory.SCTL)) {
             return ShardingCTLBackendHandlerFactory.newInstance(trimSQL, backendConnection);
         }
-        SQLStatement sqlStatement = new ShardingSphereSQLParserEngine(getBackendDatabaseType(databaseType, backendConnection).getName()).parse(sql, false);
+        String backendDatabaseTypeName = getBackendDatabaseType(databaseType, backendConnection).getName();
+        ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(backendDatabaseTypeName, ProxyContext.getInstance().getMetaDataContexts().getProps());
+        Optional<SQLFingerprint> sqlFingerprint = findSQLFingerprint(backendDatabaseTypeName, sql, sqlParserEngine);
+        SQLStatement sqlStatement = sqlFingerprint.isPresent() ? sqlParserEngine.parse(sqlFingerprint.get().getSql(), true) : sqlParserEngine.parse(sql, false);
         if (sqlStatement instanceof DistSQLStatement) {
             return DistSQLBackendHandlerFactory.newInstance(databaseType, (DistSQLStatement) sqlStatement, backendConnection);
         }
+        List<Object> parameters = sqlFingerprint.map(SQLFingerprint::getParameters).orElse(Collections.emptyList());
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(
-                ProxyContext.getInstance().getMetaDataContexts().getMetaDataMap(), Collections.emptyList(), sqlStatement, backendConnection.getDefaultSchemaName());
+                ProxyContext.getInstance().getMetaDataContexts().getMetaDataMap(), parameters, sqlStatement, backendConnection.getDefaultSchemaName());
         // TODO optimize SQLStatementSchemaHolder
         if (sqlStatementContext instanceof TableAvailable) {
             ((TableAvailable) sqlStatementContext).getTablesContext().getSchemaName().ifPresent(SQLStatementSchemaHolder::set);
@@ -98,7 +110,7 @@ public final class TextProtocolBackendHandlerFactory {
             return extraHandler.get();
         }
         String schemaName = backendConnection.getSchemaName();
-        SQLCheckEngine.check(sqlStatement, Collections.emptyList(), 
+        SQLCheckEngine.check(sqlStatement, parameters, 
                 getRules(schemaName), schemaName, ProxyContext.getInstance().getMetaDataContexts().getMetaDataMap(), backendConnection.getGrantee());
         if (sqlStatement instanceof TCLStatement) {
             return TransactionBackendHandlerFactory.newInstance((SQLStatementContext<TCLStatement>) sqlStatementContext, sql, backendConnection);
@@ -107,7 +119,21 @@ public final class TextProtocolBackendHandlerFactory {
             return DatabaseOperateBackendHandlerFactory.newInstance(sqlStatement, backendConnection);
         }
         Optional<TextProtocolBackendHandler> databaseAdminBackendHandler = DatabaseAdminBackendHandlerFactory.newInstance(databaseType, sqlStatement, backendConnection);
-        return databaseAdminBackendHandler.orElseGet(() -> DatabaseBackendHandlerFactory.newInstance(sqlStatementContext, sql, backendConnection));
+        return databaseAdminBackendHandler.orElseGet(() -> DatabaseBackendHandlerFactory.newInstance(
+                sqlStatementContext, sqlFingerprint.map(SQLFingerprint::getSql).orElse(sql), parameters, backendConnection));
+    }
+    
+    private static Optional<SQLFingerprint> findSQLFingerprint(final String backendDatabaseTypeName, final String sql, final ShardingSphereSQLParserEngine sqlParserEngine) {
+        if (!"MySQL".equals(backendDatabaseTypeName) || !ProxyContext.getInstance().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_FINGERPRINT_CACHE_ENABLED)) {
+            return Optional.empty();
+        }
+        return MySQLFingerprintNormalizer.normalize(sql).filter(optional -> isFingerprintAvailable(sqlParserEngine.parse(optional.getSql(), true), optional));
+    }
+    
+    private static boolean isFingerprintAvailable(final SQLStatement sqlStatement, final SQLFingerprint sqlFingerprint) {
+        boolean isDataManipulation = sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getFrom()
+                || sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
+        return isDataManipulation && sqlStatement.getParameterCount() == sqlFingerprint.getParameters().size();
     }
     
     private static DatabaseType getBackendDatabaseType(final DatabaseType defaultDatabaseType, final BackendConnection backendConnection) {
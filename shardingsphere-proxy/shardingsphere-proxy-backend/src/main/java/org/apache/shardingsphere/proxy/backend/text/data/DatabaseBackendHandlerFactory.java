@@ -29,6 +29,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatemen
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.SetStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Database backend handler factory.
  */
@@ -44,6 +47,19 @@ public final class DatabaseBackendHandlerFactory {
      * @return database backend handler
      */
     public static DatabaseBackendHandler newInstance(final SQLStatementContext<?> sqlStatementContext, final String sql, final BackendConnection backendConnection) {
+        return newInstance(sqlStatementContext, sql, Collections.emptyList(), backendConnection);
+    }
+    
+    /**
+     * New instance of database backend handler.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param sql SQL
+     * @param parameters parameters extracted from literals of SQL
+     * @param backendConnection backend connection
+     * @return database backend handler
+     */
+    public static DatabaseBackendHandler newInstance(final SQLStatementContext<?> sqlStatementContext, final String sql, final List<Object> parameters, final BackendConnection backendConnection) {
         SQLStatement sqlStatement = sqlStatementContext.getSqlStatement();
         if (sqlStatement instanceof SetStatement) {
             return new BroadcastDatabaseBackendHandler(sqlStatementContext, sql, backendConnection);
@@ -51,6 +67,6 @@ public final class DatabaseBackendHandlerFactory {
         if (sqlStatement instanceof DALStatement || (sqlStatement instanceof SelectStatement && null == ((SelectStatement) sqlStatement).getFrom())) {
             return new UnicastDatabaseBackendHandler(sqlStatementContext, sql, backendConnection);
         }
-        return new SchemaAssignedDatabaseBackendHandler(sqlStatementContext, sql, backendConnection);
+        return new SchemaAssignedDatabaseBackendHandler(sqlStatementContext, sql, parameters, backendConnection);
     }
 }
@@ -29,6 +29,8 @@ import org.apache.shardingsphere.proxy.backend.text.data.DatabaseBackendHandler;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Database backend handler with assigned schema.
@@ -42,16 +44,23 @@ public final class SchemaAssignedDatabaseBackendHandler implements DatabaseBacke
     
     private final String sql;
     
+    private final List<Object> parameters;
+    
     private final BackendConnection backendConnection;
     
     private DatabaseCommunicationEngine databaseCommunicationEngine;
     
+    public SchemaAssignedDatabaseBackendHandler(final SQLStatementContext<?> sqlStatementContext, final String sql, final BackendConnection backendConnection) {
+        this(sqlStatementContext, sql, Collections.emptyList(), backendConnection);
+    }
+    
     @Override
     public ResponseHeader execute() throws SQLException {
         if (!ProxyContext.getInstance().getMetaData(backendConnection.getSchemaName()).isComplete()) {
             throw new RuleNotExistedException();
         }
-        databaseCommunicationEngine = databaseCommunicationEngineFactory.newTextProtocolInstance(sqlStatementContext, sql, backendConnection);
+        databaseCommunicationEngine = parameters.isEmpty() ? databaseCommunicationEngineFactory.newTextProtocolInstance(sqlStatementContext, sql, backendConnection)
+                : databaseCommunicationEngineFactory.newBinaryProtocolInstance(sqlStatementContext, sql, parameters, backendConnection);
         return databaseCommunicationEngine.execute();
     }
     
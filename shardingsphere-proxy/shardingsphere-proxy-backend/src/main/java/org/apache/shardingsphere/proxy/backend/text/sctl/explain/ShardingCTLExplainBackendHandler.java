@@ -74,7 +74,7 @@ public final class ShardingCTLExplainBackendHandler implements TextProtocolBacke
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getMetaDataContexts();
         String defaultSchemaName = backendConnection.getDefaultSchemaName();
         String databaseType = DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getMetaData(defaultSchemaName).getResource().getDatabaseType());
-        SQLStatement sqlStatement = new ShardingSphereSQLParserEngine(databaseType).parse(explainStatement.get().getSql(), false);
+        SQLStatement sqlStatement = new ShardingSphereSQLParserEngine(databaseType, metaDataContexts.getProps()).parse(explainStatement.get().getSql(), false);
         SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaDataMap(), Collections.emptyList(), sqlStatement, defaultSchemaName);
         // TODO optimize SQLStatementSchemaHolder
         if (sqlStatementContext instanceof TableAvailable) {
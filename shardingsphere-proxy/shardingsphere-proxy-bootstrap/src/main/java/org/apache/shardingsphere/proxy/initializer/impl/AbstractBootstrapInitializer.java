@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.proxy.initializer.impl;
 
+import com.google.common.base.Strings;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerInfo;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLServerInfo;
@@ -24,13 +25,17 @@ import org.apache.shardingsphere.infra.config.datasource.DataSourceParameter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContextsBuilder;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.factory.JDBCRawBackendDataSourceFactory;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.config.ProxyConfiguration;
 import org.apache.shardingsphere.proxy.config.YamlProxyConfiguration;
 import org.apache.shardingsphere.proxy.database.DatabaseServerInfo;
 import org.apache.shardingsphere.proxy.frontend.ShardingSphereProxy;
+import org.apache.shardingsphere.proxy.frontend.protocol.FrontDatabaseProtocolTypeFactory;
 import org.apache.shardingsphere.proxy.initializer.BootstrapInitializer;
 import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
@@ -38,9 +43,16 @@ import org.apache.shardingsphere.transaction.context.TransactionContexts;
 import org.apache.shardingsphere.transaction.context.impl.StandardTransactionContexts;
 
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -61,6 +73,7 @@ public abstract class AbstractBootstrapInitializer implements BootstrapInitializ
         String xaTransactionMangerType = metaDataContexts.getProps().getValue(ConfigurationPropertyKey.XA_TRANSACTION_MANAGER_TYPE);
         TransactionContexts transactionContexts = decorateTransactionContexts(createTransactionContexts(metaDataContexts), xaTransactionMangerType);
         ProxyContext.getInstance().init(metaDataContexts, transactionContexts);
+        warmUpSQLParser(metaDataContexts);
         setDatabaseServerInfo();
         initScalingWorker(yamlConfig);
         shardingSphereProxy.start(port);
@@ -100,6 +113,39 @@ public abstract class AbstractBootstrapInitializer implements BootstrapInitializ
         return new StandardTransactionContexts(transactionManagerEngines);
     }
     
+    private void warmUpSQLParser(final MetaDataContexts metaDataContexts) {
+        String warmUpFile = metaDataContexts.getProps().getValue(ConfigurationPropertyKey.SQL_PARSER_WARM_UP_FILE);
+        if (Strings.isNullOrEmpty(warmUpFile)) {
+            return;
+        }
+        List<String> sqls;
+        try {
+            sqls = Files.readAllLines(Paths.get(warmUpFile), StandardCharsets.UTF_8).stream().map(String::trim).filter(each -> !each.isEmpty()).collect(Collectors.toList());
+        } catch (final IOException ex) {
+            log.warn("Can not read SQL parser warm up file `{}`.", warmUpFile, ex);
+            return;
+        }
+        for (String each : getParserDatabaseTypeNames(metaDataContexts)) {
+            try {
+                int parsedCount = SQLStatementParserEngineFactory.getSQLStatementParserEngine(each, metaDataContexts.getProps()).warmUp(sqls);
+                log.info("SQL parser of {} is warmed up with {} of {} SQL.", each, parsedCount, sqls.size());
+            } catch (final IllegalArgumentException ex) {
+                log.warn("Can not warm up SQL parser of {}: {}", each, ex.getMessage());
+            }
+        }
+    }
+    
+    private Collection<String> getParserDatabaseTypeNames(final MetaDataContexts metaDataContexts) {
+        Collection<String> result = new LinkedHashSet<>();
+        result.add(DatabaseTypeRegistry.getTrunkDatabaseTypeName(FrontDatabaseProtocolTypeFactory.getDatabaseType()));
+        for (String each : metaDataContexts.getAllSchemaNames()) {
+            DatabaseType databaseType = metaDataContexts.getMetaData(each).getResource().getDatabaseType();
+            result.add(databaseType.getName());
+            result.add(DatabaseTypeRegistry.getTrunkDatabaseTypeName(databaseType));
+        }
+        return result;
+    }
+    
     private void setDatabaseServerInfo() {
         findBackendDataSource().ifPresent(dataSourceSample -> {
             DatabaseServerInfo databaseServerInfo = new DatabaseServerInfo(dataSourceSample);
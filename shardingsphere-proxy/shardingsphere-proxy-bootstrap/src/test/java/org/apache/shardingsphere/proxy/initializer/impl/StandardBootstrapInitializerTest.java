@@ -21,7 +21,14 @@ import org.apache.shardingsphere.authority.api.config.AuthorityRuleConfiguration
 import org.apache.shardingsphere.authority.yaml.config.YamlAuthorityRuleConfiguration;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceParameter;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
+import org.apache.shardingsphere.infra.database.type.dialect.MariaDBDatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
 import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUsers;
@@ -29,6 +36,7 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.yaml.config.YamlRuleConfiguration;
 import org.apache.shardingsphere.infra.yaml.config.algorithm.YamlShardingSphereAlgorithmConfiguration;
 import org.apache.shardingsphere.infra.yaml.swapper.YamlRuleConfigurationSwapper;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.config.ProxyConfiguration;
 import org.apache.shardingsphere.proxy.config.YamlProxyConfiguration;
 import org.apache.shardingsphere.proxy.config.yaml.YamlDataSourceParameter;
@@ -36,10 +44,17 @@ import org.apache.shardingsphere.proxy.config.yaml.YamlProxyRuleConfiguration;
 import org.apache.shardingsphere.proxy.config.yaml.YamlProxyServerConfiguration;
 import org.apache.shardingsphere.proxy.fixture.RuleConfigurationFixture;
 import org.apache.shardingsphere.proxy.fixture.YamlRuleConfigurationFixture;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserStatistics;
 import org.apache.shardingsphere.transaction.context.TransactionContexts;
 import org.apache.shardingsphere.transaction.core.XATransactionManagerType;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -54,9 +69,13 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class StandardBootstrapInitializerTest extends AbstractBootstrapInitializerTest {
     
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
     @Test
     public void assertGetProxyConfiguration() {
         YamlProxyConfiguration yamlConfig = makeProxyConfiguration();
@@ -196,6 +215,26 @@ public final class StandardBootstrapInitializerTest extends AbstractBootstrapIni
         assertThat(getInitializer().decorateTransactionContexts(transactionContexts, XATransactionManagerType.ATOMIKOS.getType()), is(transactionContexts));
     }
     
+    @Test
+    public void assertWarmUpSQLParserWithBranchDatabaseType() throws IOException, ReflectiveOperationException {
+        File warmUpFile = temporaryFolder.newFile();
+        Files.write(warmUpFile.toPath(), Collections.singletonList("SELECT 1"));
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SQL_PARSER_WARM_UP_FILE.getKey(), warmUpFile.getPath());
+        MetaDataContexts metaDataContexts = mock(MetaDataContexts.class);
+        when(metaDataContexts.getProps()).thenReturn(new ConfigurationProperties(props));
+        when(metaDataContexts.getAllSchemaNames()).thenReturn(Collections.singletonList("logic-db"));
+        ShardingSphereResource resource = new ShardingSphereResource(Collections.emptyMap(), null, null, new MariaDBDatabaseType());
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList());
+        when(metaDataContexts.getMetaData("logic-db")).thenReturn(new ShardingSphereMetaData("logic-db", resource, ruleMetaData, new ShardingSphereSchema()));
+        ProxyContext.getInstance().init(metaDataContexts, mock(TransactionContexts.class));
+        long parseCount = SQLParserStatistics.getParseCount("MySQL");
+        Method method = AbstractBootstrapInitializer.class.getDeclaredMethod("warmUpSQLParser", MetaDataContexts.class);
+        method.setAccessible(true);
+        method.invoke(getInitializer(), metaDataContexts);
+        assertThat(SQLParserStatistics.getParseCount("MySQL"), is(parseCount + 1L));
+    }
+    
     protected void doEnvironmentPrepare() {
         ShardingSphereServiceLoader.register(YamlRuleConfigurationSwapper.class);
     }
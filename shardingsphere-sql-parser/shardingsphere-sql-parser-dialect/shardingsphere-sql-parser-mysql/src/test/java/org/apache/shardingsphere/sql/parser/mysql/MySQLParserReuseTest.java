@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.mysql.parser.MySQLLexer;
+import org.apache.shardingsphere.sql.parser.mysql.parser.MySQLParser;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLParserReuseTest {
+    
+    @Test
+    public void assertGetThreadLocalInstanceAfterRelease() {
+        SQLParser sqlParser = SQLParserFactory.getThreadLocalInstance("SELECT 1", MySQLLexer.class, MySQLParser.class);
+        SQLParserFactory.release(sqlParser);
+        assertThat(SQLParserFactory.getThreadLocalInstance("SELECT 2", MySQLLexer.class, MySQLParser.class), sameInstance(sqlParser));
+        SQLParserFactory.release(sqlParser);
+    }
+    
+    @Test
+    public void assertGetThreadLocalInstanceWhenInUse() {
+        SQLParser sqlParser = SQLParserFactory.getThreadLocalInstance("SELECT 1", MySQLLexer.class, MySQLParser.class);
+        SQLParser nestedSQLParser = SQLParserFactory.getThreadLocalInstance("SELECT 2", MySQLLexer.class, MySQLParser.class);
+        assertThat(nestedSQLParser, not(sameInstance(sqlParser)));
+        SQLParserFactory.release(nestedSQLParser);
+        SQLParserFactory.release(sqlParser);
+    }
+    
+    @Test
+    public void assertParseTreeNotChangedByLaterParsing() {
+        SQLParserEngine sqlParserEngine = new SQLParserEngine("MySQL");
+        ParseTree actual = sqlParserEngine.parse("SELECT order_id FROM t_order WHERE user_id = 1", false);
+        sqlParserEngine.parse("UPDATE t_order_item SET status = 'done' WHERE item_id = 2", false);
+        assertThat(actual.getText(), is("SELECTorder_idFROMt_orderWHEREuser_id=1"));
+    }
+    
+    @Test
+    public void assertWarmUp() {
+        SQLParserEngine sqlParserEngine = new SQLParserEngine("MySQL");
+        long parseCount = sqlParserEngine.getParseCount();
+        assertThat(sqlParserEngine.warmUp(Arrays.asList("SELECT * FROM t_order WHERE order_id = ?", "INSERT INTO t_order (order_id) VALUES (?)", "SELECT * FROM")), is(2));
+        assertTrue(sqlParserEngine.getParseCount() >= parseCount + 3);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sql.parser.api;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -25,6 +26,7 @@ import lombok.RequiredArgsConstructor;
  */
 @RequiredArgsConstructor
 @Getter
+@EqualsAndHashCode
 public final class CacheOption {
     
     private final int initialCapacity;
@@ -32,4 +34,13 @@ public final class CacheOption {
     private final long maximumSize;
     
     private final int concurrencyLevel;
+    
+    /**
+     * Maximum total length of cached SQL, bound by maximum size instead if not positive.
+     */
+    private final long maximumWeight;
+    
+    public CacheOption(final int initialCapacity, final long maximumSize, final int concurrencyLevel) {
+        this(initialCapacity, maximumSize, concurrencyLevel, 0L);
+    }
 }
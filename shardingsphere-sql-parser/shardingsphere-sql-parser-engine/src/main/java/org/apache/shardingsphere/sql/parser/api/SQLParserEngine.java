@@ -17,16 +17,24 @@
 
 package org.apache.shardingsphere.sql.parser.api;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.sql.parser.core.database.cache.ParseTreeCacheBuilder;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserStatistics;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * SQL parser engine.
  */
 public final class SQLParserEngine {
     
+    private final String databaseType;
+    
     private final SQLParserExecutor sqlParserExecutor;
     
     private final LoadingCache<String, ParseTree> parseTreeCache;
@@ -36,6 +44,7 @@ public final class SQLParserEngine {
     }
     
     public SQLParserEngine(final String databaseType, final CacheOption cacheOption) {
+        this.databaseType = databaseType;
         sqlParserExecutor = new SQLParserExecutor(databaseType);
         parseTreeCache = ParseTreeCacheBuilder.build(cacheOption, databaseType);
     }
@@ -50,4 +59,55 @@ public final class SQLParserEngine {
     public ParseTree parse(final String sql, final boolean useCache) {
         return useCache ? parseTreeCache.getUnchecked(sql) : sqlParserExecutor.parse(sql);
     }
+    
+    /**
+     * Get statistics of parse tree cache.
+     *
+     * @return statistics of parse tree cache
+     */
+    public CacheStats getCacheStats() {
+        return parseTreeCache.stats();
+    }
+    
+    /**
+     * Warm up SQL parser.
+     * 
+     * <p>
+     * DFA of lexer and parser are shared by all parsers of same database type, 
+     * parsing SQL which are representative for application populates them in advance, so that latency of first parsing is reduced.
+     * Parse trees are not cached, SQL which can not be parsed are ignored.
+     * </p>
+     *
+     * @param sqls SQL to be parsed for warming up
+     * @return count of parsed SQL
+     */
+    public int warmUp(final Collection<String> sqls) {
+        int result = 0;
+        for (String each : sqls) {
+            try {
+                sqlParserExecutor.parse(each);
+                result++;
+            } catch (final SQLParsingException ignored) {
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get count of LL prediction mode fallback, which happens when SQL can not be parsed with SLL prediction mode.
+     *
+     * @return fallback counts, key is statement type and value is count
+     */
+    public Map<String, Long> getFallbackCounts() {
+        return SQLParserStatistics.getFallbackCounts(databaseType);
+    }
+    
+    /**
+     * Get count of parsing.
+     *
+     * @return parse count
+     */
+    public long getParseCount() {
+        return SQLParserStatistics.getParseCount(databaseType);
+    }
 }
@@ -32,6 +32,8 @@ import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 
 import java.nio.CharBuffer;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * SQL parser factory.
@@ -39,6 +41,8 @@ import java.nio.CharBuffer;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final ThreadLocal<Map<Class<? extends SQLParser>, SQLParser>> THREAD_LOCAL_PARSERS = ThreadLocal.withInitial(HashMap::new);
+    
     /**
      * New instance of SQL parser.
      * 
@@ -51,6 +55,45 @@ public final class SQLParserFactory {
         return createSQLParser(createTokenStream(sql, lexerClass), parserClass);
     }
     
+    /**
+     * Get SQL parser of current thread.
+     * 
+     * <p>
+     * Lexer, token stream and parser are created once for each thread and parser class, and reset with new SQL for later parsing.
+     * A new SQL parser is created if the one of current thread is still in use, the returned SQL parser should be released by {@link #release(SQLParser)} after parsing.
+     * </p>
+     *
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @param parserClass parser class
+     * @return SQL parser
+     */
+    public static SQLParser getThreadLocalInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
+        Map<Class<? extends SQLParser>, SQLParser> threadLocalParsers = THREAD_LOCAL_PARSERS.get();
+        SQLParser result = threadLocalParsers.remove(parserClass);
+        if (null == result) {
+            return newInstance(sql, lexerClass, parserClass);
+        }
+        CommonTokenStream tokenStream = (CommonTokenStream) ((Parser) result).getTokenStream();
+        ((Lexer) tokenStream.getTokenSource()).setInputStream(getSQLCharStream(sql));
+        tokenStream.setTokenSource(tokenStream.getTokenSource());
+        ((Parser) result).setTokenStream(tokenStream);
+        return result;
+    }
+    
+    /**
+     * Release SQL parser to current thread for reusing.
+     * 
+     * @param sqlParser SQL parser to be released
+     */
+    public static void release(final SQLParser sqlParser) {
+        CommonTokenStream tokenStream = (CommonTokenStream) ((Parser) sqlParser).getTokenStream();
+        ((Lexer) tokenStream.getTokenSource()).setInputStream(getSQLCharStream(""));
+        tokenStream.setTokenSource(tokenStream.getTokenSource());
+        ((Parser) sqlParser).setTokenStream(tokenStream);
+        THREAD_LOCAL_PARSERS.get().put(sqlParser.getClass(), sqlParser);
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
         SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
@@ -38,7 +38,10 @@ public final class ParseTreeCacheBuilder {
      * @return built parse tree cache
      */
     public static LoadingCache<String, ParseTree> build(final CacheOption option, final String databaseType) {
-        return CacheBuilder.newBuilder().softValues()
-                .initialCapacity(option.getInitialCapacity()).maximumSize(option.getMaximumSize()).concurrencyLevel(option.getConcurrencyLevel()).build(new ParseTreeCacheLoader(databaseType));
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().initialCapacity(option.getInitialCapacity()).concurrencyLevel(option.getConcurrencyLevel()).recordStats();
+        ParseTreeCacheLoader cacheLoader = new ParseTreeCacheLoader(databaseType);
+        return option.getMaximumWeight() > 0L
+                ? cacheBuilder.maximumWeight(option.getMaximumWeight()).<String, ParseTree>weigher((sql, parseTree) -> sql.length()).build(cacheLoader)
+                : cacheBuilder.softValues().maximumSize(option.getMaximumSize()).build(cacheLoader);
     }
 }
@@ -35,6 +35,10 @@ import org.apache.shardingsphere.sql.parser.spi.DatabaseTypedSQLParserFacade;
 @RequiredArgsConstructor
 public final class SQLParserExecutor {
     
+    private static final String UNKNOWN_STATEMENT_TYPE = "Unknown";
+    
+    private static final String CONTEXT_SUFFIX = "Context";
+    
     private final String databaseType;
     
     /**
@@ -53,7 +57,8 @@ public final class SQLParserExecutor {
     
     private ParseASTNode twoPhaseParse(final String sql) {
         DatabaseTypedSQLParserFacade sqlParserFacade = DatabaseTypedSQLParserFacadeRegistry.getFacade(databaseType);
-        SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+        SQLParser sqlParser = SQLParserFactory.getThreadLocalInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+        SQLParserStatistics.recordParse(databaseType);
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
@@ -61,10 +66,24 @@ public final class SQLParserExecutor {
             ((Parser) sqlParser).reset();
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
             try {
-                return (ParseASTNode) sqlParser.parse();
+                ParseASTNode result = (ParseASTNode) sqlParser.parse();
+                SQLParserStatistics.recordFallback(databaseType, getStatementType(result));
+                return result;
             } catch (final ParseCancellationException e) {
+                SQLParserStatistics.recordFallback(databaseType, UNKNOWN_STATEMENT_TYPE);
                 throw new SQLParsingException("You have an error in your SQL syntax");
             }
+        } finally {
+            SQLParserFactory.release(sqlParser);
+        }
+    }
+    
+    private String getStatementType(final ParseASTNode parseASTNode) {
+        ParseTree rootNode = parseASTNode.getRootNode();
+        if (null == rootNode || rootNode instanceof ErrorNode) {
+            return UNKNOWN_STATEMENT_TYPE;
         }
+        String result = rootNode.getClass().getSimpleName();
+        return result.endsWith(CONTEXT_SUFFIX) ? result.substring(0, result.length() - CONTEXT_SUFFIX.length()) : result;
     }
 }
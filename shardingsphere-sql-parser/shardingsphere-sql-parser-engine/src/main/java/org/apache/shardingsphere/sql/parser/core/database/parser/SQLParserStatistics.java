@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Statistics of SQL parser, which counts parsing and LL prediction mode fallback after SLL prediction mode failure.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParserStatistics {
+    
+    private static final Map<String, LongAdder> PARSE_COUNTS = new ConcurrentHashMap<>();
+    
+    private static final Map<String, Map<String, LongAdder>> FALLBACK_COUNTS = new ConcurrentHashMap<>();
+    
+    /**
+     * Record parsing.
+     * 
+     * @param databaseType database type
+     */
+    public static void recordParse(final String databaseType) {
+        PARSE_COUNTS.computeIfAbsent(databaseType, key -> new LongAdder()).increment();
+    }
+    
+    /**
+     * Record LL prediction mode fallback.
+     * 
+     * @param databaseType database type
+     * @param statementType statement type
+     */
+    public static void recordFallback(final String databaseType, final String statementType) {
+        FALLBACK_COUNTS.computeIfAbsent(databaseType, key -> new ConcurrentHashMap<>()).computeIfAbsent(statementType, key -> new LongAdder()).increment();
+    }
+    
+    /**
+     * Get parse count.
+     * 
+     * @param databaseType database type
+     * @return parse count
+     */
+    public static long getParseCount(final String databaseType) {
+        LongAdder result = PARSE_COUNTS.get(databaseType);
+        return null == result ? 0L : result.sum();
+    }
+    
+    /**
+     * Get LL prediction mode fallback counts.
+     * 
+     * @param databaseType database type
+     * @return fallback counts, key is statement type and value is count
+     */
+    public static Map<String, Long> getFallbackCounts(final String databaseType) {
+        Map<String, LongAdder> result = FALLBACK_COUNTS.get(databaseType);
+        return null == result ? Collections.emptyMap() : result.entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().sum()));
+    }
+}
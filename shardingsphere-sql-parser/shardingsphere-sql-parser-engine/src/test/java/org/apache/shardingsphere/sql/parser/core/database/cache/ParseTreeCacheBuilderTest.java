@@ -22,8 +22,10 @@ import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
 
 public final class ParseTreeCacheBuilderTest {
     
@@ -32,4 +34,15 @@ public final class ParseTreeCacheBuilderTest {
         LoadingCache<String, ParseTree> cache = ParseTreeCacheBuilder.build(new CacheOption(1, 10, 1), "MySQL");
         assertThat(cache, isA(LoadingCache.class));
     }
+    
+    @Test
+    public void assertParseTreeCacheBuildWithMaximumWeight() {
+        LoadingCache<String, ParseTree> cache = ParseTreeCacheBuilder.build(new CacheOption(1, 10, 1, 20L), "MySQL");
+        cache.put("SELECT * FROM t_order", mock(ParseTree.class));
+        cache.put("SELECT 1", mock(ParseTree.class));
+        cache.getIfPresent("SELECT 1");
+        assertThat(cache.size(), is(1L));
+        assertThat(cache.stats().hitCount(), is(1L));
+        assertThat(cache.stats().evictionCount(), is(1L));
+    }
 }